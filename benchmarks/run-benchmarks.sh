@@ -0,0 +1,14 @@
+#!/bin/sh
+# Builds the library and the benchmarks, runs JMH and writes the results and their scaling table to results/.
+# Extra arguments go to JMH, for example a benchmark regex: ./run-benchmarks.sh CollectionBenchmark -p size=10,1000
+set -e
+
+cd "$(dirname "$0")"
+mkdir -p results
+
+(cd .. && mvn -B -q install -DskipTests)
+mvn -B -q clean package
+
+java -Duser.language=en -Duser.country=US -jar target/benchmarks.jar -rf csv -rff results/results.csv "$@"
+./scaling-table.sh results/results.csv > results/scaling.md
+cat results/scaling.md
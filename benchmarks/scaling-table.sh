@@ -0,0 +1,99 @@
+#!/bin/sh
+# Turns the CSV results of JMH (-rf csv) into one Markdown table per benchmark class: a row per benchmark and
+# non numeric parameters, a column per value of the numeric parameter, and the growth exponent between the smallest
+# and largest values (1.00 linear, 2.00 quadratic), so a change in how an assertion scales shows up at a glance.
+#
+# Usage: ./scaling-table.sh results/results.csv > results/scaling.md
+set -e
+
+if [ $# -ne 1 ] || [ ! -f "$1" ]; then
+    echo "Usage: $0 <jmh-results.csv>" >&2
+    exit 1
+fi
+
+LC_ALL=C awk -F',' '
+function clean(value) {
+    gsub(/"/, "", value)
+    return value
+}
+NR == 1 {
+    for (i = 1; i <= NF; i++) {
+        column = clean($i)
+        if (column == "Benchmark") nameColumn = i
+        else if (column == "Score") scoreColumn = i
+        else if (column == "Unit") unitColumn = i
+        else if (column ~ /^Param: /) { params[i] = substr(column, 8) }
+    }
+    next
+}
+{
+    name = clean($nameColumn)
+    count = split(name, parts, ".")
+    group = parts[count - 1]
+    method = parts[count]
+    x = "-"
+    axis = ""
+    label = ""
+    for (i in params) {
+        value = clean($i)
+        if (value == "") continue
+        if (value ~ /^[0-9]+$/ && axis == "") { x = value; axis = params[i] }
+        else label = label (label == "" ? "" : " ") params[i] "=" value
+    }
+    if (label != "") method = method " (" label ")"
+    printf "%s\t%s\t%s\t%s\t%s\t%s\n", group, axis, method, x, clean($scoreColumn), clean($unitColumn)
+}
+' "$1" | sort -t "$(printf '\t')" -k1,1 -k3,3 -k4,4n | LC_ALL=C awk -F'\t' '
+function flush() {
+    if (row == "") return
+    line = "| " row " |"
+    for (j = 1; j <= xCount; j++) line = line " " (xs[j] in scores ? scores[xs[j]] : "") " |"
+    growth = ""
+    if (firstX > 0 && lastX > firstX && firstScore > 0) {
+        growth = sprintf("%.2f", log(lastScore / firstScore) / log(lastX / firstX))
+    }
+    print line " " unit " | " growth " |"
+    delete scores
+    firstX = 0; lastX = 0; firstScore = 0; lastScore = 0
+    row = ""
+}
+function header() {
+    print ""
+    print "## " group (axis == "" ? "" : " by " axis)
+    print ""
+    line = "| Benchmark |"
+    separator = "|---|"
+    for (j = 1; j <= xCount; j++) { line = line " " (xs[j] == "-" ? "Score" : xs[j]) " |"; separator = separator "---:|" }
+    print line " Unit | Growth |"
+    print separator "---|---:|"
+}
+{
+    lines[NR] = $0
+    if (!(($1, $4) in seen)) {
+        seen[$1, $4] = 1
+        groupXs[$1] = groupXs[$1] (groupXs[$1] == "" ? "" : " ") $4
+    }
+}
+END {
+    for (n = 1; n <= NR; n++) {
+        split(lines[n], f, "\t")
+        if (f[1] != group) {
+            flush()
+            group = f[1]; axis = f[2]
+            xCount = split(groupXs[group], unsorted, " ")
+            # numeric values of the axis in ascending order, the input is sorted by benchmark first
+            for (j = 1; j <= xCount; j++) xs[j] = unsorted[j]
+            for (j = 2; j <= xCount; j++) for (k = j; k > 1 && xs[k - 1] + 0 > xs[k] + 0; k--) { t = xs[k]; xs[k] = xs[k - 1]; xs[k - 1] = t }
+            header()
+        }
+        if (f[3] != row) { flush(); row = f[3] }
+        scores[f[4]] = sprintf("%.3f", f[5])
+        unit = f[6]
+        if (f[4] != "-" && f[4] + 0 > 0) {
+            if (firstX == 0) { firstX = f[4] + 0; firstScore = f[5] + 0 }
+            lastX = f[4] + 0; lastScore = f[5] + 0
+        }
+    }
+    flush()
+}
+'
@@ -0,0 +1,68 @@
+package com.github.spartatech.testutils.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import com.github.spartatech.testutils.logback.UnitTestAsserterLogback;
+
+/**
+ *
+ * Cost of a log event as the number of attached UnitTestAsserterLogback grows.
+ * Every asserter attaches its appender to the root logger, so each event goes through all of them. The asserters spy
+ * other loggers, so the events are filtered out and not kept, measuring the dispatch alone without the list growing.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppenderBenchmark {
+
+    @Param({"0", "1", "4", "16", "64"})
+    private int asserters;
+
+    private org.slf4j.Logger logger;
+    private Integer orderId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // one appender always attached, so 0 asserters measures the cost of logback alone
+        LogbackSupport.resetRoot().addAppender(LogbackSupport.discardingAppender());
+        for (int i = 0; i < asserters; i++) {
+            new UnitTestAsserterLogback("benchmark.other." + i);
+        }
+        logger = LoggerFactory.getLogger("benchmark.appender");
+        orderId = 42;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        LogbackSupport.resetRoot();
+    }
+
+    @Benchmark
+    public void logEvent() {
+        logger.info("Order {} processed", orderId);
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.spartatech.testutils.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.spartatech.testutils.colletion.CollectionAssert;
+
+/**
+ *
+ * Cost of CollectionAssert.assertList and assertListByReflection on equal lists, from 10 to 1 million elements.
+ * Both lists hold equal but distinct instances, so nothing is short-circuited by identity.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class CollectionBenchmark {
+
+    private static final Comparator<Item> COMPARATOR = Comparator.comparingLong(Item::getId)
+            .thenComparing(Item::getName)
+            .thenComparing(Item::getAmount)
+            .thenComparingInt(Item::getQuantity);
+
+    @Param({"10", "1000", "100000", "1000000"})
+    private int size;
+
+    private List<Item> expected;
+    private List<Item> actual;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        expected = items(size);
+        actual = items(size);
+    }
+
+    @Benchmark
+    public void assertList() {
+        CollectionAssert.assertList(expected, actual, COMPARATOR);
+    }
+
+    @Benchmark
+    public void assertListByReflection() {
+        CollectionAssert.assertListByReflection(expected, actual);
+    }
+
+    @Benchmark
+    public void assertListByReflectionExcludingField() {
+        CollectionAssert.assertListByReflection(expected, actual, "quantity");
+    }
+
+    /**
+     * @param size number of items
+     * @return new items, the same for the same size
+     */
+    private static List<Item> items(int size) {
+        final List<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new Item(i, "item-" + i, BigDecimal.valueOf(i * 7L, 2), i % 50));
+        }
+        return items;
+    }
+
+    /**
+     * Element of the compared lists.
+     */
+    public static class Item {
+        private final long id;
+        private final String name;
+        private final BigDecimal amount;
+        private final int quantity;
+
+        public Item(long id, String name, BigDecimal amount, int quantity) {
+            this.id = id;
+            this.name = name;
+            this.amount = amount;
+            this.quantity = quantity;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.spartatech.testutils.benchmark;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.spartatech.testutils.temporal.DateAssertUtils;
+import com.github.spartatech.testutils.temporal.TemporalAssertUtils;
+
+/**
+ *
+ * Cost of a single passing date assertion, for java.util.Date and java.time values.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateBenchmark {
+
+    private Date expectedDate;
+    private Date actualDate;
+    private LocalDateTime expectedDateTime;
+    private LocalDateTime actualDateTime;
+    private Instant expectedInstant;
+    private Instant actualInstant;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        expectedDateTime = LocalDateTime.of(2026, 10, 19, 10, 15, 30, 0);
+        actualDateTime = expectedDateTime.plusNanos(250_000_000);
+        expectedInstant = expectedDateTime.toInstant(ZoneOffset.UTC);
+        actualInstant = actualDateTime.toInstant(ZoneOffset.UTC);
+        expectedDate = Date.from(expectedInstant);
+        actualDate = Date.from(actualInstant);
+    }
+
+    @Benchmark
+    public void assertDateByFields() {
+        DateAssertUtils.assertDate(expectedDate, actualDate, Calendar.YEAR, Calendar.MONTH, Calendar.DAY_OF_MONTH, Calendar.HOUR_OF_DAY);
+    }
+
+    @Benchmark
+    public void assertDateByFormat() {
+        DateAssertUtils.assertDateByFormat(expectedDate, actualDate, "yyyy-MM-dd HH:mm:ss");
+    }
+
+    @Benchmark
+    public void assertTemporalByFields() {
+        TemporalAssertUtils.assertTemporal(expectedDateTime, actualDateTime, ChronoField.YEAR, ChronoField.MONTH_OF_YEAR,
+                ChronoField.DAY_OF_MONTH, ChronoField.HOUR_OF_DAY);
+    }
+
+    @Benchmark
+    public void assertTemporalByFormat() {
+        TemporalAssertUtils.assertTemporalByFormat(expectedDateTime, actualDateTime, "yyyy-MM-dd HH:mm:ss");
+    }
+
+    @Benchmark
+    public void assertTruncated() {
+        TemporalAssertUtils.assertTruncated(expectedInstant, actualInstant, ChronoUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void assertWithin() {
+        TemporalAssertUtils.assertWithin(expectedInstant, actualInstant, Duration.ofSeconds(1));
+    }
+
+    @Benchmark
+    public void assertWithinDates() {
+        TemporalAssertUtils.assertWithin(expectedDate, actualDate, Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.spartatech.testutils.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.spartatech.testutils.logback.UnitTestAsserterLogback;
+
+/**
+ *
+ * Cost of UnitTestAsserterLogback.assertLogExpectations as the number of logged events and expectations grows, in both
+ * modes: in order without extra messages, and allowing extra messages, where each expectation searches the events.
+ * Allowing extra messages keeps the expectations, so one asserter is built per trial and the mode is timed on average.
+ * In order consumes the expectations, and asserting takes only microseconds for the small sizes, where setup before every
+ * invocation would skew the timings. So a batch of asserters is built before each iteration, all fed by the same events,
+ * and timed as single shots of {@value #BATCH} asserts: its scores are per batch, not per assert.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *    Oct 19, 2026 - Sparta Team - In order mode timed in batches, without setup before every invocation
+ *
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class ExpectationBenchmark {
+
+    private static final String LOGGER_NAME = "benchmark.expectations";
+
+    /**
+     * Asserts timed together in the in order mode.
+     */
+    static final int BATCH = 50;
+
+    @Param({"10", "100", "1000", "10000"})
+    private int events;
+
+    /**
+     * Logs the events once, after building the asserters, so each one collects all of them.
+     *
+     * @param asserters asserters to feed, expectations added to each
+     */
+    private void logEvents(UnitTestAsserterLogback... asserters) {
+        final Logger logger = LoggerFactory.getLogger(LOGGER_NAME);
+        for (int i = 0; i < events; i++) {
+            logger.info("Order {} processed in {} ms", i, i % 100);
+            for (UnitTestAsserterLogback asserter : asserters) {
+                asserter.addExpectation(ch.qos.logback.classic.Level.INFO, "Order {} processed in {} ms", i, i % 100);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        LogbackSupport.resetRoot();
+    }
+
+    /**
+     * Asserter allowing extra messages, built once per trial as asserting does not change it.
+     */
+    @State(Scope.Thread)
+    public static class Lenient {
+        private UnitTestAsserterLogback asserter;
+
+        @Setup(Level.Trial)
+        public void setUp(ExpectationBenchmark benchmark) {
+            LogbackSupport.resetRoot();
+            asserter = new UnitTestAsserterLogback(LOGGER_NAME);
+            benchmark.logEvents(asserter);
+        }
+    }
+
+    /**
+     * Asserters checking in order, rebuilt before every iteration as asserting consumes their expectations.
+     */
+    @State(Scope.Thread)
+    public static class InOrder {
+        private final UnitTestAsserterLogback[] asserters = new UnitTestAsserterLogback[BATCH];
+        private int next;
+
+        @Setup(Level.Iteration)
+        public void setUp(ExpectationBenchmark benchmark) {
+            LogbackSupport.resetRoot();
+            for (int i = 0; i < BATCH; i++) {
+                asserters[i] = new UnitTestAsserterLogback(LOGGER_NAME);
+            }
+            benchmark.logEvents(asserters);
+            next = 0;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public void ignoringExtraMessages(Lenient state) {
+        state.asserter.assertLogExpectations(true);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 20, batchSize = BATCH)
+    @Measurement(iterations = 20, batchSize = BATCH)
+    public void inOrder(InOrder state) {
+        state.asserters[state.next++].assertLogExpectations(false);
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.spartatech.testutils.benchmark;
+
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AppenderBase;
+
+/**
+ *
+ * Logback setup shared by the benchmarks: no console output, INFO level, only the appenders of the benchmark attached.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+final class LogbackSupport {
+
+    /**
+     * Resets logback, dropping the default console appender and every asserter attached before.
+     *
+     * @return root logger, at INFO level, without appenders
+     */
+    static Logger resetRoot() {
+        final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        final Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        return root;
+    }
+
+    /**
+     * @return started appender ignoring every event
+     */
+    static Appender<ILoggingEvent> discardingAppender() {
+        final AppenderBase<ILoggingEvent> appender = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                // discarded
+            }
+        };
+        appender.setContext((LoggerContext) LoggerFactory.getILoggerFactory());
+        appender.start();
+        return appender;
+    }
+
+    /**
+     * Not instantiable.
+     */
+    private LogbackSupport() {
+    }
+}
@@ -2,16 +2,25 @@ package com.github.spartatech.testutils.colletion;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-import java.lang.reflect.Field;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
 
-import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
-import org.apache.commons.lang3.builder.ToStringStyle;
+import org.opentest4j.AssertionFailedError;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,6 +35,17 @@ import org.slf4j.LoggerFactory;
  *    Jan 14, 2017 - ddiehl
  *    Apr 06, 2018 - ddiehl - Adjusting problem with asseertListByReflection with null field.
  *    Aug 03, 2020 - ddiehl - Porting to Junit5 Jupiter
+ *    Oct 19, 2026 - Sparta Team - Cached reflective accessors, comparing superclass fields as well
+ *    Oct 19, 2026 - Sparta Team - Structural comparison of field values instead of comparing toString
+ *    Oct 19, 2026 - Sparta Team - Parallel comparison mode
+ *    Oct 19, 2026 - Sparta Team - Streaming asserts over Iterators, Streams and Spliterators
+ *    Oct 19, 2026 - Sparta Team - Bounded failure reports, edit script for ordered asserts
+ *    Oct 19, 2026 - Sparta Team - Primitive array asserts
+ *    Oct 19, 2026 - Sparta Team - Key joined asserts for lists and maps
+ *    Oct 19, 2026 - Sparta Team - Nested excluded field paths
+ *    Oct 19, 2026 - Sparta Team - Fingerprint fast path for equal lists
+ *    Oct 19, 2026 - Sparta Team - Ordered asserts tolerating displacements within a window
+ *    Oct 19, 2026 - Sparta Team - Golden file asserts
  *  
  */
 public abstract class CollectionAssert {
@@ -41,13 +61,563 @@ public abstract class CollectionAssert {
      * @param elementComparator comparator to compare records
      */
     public static <A> void assertList(final Collection<A> listOne, final Collection<A> listTwo, Comparator<A> elementComparator) {
+        assertMatched(matchSequentially(listOne, listTwo, elementComparator));
+    }
+
+    /**
+     * Compares two lists joining their elements by a key, in linear time.
+     * Reports the keys missing from list two, the extra keys in list two and the keys whose elements are not similar.
+     * Keys must be unique within each list.
+     *
+     * @param <A>             Type of list element
+     * @param <K>             Type of key
+     * @param listOne         left side list
+     * @param listTwo         right side list
+     * @param keyExtractor    extracts the key of an element, keys need proper equals and hashCode
+     * @param valueComparator comparator of the elements with the same key
+     */
+    public static <A, K> void assertListByKey(final Collection<A> listOne, final Collection<A> listTwo, Function<? super A, ? extends K> keyExtractor,
+                                              Comparator<A> valueComparator) {
+        KeyJoin.assertJoined("Lists are not similar by key.", KeyJoin.index(listOne, keyExtractor, "list one"),
+                KeyJoin.index(listTwo, keyExtractor, "list two"), valueComparator, null);
+    }
+
+    /**
+     * Compares two lists joining their elements by a key, in linear time, using reflection to compare elements.
+     * For the keys whose elements are not similar, reports which fields differ.
+     *
+     * @param <A>            Type of list element
+     * @param <K>            Type of key
+     * @param listOne        left side list
+     * @param listTwo        right side list
+     * @param keyExtractor   extracts the key of an element, keys need proper equals and hashCode
+     * @param excludedFields fields to exclude from comparison
+     * @see #assertListByKey(Collection, Collection, Function, Comparator)
+     */
+    public static <A, K> void assertListByKey(final Collection<A> listOne, final Collection<A> listTwo, Function<? super A, ? extends K> keyExtractor,
+                                              String...excludedFields) {
+        final ExclusionTrie exclusions = ExclusionTrie.compile(excludedFields);
+        final StructuralComparator fieldDiff = new StructuralComparator(exclusions);
+        KeyJoin.assertJoined("Lists are not similar by key.", KeyJoin.index(listOne, keyExtractor, "list one"),
+                KeyJoin.index(listTwo, keyExtractor, "list two"), reflectionComparator(exclusions), fieldDiff::differingFields);
+    }
+
+    /**
+     * Compares two maps key by key.
+     * Reports the missing keys, the extra keys and the keys whose values are not similar.
+     *
+     * @param <K>             Type of key
+     * @param <V>             Type of value
+     * @param expected        expected map
+     * @param actual          actual map
+     * @param valueComparator comparator of the values with the same key
+     */
+    public static <K, V> void assertMap(final Map<K, V> expected, final Map<K, V> actual, Comparator<V> valueComparator) {
+        KeyJoin.assertJoined("Maps are not similar.", expected, actual, valueComparator, null);
+    }
+
+    /**
+     * Compares two maps key by key, using reflection to compare values.
+     * For the keys whose values are not similar, reports which fields differ.
+     *
+     * @param <K>            Type of key
+     * @param <V>            Type of value
+     * @param expected       expected map
+     * @param actual         actual map
+     * @param excludedFields fields to exclude from comparison
+     * @see #assertMap(Map, Map, Comparator)
+     */
+    public static <K, V> void assertMap(final Map<K, V> expected, final Map<K, V> actual, String...excludedFields) {
+        final ExclusionTrie exclusions = ExclusionTrie.compile(excludedFields);
+        final StructuralComparator fieldDiff = new StructuralComparator(exclusions);
+        KeyJoin.assertJoined("Maps are not similar.", expected, actual, reflectionComparator(exclusions), fieldDiff::differingFields);
+    }
+
+    /**
+     * Asserts two int arrays have the same values in the same order.
+     * Reports the index of the first difference and the elements around it.
+     *
+     * @param arrayOne left side array
+     * @param arrayTwo right side array
+     */
+    public static void assertArray(final int[] arrayOne, final int[] arrayTwo) {
+        PrimitiveArrayAssert.assertNoMismatch(arrayOne, arrayTwo, Arrays.mismatch(arrayOne, arrayTwo));
+    }
+
+    /**
+     * Asserts two long arrays have the same values in the same order.
+     * Reports the index of the first difference and the elements around it.
+     *
+     * @param arrayOne left side array
+     * @param arrayTwo right side array
+     */
+    public static void assertArray(final long[] arrayOne, final long[] arrayTwo) {
+        PrimitiveArrayAssert.assertNoMismatch(arrayOne, arrayTwo, Arrays.mismatch(arrayOne, arrayTwo));
+    }
+
+    /**
+     * Asserts two byte arrays have the same values in the same order.
+     * Reports the index of the first difference and the elements around it.
+     *
+     * @param arrayOne left side array
+     * @param arrayTwo right side array
+     */
+    public static void assertArray(final byte[] arrayOne, final byte[] arrayTwo) {
+        PrimitiveArrayAssert.assertNoMismatch(arrayOne, arrayTwo, Arrays.mismatch(arrayOne, arrayTwo));
+    }
+
+    /**
+     * Asserts two double arrays have the same values in the same order, within a tolerance.
+     * Two values are considered the same when they are within the absolute or the relative tolerance.
+     * Reports the index of the first difference and the elements around it.
+     *
+     * @param arrayOne          left side array
+     * @param arrayTwo          right side array
+     * @param absoluteTolerance maximum absolute difference
+     * @param relativeTolerance maximum difference relative to the largest magnitude of both values, 0.01 meaning 1%
+     */
+    public static void assertArray(final double[] arrayOne, final double[] arrayTwo, double absoluteTolerance, double relativeTolerance) {
+        PrimitiveArrayAssert.assertDoubles(arrayOne, arrayTwo, absoluteTolerance, relativeTolerance);
+    }
+
+    /**
+     * Asserts two buffers have the same remaining bytes, buffer positions are not changed.
+     * Reports the index, relative to the positions, of the first difference and the bytes around it.
+     *
+     * @param bufferOne left side buffer
+     * @param bufferTwo right side buffer
+     */
+    public static void assertBuffer(final ByteBuffer bufferOne, final ByteBuffer bufferTwo) {
+        PrimitiveArrayAssert.assertBuffers(bufferOne, bufferTwo);
+    }
+
+    /**
+     * Asserts two int arrays have the same values in any order, sorting copies of the arrays.
+     *
+     * @param arrayOne left side array
+     * @param arrayTwo right side array
+     */
+    public static void assertArrayUnordered(final int[] arrayOne, final int[] arrayTwo) {
+        PrimitiveArrayAssert.assertUnordered(arrayOne, arrayTwo);
+    }
+
+    /**
+     * Asserts two long arrays have the same values in any order, sorting copies of the arrays.
+     *
+     * @param arrayOne left side array
+     * @param arrayTwo right side array
+     */
+    public static void assertArrayUnordered(final long[] arrayOne, final long[] arrayTwo) {
+        PrimitiveArrayAssert.assertUnordered(arrayOne, arrayTwo);
+    }
+
+    /**
+     * Asserts two byte arrays have the same values in any order, counting each byte value.
+     *
+     * @param arrayOne left side array
+     * @param arrayTwo right side array
+     */
+    public static void assertArrayUnordered(final byte[] arrayOne, final byte[] arrayTwo) {
+        PrimitiveArrayAssert.assertUnordered(arrayOne, arrayTwo);
+    }
+
+    /**
+     * Asserts two double arrays have the same values in any order, within a tolerance, sorting copies of the arrays.
+     *
+     * @param arrayOne          left side array
+     * @param arrayTwo          right side array
+     * @param absoluteTolerance maximum absolute difference
+     * @param relativeTolerance maximum difference relative to the largest magnitude of both values, 0.01 meaning 1%
+     */
+    public static void assertArrayUnordered(final double[] arrayOne, final double[] arrayTwo, double absoluteTolerance, double relativeTolerance) {
+        PrimitiveArrayAssert.assertUnordered(arrayOne, arrayTwo, absoluteTolerance, relativeTolerance);
+    }
+
+    /**
+     * Compares two lists using the comparator, spreading the work over all the cores of the common {@link ForkJoinPool}.
+     * Elements are bucketed by the hash function and only elements in the same bucket are compared,
+     * the outcome, including the failure report, is the same as {@link #assertList(Collection, Collection, Comparator)}.
+     * The comparator is called concurrently, so it has to be thread safe.
+     *
+     * @param <A>               Type of list element
+     * @param listOne           left side list
+     * @param listTwo           right side list
+     * @param elementComparator comparator to compare records
+     * @param hashFunction      hash of an element, elements compared as 0 must have the same hash
+     */
+    public static <A> void assertListParallel(final Collection<A> listOne, final Collection<A> listTwo, Comparator<A> elementComparator,
+                                              ToLongFunction<? super A> hashFunction) {
+        assertMatched(ParallelListMatcher.match(listOne, listTwo, () -> elementComparator, hashFunction));
+    }
+
+    /**
+     * Assert that two lists are same using reflection to compare elements.
+     * All instance fields are compared, including the ones declared in superclasses.
+     * Field values are compared structurally: nested objects, arrays, collections and maps
+     * are walked recursively and BigDecimals are compared by numeric value.
+     * Excluded fields can be nested paths, like audit.updatedAt, using [*] to step into the
+     * elements of arrays, collections and map values, like lines[*].id.
+     * Both lists are first fingerprinted by structural hashes, so equal lists are confirmed in linear time,
+     * only lists that differ are matched element against element to build the report.
+     *
+     * @param <A>            Type of list element
+     * @param listOne        List one to be compared
+     * @param listTwo        list two compared
+     * @param excludedFields fields to exclude from comparison, simple names or nested paths
+     */
+    public static <A> void assertListByReflection(final Collection<A> listOne, final Collection<A> listTwo, String...excludedFields) {
+        final ExclusionTrie exclusions = ExclusionTrie.compile(excludedFields);
+        final Comparator<A> comparator = reflectionComparator(exclusions);
+        if (!MultisetFingerprint.sameElements(listOne, listTwo, comparator, new StructuralComparator(exclusions)::hash)) {
+            assertList(listOne, listTwo, comparator);
+        }
+    }
+
+    /**
+     * Same as {@link #assertListByReflection(Collection, Collection, String...)}, spreading the work over all the cores
+     * of the common {@link ForkJoinPool}. Elements are bucketed by their structural hash and the outcome, including
+     * the failure report, is the same as the sequential assert.
+     *
+     * @param <A>            Type of list element
+     * @param listOne        List one to be compared
+     * @param listTwo        list two compared
+     * @param excludedFields fields to exclude from comparison
+     */
+    public static <A> void assertListByReflectionParallel(final Collection<A> listOne, final Collection<A> listTwo, String...excludedFields) {
+        final ExclusionTrie exclusions = ExclusionTrie.compile(excludedFields);
+        final StructuralComparator hasher = new StructuralComparator(exclusions);
+        assertMatched(ParallelListMatcher.match(listOne, listTwo, () -> reflectionComparator(exclusions), hasher::hash));
+    }
+
+    /**
+     * Compares two sequences element by element, in order, holding only the current pair in memory.
+     * Fails on the first pair that is not similar or when one side has more elements.
+     * The failure report shows the minimal edit script of a bounded window of elements from the first difference on.
+     *
+     * @param <A>               Type of element
+     * @param iteratorOne       left side elements
+     * @param iteratorTwo       right side elements
+     * @param elementComparator comparator to compare records
+     */
+    public static <A> void assertInOrder(final Iterator<A> iteratorOne, final Iterator<A> iteratorTwo, Comparator<A> elementComparator) {
+        assertInOrder(iteratorOne, iteratorTwo, elementComparator, null);
+    }
+
+    /**
+     * Compares two streams element by element, in order, holding only the current pair in memory.
+     *
+     * @param <A>               Type of element
+     * @param streamOne         left side elements
+     * @param streamTwo         right side elements
+     * @param elementComparator comparator to compare records
+     * @see #assertInOrder(Iterator, Iterator, Comparator)
+     */
+    public static <A> void assertInOrder(final Stream<A> streamOne, final Stream<A> streamTwo, Comparator<A> elementComparator) {
+        assertInOrder(streamOne.iterator(), streamTwo.iterator(), elementComparator);
+    }
+
+    /**
+     * Compares two spliterators element by element, in order, holding only the current pair in memory.
+     *
+     * @param <A>               Type of element
+     * @param spliteratorOne    left side elements
+     * @param spliteratorTwo    right side elements
+     * @param elementComparator comparator to compare records
+     * @see #assertInOrder(Iterator, Iterator, Comparator)
+     */
+    public static <A> void assertInOrder(final Spliterator<A> spliteratorOne, final Spliterator<A> spliteratorTwo, Comparator<A> elementComparator) {
+        assertInOrder(Spliterators.iterator(spliteratorOne), Spliterators.iterator(spliteratorTwo), elementComparator);
+    }
+
+    /**
+     * Compares two streams element by element, in order, using reflection to compare elements.
+     *
+     * @param <A>            Type of element
+     * @param streamOne      left side elements
+     * @param streamTwo      right side elements
+     * @param excludedFields fields to exclude from comparison
+     * @see #assertListByReflection(Collection, Collection, String...)
+     */
+    public static <A> void assertInOrderByReflection(final Stream<A> streamOne, final Stream<A> streamTwo, String...excludedFields) {
+        final ExclusionTrie exclusions = ExclusionTrie.compile(excludedFields);
+        final StructuralComparator fieldDiff = new StructuralComparator(exclusions);
+        assertInOrder(streamOne.iterator(), streamTwo.iterator(), reflectionComparator(exclusions), fieldDiff::differingFields);
+    }
+
+    /**
+     * Compares two sequences regardless of the order without materializing them.
+     * Both sides are read alternately and only the elements still without a pair are kept, indexed by hash.
+     * The failure report is the same as {@link #assertList(Collection, Collection, Comparator)}.
+     *
+     * @param <A>               Type of element
+     * @param iteratorOne       left side elements
+     * @param iteratorTwo       right side elements
+     * @param elementComparator comparator to compare records
+     * @param hashFunction      hash of an element, elements compared as 0 must have the same hash
+     * @param maxUnmatched      maximum number of elements without a pair held at the same time, fails when exceeded
+     */
+    public static <A> void assertUnordered(final Iterator<A> iteratorOne, final Iterator<A> iteratorTwo, Comparator<A> elementComparator,
+                                           ToLongFunction<? super A> hashFunction, int maxUnmatched) {
+        assertMatched(StreamingMultisetMatcher.match(iteratorOne, iteratorTwo, elementComparator, hashFunction, maxUnmatched));
+    }
+
+    /**
+     * Compares two streams regardless of the order without materializing them.
+     *
+     * @param <A>               Type of element
+     * @param streamOne         left side elements
+     * @param streamTwo         right side elements
+     * @param elementComparator comparator to compare records
+     * @param hashFunction      hash of an element, elements compared as 0 must have the same hash
+     * @param maxUnmatched      maximum number of elements without a pair held at the same time, fails when exceeded
+     * @see #assertUnordered(Iterator, Iterator, Comparator, ToLongFunction, int)
+     */
+    public static <A> void assertUnordered(final Stream<A> streamOne, final Stream<A> streamTwo, Comparator<A> elementComparator,
+                                           ToLongFunction<? super A> hashFunction, int maxUnmatched) {
+        assertUnordered(streamOne.iterator(), streamTwo.iterator(), elementComparator, hashFunction, maxUnmatched);
+    }
+
+    /**
+     * Compares two spliterators regardless of the order without materializing them.
+     *
+     * @param <A>               Type of element
+     * @param spliteratorOne    left side elements
+     * @param spliteratorTwo    right side elements
+     * @param elementComparator comparator to compare records
+     * @param hashFunction      hash of an element, elements compared as 0 must have the same hash
+     * @param maxUnmatched      maximum number of elements without a pair held at the same time, fails when exceeded
+     * @see #assertUnordered(Iterator, Iterator, Comparator, ToLongFunction, int)
+     */
+    public static <A> void assertUnordered(final Spliterator<A> spliteratorOne, final Spliterator<A> spliteratorTwo, Comparator<A> elementComparator,
+                                           ToLongFunction<? super A> hashFunction, int maxUnmatched) {
+        assertUnordered(Spliterators.iterator(spliteratorOne), Spliterators.iterator(spliteratorTwo), elementComparator, hashFunction, maxUnmatched);
+    }
+
+    /**
+     * Compares two streams regardless of the order without materializing them, using reflection to compare elements.
+     *
+     * @param <A>            Type of element
+     * @param streamOne      left side elements
+     * @param streamTwo      right side elements
+     * @param maxUnmatched   maximum number of elements without a pair held at the same time, fails when exceeded
+     * @param excludedFields fields to exclude from comparison
+     * @see #assertUnordered(Iterator, Iterator, Comparator, ToLongFunction, int)
+     */
+    public static <A> void assertUnorderedByReflection(final Stream<A> streamOne, final Stream<A> streamTwo, int maxUnmatched, String...excludedFields) {
+        final ExclusionTrie exclusions = ExclusionTrie.compile(excludedFields);
+        final StructuralComparator hasher = new StructuralComparator(exclusions);
+        assertUnordered(streamOne.iterator(), streamTwo.iterator(), reflectionComparator(exclusions), hasher::hash, maxUnmatched);
+    }
+
+    /**
+     * Compares two sequences that are in order except for elements displaced by at most a window of positions,
+     * without materializing them. Elements are paired by hash, and only the ones still waiting for a pair are kept,
+     * so the comparison takes linear time and memory proportional to the window.
+     * The report tells which elements were displaced further than the window and which are missing or extra.
+     *
+     * @param <A>               Type of element
+     * @param iteratorOne       left side elements
+     * @param iteratorTwo       right side elements
+     * @param window            maximum displacement allowed, 0 requires the same order
+     * @param elementComparator comparator to compare records
+     * @param hashFunction      hash of an element, elements compared as 0 must have the same hash
+     */
+    public static <A> void assertInOrderWithin(final Iterator<A> iteratorOne, final Iterator<A> iteratorTwo, int window,
+                                               Comparator<A> elementComparator, ToLongFunction<? super A> hashFunction) {
+        WindowedMatcher.assertWithin(iteratorOne, iteratorTwo, elementComparator, hashFunction, window);
+    }
+
+    /**
+     * Compares two streams that are in order except for elements displaced by at most a window of positions.
+     *
+     * @param <A>               Type of element
+     * @param streamOne         left side elements
+     * @param streamTwo         right side elements
+     * @param window            maximum displacement allowed, 0 requires the same order
+     * @param elementComparator comparator to compare records
+     * @param hashFunction      hash of an element, elements compared as 0 must have the same hash
+     * @see #assertInOrderWithin(Iterator, Iterator, int, Comparator, ToLongFunction)
+     */
+    public static <A> void assertInOrderWithin(final Stream<A> streamOne, final Stream<A> streamTwo, int window,
+                                               Comparator<A> elementComparator, ToLongFunction<? super A> hashFunction) {
+        assertInOrderWithin(streamOne.iterator(), streamTwo.iterator(), window, elementComparator, hashFunction);
+    }
+
+    /**
+     * Compares two streams that are in order except for elements displaced by at most a window of positions,
+     * using reflection to compare elements.
+     *
+     * @param <A>            Type of element
+     * @param streamOne      left side elements
+     * @param streamTwo      right side elements
+     * @param window         maximum displacement allowed, 0 requires the same order
+     * @param excludedFields fields to exclude from comparison
+     * @see #assertInOrderWithin(Iterator, Iterator, int, Comparator, ToLongFunction)
+     */
+    public static <A> void assertInOrderWithinByReflection(final Stream<A> streamOne, final Stream<A> streamTwo, int window, String...excludedFields) {
+        final ExclusionTrie exclusions = ExclusionTrie.compile(excludedFields);
+        final StructuralComparator hasher = new StructuralComparator(exclusions);
+        assertInOrderWithin(streamOne.iterator(), streamTwo.iterator(), window, reflectionComparator(exclusions), hasher::hash);
+    }
+
+    /**
+     * Compares a stream in order against the records of a golden file, one record per line.
+     * The golden file is read through memory mapped regions, parsing each line only when it is compared,
+     * so neither side is held in memory. In the failure report the golden file is list one.
+     *
+     * When the system property sparta.testutils.golden.update is true, the golden file is rewritten
+     * with the actual records instead of being compared.
+     *
+     * @param <A>               Type of record
+     * @param goldenFile        file with the expected records
+     * @param actual            actual records
+     * @param mapper            parses and formats the lines of the golden file
+     * @param elementComparator comparator to compare records
+     */
+    public static <A> void assertGoldenFile(final Path goldenFile, final Stream<A> actual, GoldenRecordMapper<A> mapper, Comparator<A> elementComparator) {
+        assertGoldenFile(goldenFile, actual.iterator(), mapper, elementComparator, null);
+    }
+
+    /**
+     * Compares a collection in order against the records of a golden file, one record per line.
+     *
+     * @param <A>               Type of record
+     * @param goldenFile        file with the expected records
+     * @param actual            actual records
+     * @param mapper            parses and formats the lines of the golden file
+     * @param elementComparator comparator to compare records
+     * @see #assertGoldenFile(Path, Stream, GoldenRecordMapper, Comparator)
+     */
+    public static <A> void assertGoldenFile(final Path goldenFile, final Collection<A> actual, GoldenRecordMapper<A> mapper, Comparator<A> elementComparator) {
+        assertGoldenFile(goldenFile, actual.iterator(), mapper, elementComparator, null);
+    }
+
+    /**
+     * Compares a stream in order against the records of a golden file, using reflection to compare records.
+     *
+     * @param <A>            Type of record
+     * @param goldenFile     file with the expected records
+     * @param actual         actual records
+     * @param mapper         parses and formats the lines of the golden file
+     * @param excludedFields fields to exclude from comparison
+     * @see #assertGoldenFile(Path, Stream, GoldenRecordMapper, Comparator)
+     */
+    public static <A> void assertGoldenFileByReflection(final Path goldenFile, final Stream<A> actual, GoldenRecordMapper<A> mapper, String...excludedFields) {
+        final ExclusionTrie exclusions = ExclusionTrie.compile(excludedFields);
+        final StructuralComparator fieldDiff = new StructuralComparator(exclusions);
+        assertGoldenFile(goldenFile, actual.iterator(), mapper, reflectionComparator(exclusions), fieldDiff::differingFields);
+    }
+
+    /**
+     * Compares records against a golden file, or rewrites the golden file when updating.
+     *
+     * @param <A>               Type of record
+     * @param goldenFile        file with the expected records
+     * @param actual            actual records
+     * @param mapper            parses and formats the lines of the golden file
+     * @param elementComparator comparator to compare records
+     * @param fieldDiff         names of the fields that differ between two records, null when not available
+     */
+    private static <A> void assertGoldenFile(final Path goldenFile, final Iterator<A> actual, GoldenRecordMapper<A> mapper,
+                                             Comparator<A> elementComparator, BiFunction<A, A, List<String>> fieldDiff) {
+        try {
+            if (GoldenFile.updating()) {
+                final long count = GoldenFile.write(goldenFile, actual, mapper);
+                LOGGER.info("Golden file {} updated with {} records", goldenFile, count);
+                return;
+            }
+            try (GoldenFile golden = GoldenFile.open(goldenFile)) {
+                assertInOrder(golden.records(mapper::parse), actual, elementComparator, fieldDiff);
+            }
+        } catch (IOException e) {
+            fail("Could not access golden file " + goldenFile + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Compares two sequences in order, reporting the edit script of the window following the first difference.
+     *
+     * @param <A>               Type of element
+     * @param iteratorOne       left side elements
+     * @param iteratorTwo       right side elements
+     * @param elementComparator comparator to compare records
+     * @param fieldDiff         names of the fields that differ between two elements, null when not available
+     */
+    private static <A> void assertInOrder(final Iterator<A> iteratorOne, final Iterator<A> iteratorTwo, Comparator<A> elementComparator,
+                                          BiFunction<A, A, List<String>> fieldDiff) {
+        long position = 0;
+        while (iteratorOne.hasNext() && iteratorTwo.hasNext()) {
+            final A itemListOne = iteratorOne.next();
+            final A itemListTwo = iteratorTwo.next();
+            if (elementComparator.compare(itemListOne, itemListTwo) != 0) {
+                final String message = "Elements at position [" + position + "] are not similar";
+                throw new AssertionFailedError(
+                        orderedReport(message, true, itemListOne, itemListTwo, iteratorOne, iteratorTwo, position, elementComparator, fieldDiff),
+                        FailureReport.describe(itemListOne), FailureReport.describe(itemListTwo));
+            }
+            position++;
+        }
+        if (iteratorOne.hasNext()) {
+            fail(orderedReport("List two is missing items, first missing at position [" + position + "]",
+                    false, null, null, iteratorOne, iteratorTwo, position, elementComparator, fieldDiff));
+        }
+        if (iteratorTwo.hasNext()) {
+            fail(orderedReport("List one is missing items, first missing at position [" + position + "]",
+                    false, null, null, iteratorOne, iteratorTwo, position, elementComparator, fieldDiff));
+        }
+    }
+
+    /**
+     * Reads a bounded window of elements after the first difference and builds the edit script report.
+     *
+     * @param <A>               Type of element
+     * @param header            first line of the report
+     * @param mismatch          whether the difference is a pair of elements not similar, otherwise one side ended
+     * @param itemListOne       differing element of list one, ignored when not a mismatch
+     * @param itemListTwo       differing element of list two, ignored when not a mismatch
+     * @param iteratorOne       left side elements still to be read
+     * @param iteratorTwo       right side elements still to be read
+     * @param position          position of the first difference
+     * @param elementComparator comparator to compare records
+     * @param fieldDiff         names of the fields that differ between two elements, null when not available
+     * @return failure message
+     */
+    private static <A> String orderedReport(String header, boolean mismatch, A itemListOne, A itemListTwo, Iterator<A> iteratorOne, Iterator<A> iteratorTwo,
+                                            long position, Comparator<A> elementComparator, BiFunction<A, A, List<String>> fieldDiff) {
+        final int window = FailureReport.maxElements();
+        final List<A> windowOne = new ArrayList<>(window);
+        final List<A> windowTwo = new ArrayList<>(window);
+        if (mismatch) {
+            windowOne.add(itemListOne);
+            windowTwo.add(itemListTwo);
+        }
+        while (windowOne.size() < window && iteratorOne.hasNext()) {
+            windowOne.add(iteratorOne.next());
+        }
+        while (windowTwo.size() < window && iteratorTwo.hasNext()) {
+            windowTwo.add(iteratorTwo.next());
+        }
+        return FailureReport.editScript(header, windowOne, windowTwo, position,
+                (item1, item2) -> elementComparator.compare(item1, item2) == 0, fieldDiff);
+    }
+
+    /**
+     * Pairs the elements of two lists, removing each element of list one with the first matching one of list two.
+     *
+     * @param <A>               Type of list element
+     * @param listOne           left side list
+     * @param listTwo           right side list
+     * @param elementComparator comparator to compare records
+     * @return the elements left without a pair
+     */
+    private static <A> MatchResult<A> matchSequentially(final Collection<A> listOne, final Collection<A> listTwo, Comparator<A> elementComparator) {
         final List<A> listOneCopy = new ArrayList<>(listOne);
         final List<A> listTwoCopy = new ArrayList<>(listTwo);
         for (Iterator<A> iteratorList1 = listOneCopy.iterator(); iteratorList1.hasNext();) {
             A itemListOne = iteratorList1.next();
             
             if (listTwoCopy.isEmpty()) {
-                fail("List two is missing items");
+                return new MatchResult<>(listOneCopy, listTwoCopy, true);
             }
             
             for (Iterator<A> iteratorList2 = listTwoCopy.iterator(); iteratorList2.hasNext();) {
@@ -59,73 +629,35 @@ public abstract class CollectionAssert {
                 }
             }
         }
-        
-        if (!listTwoCopy.isEmpty() || !listOneCopy.isEmpty()) {
-            final StringBuilder msg =  new StringBuilder("Lists are not similar.").append(System.getProperty("line.separator"));
-            listOneCopy.forEach(item -> msg.append("List one: ").append("Remaining: ").append(ReflectionToStringBuilder.toString(item)).append(System.getProperty("line.separator")));
-            listTwoCopy.forEach(item -> msg.append("List two: ").append("Remaining: ").append(ReflectionToStringBuilder.toString(item)).append(System.getProperty("line.separator")));
-            fail(msg.toString());
+        return new MatchResult<>(listOneCopy, listTwoCopy, false);
+    }
+
+    /**
+     * Fails reporting the remaining elements when the lists were not fully paired.
+     *
+     * @param <A>    Type of list element
+     * @param result outcome of the matching
+     */
+    private static <A> void assertMatched(MatchResult<A> result) {
+        if (result.listTwoExhausted()) {
+            fail("List two is missing items");
+        }
+
+        if (!result.matched()) {
+            fail(FailureReport.unmatched(result));
         }
     }
 
     /**
-     * Assert that two lists are same using reflection to compare elements.
+     * Creates a comparator matching elements that are structurally equal.
      *
      * @param <A>            Type of list element
-     * @param listOne        List one to be compared
-     * @param listTwo        list two compared
-     * @param excludedFields fields to exclude from comparison
+     * @param exclusions     fields to exclude from comparison
+     * @return comparator returning 0 for equal elements, to be used by a single thread
      */
-    public static <A> void assertListByReflection(final Collection<A> listOne, final Collection<A> listTwo, String...excludedFields) {
-        List<String> excludedFieldsList = Arrays.asList(excludedFields);
-        assertList(listOne, listTwo, (item1, item2) -> {
-            Field[] fields = item1.getClass().getDeclaredFields();
-            for (Field field : fields) {
-                if (!excludedFieldsList.contains(field.getName())) {
-                    try {
-                        field.setAccessible(true);
-                        Object val1 = field.get(item1);
-                        Object val2 = field.get(item2);
-                        field.setAccessible(false);
-                        
-                        if (val1 == null && val2 != null) {
-                           LOGGER.debug("For Field {}: val1 was null, but val2 was not null", field.getName());
-                           return 1;
-                        }
-
-                        if (val1 != null && val2 == null) {
-                            LOGGER.debug("For Field {}: val1 was not null, but val2 was null", field.getName());
-                            return 1;
-                         }
-                        
-                        if (val1 == null && val2 == null) {
-                            LOGGER.debug("Both are null considering same");
-                        } else {
-                           String val1Str;
-                            try {
-                                val1Str = ReflectionToStringBuilder.toString(val1, ToStringStyle.SHORT_PREFIX_STYLE);
-                            } catch (Exception e) {
-                                val1Str = val1.toString();
-                            }
-                            String val2Str;
-                            try {
-                                val2Str = ReflectionToStringBuilder.toString(val2, ToStringStyle.SHORT_PREFIX_STYLE);
-                            } catch (Exception e) {
-                                val2Str = val2.toString();
-                            }
-                            if (!val1Str.equals(val2Str)) {
-                                LOGGER.debug("Field=[{}]. val1={}, val2={}", field.getName(), val1, val2);
-                                return 1;
-                            }
-                        }
-                    } catch (Exception e) {
-                        LOGGER.error("Failure", e);
-                        fail("Exception not expected comparing field "+ field.getName() + ": " + e.getMessage());
-                    }
-                }
-            }
-            return 0;
-        });
+    private static <A> Comparator<A> reflectionComparator(ExclusionTrie exclusions) {
+        final StructuralComparator comparator = new StructuralComparator(exclusions);
+        return (item1, item2) -> comparator.areEqual(item1, item2) ? 0 : 1;
     }
     
 }
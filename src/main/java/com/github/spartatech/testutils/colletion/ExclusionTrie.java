@@ -0,0 +1,159 @@
+package com.github.spartatech.testutils.colletion;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ *
+ * Excluded fields of the reflection based asserts, compiled into a trie of field paths.
+ *
+ * Paths are field names separated by dots, like audit.updatedAt. A [*] suffix steps into the elements
+ * of an array, collection or map values, like lines[*].id. A plain name, like field1, excludes the field of the
+ * compared elements only, not of the objects nested in them.
+ * Each node knows which of its fields are excluded, so the comparison looks up one node per level it descends.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+final class ExclusionTrie {
+
+    /** Trie excluding nothing, also used below the paths that were not excluded */
+    static final ExclusionTrie NONE = new ExclusionTrie(Map.of(), null, Set.of());
+
+    private static final String ELEMENTS = "[*]";
+
+    private final Map<String, ExclusionTrie> fields;
+    private final ExclusionTrie elements;
+
+    /**
+     * Names of the fields excluded at this level.
+     */
+    private final Set<String> excludedFields;
+
+    /**
+     * Constructor receiving the compiled children.
+     *
+     * @param fields         nodes of the fields that have exclusions below them
+     * @param elements       node of the container elements, null when none
+     * @param excludedFields fields excluded at this level
+     */
+    private ExclusionTrie(Map<String, ExclusionTrie> fields, ExclusionTrie elements, Set<String> excludedFields) {
+        this.fields = fields;
+        this.elements = elements;
+        this.excludedFields = excludedFields;
+    }
+
+    /**
+     * Compiles the excluded field paths.
+     *
+     * @param paths field paths, like field1, audit.updatedAt or lines[*].id
+     * @return root of the trie
+     * @throws IllegalArgumentException when a path is empty or has an empty field name
+     */
+    static ExclusionTrie compile(String... paths) throws IllegalArgumentException {
+        if (paths.length == 0) {
+            return NONE;
+        }
+        final Builder root = new Builder();
+        for (String path : paths) {
+            Builder node = root;
+            final String[] names = path.split("\\.", -1);
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i];
+                int containers = 0;
+                while (name.endsWith(ELEMENTS)) {
+                    name = name.substring(0, name.length() - ELEMENTS.length());
+                    containers++;
+                }
+                if (name.isEmpty()) {
+                    throw new IllegalArgumentException("Invalid excluded field path: [" + path + "]");
+                }
+                if (i == names.length - 1 && containers == 0) {
+                    node.excluded.add(name);
+                } else {
+                    node = node.fields.computeIfAbsent(name, key -> new Builder());
+                    for (int c = 0; c < containers; c++) {
+                        node = node.elements();
+                    }
+                }
+            }
+            if (path.endsWith(ELEMENTS)) {
+                throw new IllegalArgumentException("Invalid excluded field path, it must end with a field name: [" + path + "]");
+            }
+        }
+        return root.build();
+    }
+
+    /**
+     * Names of the fields excluded at this level, suitable as cache key.
+     *
+     * @return excluded field names
+     */
+    Set<String> excludedFields() {
+        return excludedFields;
+    }
+
+    /**
+     * Node used to compare the value of a field.
+     *
+     * @param name field name
+     * @return exclusions of the field value
+     */
+    ExclusionTrie field(String name) {
+        return fields.isEmpty() ? NONE : fields.getOrDefault(name, NONE);
+    }
+
+    /**
+     * Node used to compare the elements of a container.
+     *
+     * @return exclusions of the elements
+     */
+    ExclusionTrie elements() {
+        return elements == null ? NONE : elements;
+    }
+
+    /**
+     * Checks whether nothing is excluded from this level down.
+     *
+     * @return true when nothing is excluded
+     */
+    boolean isEmpty() {
+        return this == NONE;
+    }
+
+    /**
+     * Mutable node used while compiling.
+     */
+    private static final class Builder {
+        private final Map<String, Builder> fields = new HashMap<>();
+        private final Set<String> excluded = new HashSet<>();
+        private Builder elements;
+
+        Builder elements() {
+            if (elements == null) {
+                elements = new Builder();
+            }
+            return elements;
+        }
+
+        ExclusionTrie build() {
+            final Map<String, ExclusionTrie> builtFields = new HashMap<>();
+            fields.forEach((name, child) -> {
+                final ExclusionTrie built = child.build();
+                if (!built.isEmpty()) {
+                    builtFields.put(name, built);
+                }
+            });
+            final ExclusionTrie builtElements = elements == null ? null : elements.build();
+            if (builtFields.isEmpty() && excluded.isEmpty() && (builtElements == null || builtElements.isEmpty())) {
+                return NONE;
+            }
+            return new ExclusionTrie(Map.copyOf(builtFields), builtElements, Set.copyOf(excluded));
+        }
+    }
+}
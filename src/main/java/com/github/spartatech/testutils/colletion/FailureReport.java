@@ -0,0 +1,182 @@
+package com.github.spartatech.testutils.colletion;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+
+import com.github.spartatech.testutils.colletion.MyersDiff.Edit;
+
+/**
+ *
+ * Builds the failure messages of the collection asserts, bounded in size.
+ * Only the elements that are shown are described, the others are just counted.
+ *
+ * The limits can be changed through system properties:
+ * - sparta.testutils.collection.report.maxElements: maximum elements shown per side (default 20);
+ * - sparta.testutils.collection.report.maxChars: maximum size of the message (default 20000).
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+final class FailureReport {
+
+    /** System property with the maximum elements shown per side */
+    static final String MAX_ELEMENTS_PROPERTY = "sparta.testutils.collection.report.maxElements";
+
+    /** System property with the maximum size of the message */
+    static final String MAX_CHARS_PROPERTY = "sparta.testutils.collection.report.maxChars";
+
+    private static final int DEFAULT_MAX_ELEMENTS = 20;
+    private static final int DEFAULT_MAX_CHARS = 20_000;
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+
+    private final StringBuilder msg;
+    private final int maxChars;
+    private boolean truncated;
+
+    /**
+     * Constructor receiving the header of the message.
+     *
+     * @param header first line of the message
+     */
+    FailureReport(String header) {
+        this.maxChars = maxChars();
+        this.msg = new StringBuilder(header).append(LINE_SEPARATOR);
+    }
+
+    /**
+     * Maximum number of elements shown per side.
+     *
+     * @return configured limit
+     */
+    static int maxElements() {
+        return Math.max(1, Integer.getInteger(MAX_ELEMENTS_PROPERTY, DEFAULT_MAX_ELEMENTS));
+    }
+
+    /**
+     * Maximum size of a failure message.
+     *
+     * @return configured limit
+     */
+    static int maxChars() {
+        return Math.max(1, Integer.getInteger(MAX_CHARS_PROPERTY, DEFAULT_MAX_CHARS));
+    }
+
+    /**
+     * Describes the elements left without a pair.
+     *
+     * @param <A>    Type of element
+     * @param result outcome of the matching
+     * @return failure message
+     */
+    static <A> String unmatched(MatchResult<A> result) {
+        final FailureReport report = new FailureReport("Lists are not similar.");
+        report.remaining("List one: ", result.remainingOne());
+        report.remaining("List two: ", result.remainingTwo());
+        return report.toString();
+    }
+
+    /**
+     * Describes the minimal edit script between two windows of ordered elements.
+     *
+     * @param <A>       Type of element
+     * @param header    first line of the message
+     * @param windowOne elements of list one from the first difference on
+     * @param windowTwo elements of list two from the first difference on
+     * @param position  position of the first element of both windows
+     * @param equal     whether two elements are the same
+     * @param fieldDiff names of the fields that differ between two elements, null when not available
+     * @return failure message
+     */
+    static <A> String editScript(String header, List<A> windowOne, List<A> windowTwo, long position,
+                                 BiPredicate<A, A> equal, BiFunction<A, A, List<String>> fieldDiff) {
+        final FailureReport report = new FailureReport(header);
+        report.line("Edit script from position [" + position + "] (- only in list one, + only in list two):");
+
+        final List<Edit> edits = MyersDiff.diff(windowOne, windowTwo, equal);
+        for (int i = 0; i < edits.size(); i++) {
+            final Edit edit = edits.get(i);
+            switch (edit.operation()) {
+                case DELETE -> {
+                    final A item = windowOne.get(edit.indexOne());
+                    report.line("- [" + (position + edit.indexOne()) + "] " + describe(item));
+                    if (fieldDiff != null && i + 1 < edits.size() && edits.get(i + 1).operation() == MyersDiff.Operation.INSERT) {
+                        final List<String> fields = fieldDiff.apply(item, windowTwo.get(edits.get(i + 1).indexTwo()));
+                        if (!fields.isEmpty()) {
+                            report.line("  fields differing from the next element: " + fields);
+                        }
+                    }
+                }
+                case INSERT -> report.line("+ [" + (position + edit.indexTwo()) + "] " + describe(windowTwo.get(edit.indexTwo())));
+                case KEEP -> { }
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Describes an element for the failure report.
+     * JDK value types and elements whose fields can not be reflected are described by toString.
+     *
+     * @param item element to describe
+     * @return description of the element
+     */
+    static String describe(Object item) {
+        if (item == null || StructuralComparator.isValueType(item.getClass())) {
+            return String.valueOf(item);
+        }
+        try {
+            return ReflectionToStringBuilder.toString(item);
+        } catch (RuntimeException e) {
+            return String.valueOf(item);
+        }
+    }
+
+    /**
+     * Adds the first elements of a side, counting the ones not shown.
+     *
+     * @param <A>       Type of element
+     * @param prefix    prefix identifying the side
+     * @param remaining elements left on the side
+     */
+    private <A> void remaining(String prefix, List<A> remaining) {
+        final int limit = Math.min(remaining.size(), maxElements());
+        int shown = 0;
+        while (shown < limit && !truncated) {
+            line(prefix + "Remaining: " + describe(remaining.get(shown++)));
+        }
+        if (shown < remaining.size()) {
+            msg.append(prefix).append("... ").append(remaining.size() - shown).append(" more remaining (")
+               .append(remaining.size()).append(" in total)").append(LINE_SEPARATOR);
+        }
+    }
+
+    /**
+     * Adds a line unless the message already reached its maximum size.
+     *
+     * @param line line to be added
+     */
+    void line(String line) {
+        if (truncated) {
+            return;
+        }
+        final int available = maxChars - msg.length();
+        if (line.length() > available) {
+            msg.append(line, 0, Math.max(0, available)).append(LINE_SEPARATOR)
+               .append("... report truncated at ").append(maxChars).append(" characters").append(LINE_SEPARATOR);
+            truncated = true;
+        } else {
+            msg.append(line).append(LINE_SEPARATOR);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return msg.toString();
+    }
+}
@@ -0,0 +1,198 @@
+package com.github.spartatech.testutils.colletion;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ *
+ * Reads and rewrites golden files, one record per line.
+ *
+ * The file is read through memory mapped regions and lines are decoded one at a time as the comparison asks
+ * for them, so the content of the file is never held in memory as a whole. Updating writes the new content
+ * to a temporary file next to the golden one, which then replaces it.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+final class GoldenFile implements Closeable {
+
+    /** System property that, when true, makes the golden asserts rewrite the files instead of comparing */
+    static final String UPDATE_PROPERTY = "sparta.testutils.golden.update";
+
+    /**
+     * Size of each mapped region, grown when a single line does not fit.
+     */
+    private static final int REGION_SIZE = 64 * 1024 * 1024;
+
+    private static final int WRITE_BUFFER_SIZE = 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+
+    private MappedByteBuffer region;
+    private long regionStart;
+
+    /**
+     * Position of the next line, relative to the file.
+     */
+    private long next;
+
+    /**
+     * Constructor receiving the opened channel.
+     *
+     * @param channel channel of the golden file
+     * @throws IOException when the file size can not be read
+     */
+    private GoldenFile(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+    }
+
+    /**
+     * Opens a golden file for reading.
+     *
+     * @param path golden file
+     * @return reader positioned at the first line
+     * @throws IOException when the file can not be opened
+     */
+    static GoldenFile open(Path path) throws IOException {
+        return new GoldenFile(FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    /**
+     * Checks whether the golden asserts should rewrite the files.
+     *
+     * @return true when the update property is set
+     */
+    static boolean updating() {
+        return Boolean.getBoolean(UPDATE_PROPERTY);
+    }
+
+    /**
+     * Rewrites a golden file with the given records.
+     *
+     * @param <A>     Type of record
+     * @param path    golden file
+     * @param records records to be written, in order
+     * @param mapper  formats each record as a line
+     * @return number of records written
+     * @throws IOException when the file can not be written
+     */
+    static <A> long write(Path path, Iterator<A> records, GoldenRecordMapper<A> mapper) throws IOException {
+        final Path absolute = path.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        final Path temporary = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        long count = 0;
+        try {
+            try (BufferedWriter writer = new BufferedWriter(Files.newBufferedWriter(temporary, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE)) {
+                while (records.hasNext()) {
+                    writer.write(mapper.format(records.next()));
+                    writer.write('\n');
+                    count++;
+                }
+            }
+            try {
+                Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        return count;
+    }
+
+    /**
+     * Iterates over the records of the file, parsing each line only when requested.
+     *
+     * @param <A>    Type of record
+     * @param parser parses a line
+     * @return records of the file, in order
+     */
+    <A> Iterator<A> records(Function<String, A> parser) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public A next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return parser.apply(readLine());
+            }
+        };
+    }
+
+    /**
+     * Decodes the line at the current position and moves past its terminator.
+     *
+     * @return line without \n or \r\n terminator
+     */
+    private String readLine() {
+        try {
+            int regionSize = REGION_SIZE;
+            while (true) {
+                if (region == null || next < regionStart || next >= regionStart + region.limit()) {
+                    map(next, regionSize);
+                }
+                final int from = (int) (next - regionStart);
+                final int limit = region.limit();
+                int end = from;
+                while (end < limit && region.get(end) != '\n') {
+                    end++;
+                }
+                final boolean lastInFile = regionStart + limit >= size;
+                if (end < limit || lastInFile) {
+                    next = regionStart + Math.min(end + 1, limit);
+                    int lineEnd = end;
+                    if (lineEnd > from && region.get(lineEnd - 1) == '\r') {
+                        lineEnd--;
+                    }
+                    return StandardCharsets.UTF_8.decode(region.slice(from, lineEnd - from)).toString();
+                }
+                // the line goes past the region, map again starting at the line, larger if it did not fit
+                if (from == 0) {
+                    regionSize = (int) Math.min(Integer.MAX_VALUE - 8, 2L * regionSize);
+                }
+                region = null;
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read golden file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Maps a region of the file.
+     *
+     * @param start      position of the region in the file
+     * @param regionSize maximum size of the region
+     * @throws IOException when the file can not be mapped
+     */
+    private void map(long start, int regionSize) throws IOException {
+        region = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(regionSize, size - start));
+        regionStart = start;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.spartatech.testutils.colletion;
+
+/**
+ *
+ * Converts between the lines of a golden file and the records they hold.
+ * Golden files are line oriented, one record per line, like CSV without header or JSON lines.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ * @param <A> Type of record
+ */
+public interface GoldenRecordMapper<A> {
+
+    /**
+     * Parses a line of the golden file.
+     *
+     * @param line line without the line terminator
+     * @return record held by the line
+     */
+    A parse(String line);
+
+    /**
+     * Formats a record as a line of the golden file, used when updating it.
+     *
+     * @param record record to be written
+     * @return line without line terminator, parsing it must give back an equal record
+     */
+    String format(A record);
+
+    /**
+     * Mapper for golden files compared line by line.
+     *
+     * @return mapper keeping the lines as they are
+     */
+    static GoldenRecordMapper<String> lines() {
+        return new GoldenRecordMapper<>() {
+            @Override
+            public String parse(String line) {
+                return line;
+            }
+
+            @Override
+            public String format(String record) {
+                return record;
+            }
+        };
+    }
+}
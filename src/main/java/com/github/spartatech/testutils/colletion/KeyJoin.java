@@ -0,0 +1,102 @@
+package com.github.spartatech.testutils.colletion;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ *
+ * Compares two sets of elements joined by a key, in linear time.
+ * Reports the keys only present on one side and, for the keys on both sides, which elements differ.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+final class KeyJoin {
+
+    private KeyJoin() {
+    }
+
+    /**
+     * Indexes a collection by key, failing on duplicate keys.
+     *
+     * @param <K>          Type of key
+     * @param <A>          Type of element
+     * @param list         elements to be indexed
+     * @param keyExtractor extracts the key of an element
+     * @param side         name of the side, for the failure message
+     * @return elements by key, in the collection order
+     */
+    static <K, A> Map<K, A> index(Collection<A> list, Function<? super A, ? extends K> keyExtractor, String side) {
+        final Map<K, A> indexed = new LinkedHashMap<>(Math.max(16, (int) (list.size() / 0.75f) + 1));
+        for (A item : list) {
+            final K key = keyExtractor.apply(item);
+            if (indexed.putIfAbsent(key, item) != null) {
+                fail("Duplicate key [" + key + "] in " + side);
+            }
+        }
+        return indexed;
+    }
+
+    /**
+     * Compares two maps key by key.
+     *
+     * @param <K>             Type of key
+     * @param <V>             Type of value
+     * @param header          first line of the failure message
+     * @param one             left side values by key
+     * @param two             right side values by key
+     * @param valueComparator comparator of the values with the same key
+     * @param fieldDiff       names of the fields that differ between two values, null when not available
+     */
+    static <K, V> void assertJoined(String header, Map<K, V> one, Map<K, V> two, Comparator<? super V> valueComparator,
+                                    BiFunction<V, V, List<String>> fieldDiff) {
+        final int maxElements = FailureReport.maxElements();
+        final FailureReport report = new FailureReport(header);
+        int missing = 0;
+        int different = 0;
+        int shared = 0;
+        for (Map.Entry<K, V> entry : one.entrySet()) {
+            final V valueTwo = two.get(entry.getKey());
+            if (valueTwo == null && !two.containsKey(entry.getKey())) {
+                if (missing++ < maxElements) {
+                    report.line("Missing key [" + entry.getKey() + "]: " + FailureReport.describe(entry.getValue()));
+                }
+                continue;
+            }
+            shared++;
+            if (valueComparator.compare(entry.getValue(), valueTwo) != 0 && different++ < maxElements) {
+                final List<String> fields = fieldDiff == null ? List.of() : fieldDiff.apply(entry.getValue(), valueTwo);
+                if (fields.isEmpty()) {
+                    report.line("Key [" + entry.getKey() + "]: elements are not similar. One: " + FailureReport.describe(entry.getValue())
+                            + ", Two: " + FailureReport.describe(valueTwo));
+                } else {
+                    report.line("Key [" + entry.getKey() + "]: fields differing " + fields);
+                }
+            }
+        }
+
+        int extra = 0;
+        if (shared < two.size()) {
+            for (Map.Entry<K, V> entry : two.entrySet()) {
+                if (!one.containsKey(entry.getKey()) && extra++ < maxElements) {
+                    report.line("Extra key [" + entry.getKey() + "]: " + FailureReport.describe(entry.getValue()));
+                }
+            }
+        }
+
+        if (missing > 0 || extra > 0 || different > 0) {
+            report.line("Missing keys: " + missing + ", extra keys: " + extra + ", keys with differences: " + different);
+            fail(report.toString());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.spartatech.testutils.colletion;
+
+import java.util.List;
+
+/**
+ *
+ * Outcome of pairing the elements of two collections.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ * @param <A>               Type of list element
+ * @param remainingOne      elements of list one without a pair, in their original order
+ * @param remainingTwo      elements of list two without a pair, in their original order
+ * @param listTwoExhausted  whether list two ran out of elements while list one still had elements to be paired
+ */
+record MatchResult<A>(List<A> remainingOne, List<A> remainingTwo, boolean listTwoExhausted) {
+
+    /**
+     * Checks whether every element was paired.
+     *
+     * @return true when nothing was left on either side
+     */
+    boolean matched() {
+        return !listTwoExhausted && remainingOne.isEmpty() && remainingTwo.isEmpty();
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.spartatech.testutils.colletion;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import org.opentest4j.AssertionFailedError;
+
+/**
+ *
+ * Fast check that two collections have the same elements, for the common case where they do.
+ *
+ * Each element is hashed once and both sides are summarized by an order independent fingerprint,
+ * the sum and the xor of the mixed hashes. Different fingerprints prove the collections differ.
+ * Equal fingerprints do not prove they are equal, as the hashes may collide or ignore deep values,
+ * so the elements are then paired within their hash buckets, taking linear time instead of comparing
+ * every element of one side against the other.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+final class MultisetFingerprint {
+
+    private MultisetFingerprint() {
+    }
+
+    /**
+     * Checks whether two collections have the same elements, in any order.
+     * A false result only means the fast check could not confirm it, the caller must do the detailed matching.
+     *
+     * @param <A>               Type of element
+     * @param listOne           left side collection
+     * @param listTwo           right side collection
+     * @param elementComparator comparator returning 0 for equal elements, it must be an equivalence
+     * @param hashFunction      hash function, elements compared as 0 must have the same hash
+     * @return true when every element has been paired
+     */
+    static <A> boolean sameElements(Collection<A> listOne, Collection<A> listTwo, Comparator<? super A> elementComparator,
+                                    ToLongFunction<? super A> hashFunction) {
+        if (listOne.size() != listTwo.size()) {
+            return false;
+        }
+        final long[] hashesOne = new long[listOne.size()];
+        final long[] hashesTwo = new long[listTwo.size()];
+        try {
+            if (!sameFingerprint(listOne, hashesOne, listTwo, hashesTwo, hashFunction)) {
+                return false;
+            }
+        } catch (AssertionFailedError e) {
+            // elements that can not be hashed are left to the detailed matching, which reports the failure
+            return false;
+        }
+
+        final Map<Long, List<A>> buckets = new HashMap<>((int) (listTwo.size() / 0.75f) + 1);
+        int index = 0;
+        for (A item : listTwo) {
+            buckets.computeIfAbsent(hashesTwo[index++], hash -> new ArrayList<>(1)).add(item);
+        }
+        index = 0;
+        for (A item : listOne) {
+            final List<A> candidates = buckets.get(hashesOne[index++]);
+            if (candidates == null || !removeEqual(item, candidates, elementComparator)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hashes both sides, keeping the hashes, and compares their fingerprints.
+     *
+     * @param <A>          Type of element
+     * @param listOne      left side collection
+     * @param hashesOne    receives the hashes of the left side, in iteration order
+     * @param listTwo      right side collection
+     * @param hashesTwo    receives the hashes of the right side, in iteration order
+     * @param hashFunction hash function
+     * @return true when the fingerprints are the same
+     */
+    private static <A> boolean sameFingerprint(Collection<A> listOne, long[] hashesOne, Collection<A> listTwo, long[] hashesTwo,
+                                               ToLongFunction<? super A> hashFunction) {
+        long sum = 0;
+        long xor = 0;
+        int index = 0;
+        for (A item : listOne) {
+            final long hash = hashFunction.applyAsLong(item);
+            hashesOne[index++] = hash;
+            sum += StructuralComparator.mix(hash);
+            xor ^= StructuralComparator.mix(hash ^ 0x9e3779b97f4a7c15L);
+        }
+        index = 0;
+        for (A item : listTwo) {
+            final long hash = hashFunction.applyAsLong(item);
+            hashesTwo[index++] = hash;
+            sum -= StructuralComparator.mix(hash);
+            xor ^= StructuralComparator.mix(hash ^ 0x9e3779b97f4a7c15L);
+        }
+        return sum == 0 && xor == 0;
+    }
+
+    /**
+     * Removes the first candidate equal to the element.
+     *
+     * @param <A>               Type of element
+     * @param item              element of the left side
+     * @param candidates        elements of the right side with the same hash
+     * @param elementComparator comparator returning 0 for equal elements
+     * @return true when a candidate was removed
+     */
+    private static <A> boolean removeEqual(A item, List<A> candidates, Comparator<? super A> elementComparator) {
+        for (int i = 0; i < candidates.size(); i++) {
+            if (elementComparator.compare(item, candidates.get(i)) == 0) {
+                candidates.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+}
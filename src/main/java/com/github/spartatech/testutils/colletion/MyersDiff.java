@@ -0,0 +1,128 @@
+package com.github.spartatech.testutils.colletion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiPredicate;
+
+/**
+ *
+ * Minimal edit script between two sequences, using the Myers O((N+M)D) algorithm.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+final class MyersDiff {
+
+    /**
+     * Kind of edit.
+     */
+    enum Operation {
+        /** Element present in both sequences */
+        KEEP,
+        /** Element only present in sequence one */
+        DELETE,
+        /** Element only present in sequence two */
+        INSERT
+    }
+
+    /**
+     * Single step of the edit script.
+     *
+     * @param operation kind of edit
+     * @param indexOne  index in sequence one, -1 for inserts
+     * @param indexTwo  index in sequence two, -1 for deletes
+     */
+    record Edit(Operation operation, int indexOne, int indexTwo) { }
+
+    private MyersDiff() {
+    }
+
+    /**
+     * Computes the shortest edit script turning sequence one into sequence two.
+     *
+     * @param <A>   Type of element
+     * @param one   sequence one
+     * @param two   sequence two
+     * @param equal whether two elements are the same
+     * @return edits in sequence order, keeps included
+     */
+    static <A> List<Edit> diff(List<A> one, List<A> two, BiPredicate<A, A> equal) {
+        final int n = one.size();
+        final int m = two.size();
+        final int max = n + m;
+        final int offset = max + 1;
+        final int[] v = new int[2 * max + 3];
+        final List<int[]> trace = new ArrayList<>();
+
+        int found = -1;
+        for (int d = 0; d <= max && found < 0; d++) {
+            trace.add(v.clone());
+            for (int k = -d; k <= d; k += 2) {
+                int x;
+                if (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) {
+                    x = v[offset + k + 1];
+                } else {
+                    x = v[offset + k - 1] + 1;
+                }
+                int y = x - k;
+                while (x < n && y < m && equal.test(one.get(x), two.get(y))) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    found = d;
+                    break;
+                }
+            }
+        }
+        return backtrack(trace, offset, n, m);
+    }
+
+    /**
+     * Walks the saved frontiers back from the end to build the script.
+     *
+     * @param trace  frontier of each step, before the step was applied
+     * @param offset offset of diagonal 0 in the frontier arrays
+     * @param n      size of sequence one
+     * @param m      size of sequence two
+     * @return edits in sequence order
+     */
+    private static List<Edit> backtrack(List<int[]> trace, int offset, int n, int m) {
+        final List<Edit> edits = new ArrayList<>();
+        int x = n;
+        int y = m;
+        for (int d = trace.size() - 1; d >= 0; d--) {
+            final int[] v = trace.get(d);
+            final int k = x - y;
+            final int previousK;
+            if (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) {
+                previousK = k + 1;
+            } else {
+                previousK = k - 1;
+            }
+            final int previousX = v[offset + previousK];
+            final int previousY = previousX - previousK;
+            while (x > previousX && y > previousY) {
+                x--;
+                y--;
+                edits.add(new Edit(Operation.KEEP, x, y));
+            }
+            if (d > 0) {
+                if (x == previousX) {
+                    edits.add(new Edit(Operation.INSERT, -1, previousY));
+                } else {
+                    edits.add(new Edit(Operation.DELETE, previousX, -1));
+                }
+            }
+            x = previousX;
+            y = previousY;
+        }
+        Collections.reverse(edits);
+        return edits;
+    }
+}
@@ -0,0 +1,258 @@
+package com.github.spartatech.testutils.colletion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ *
+ * Pairs the elements of two collections using all the cores of a {@link ForkJoinPool}.
+ *
+ * Every element is fingerprinted in parallel and both sides are sorted together by fingerprint,
+ * so elements that can match end up in the same bucket. Buckets are then matched in parallel,
+ * each one applying the same first-match rule used by the sequential assert, in the original order.
+ * As long as elements considered equal by the comparator have the same hash, the outcome is
+ * exactly the same as the sequential matching.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *    Oct 19, 2026 - Sparta Team - Original exceptions of the workers rethrown
+ *
+ * @param <A> Type of list element
+ */
+final class ParallelListMatcher<A> {
+
+    /**
+     * Number of sorted entries below which a task stops splitting.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 4096;
+
+    /**
+     * Bit of the sort key flagging an element of list two.
+     */
+    private static final long LIST_TWO_FLAG = 1L << 31;
+
+    private static final long INDEX_MASK = LIST_TWO_FLAG - 1;
+
+    private final List<A> listOne;
+    private final List<A> listTwo;
+    private final Supplier<? extends Comparator<? super A>> comparatorFactory;
+    private final ToLongFunction<? super A> hashFunction;
+    private final boolean[] matchedOne;
+    private final boolean[] matchedTwo;
+
+    /**
+     * Sort keys: bucket in the upper 32 bits, list two flag and element index in the lower ones.
+     */
+    private final long[] keys;
+
+    /**
+     * Constructor receiving the collections and how to compare them.
+     *
+     * @param listOne           left side collection
+     * @param listTwo           right side collection
+     * @param comparatorFactory supplies the comparator used by each worker
+     * @param hashFunction      hash consistent with the comparator
+     */
+    private ParallelListMatcher(Collection<A> listOne, Collection<A> listTwo,
+                                Supplier<? extends Comparator<? super A>> comparatorFactory, ToLongFunction<? super A> hashFunction) {
+        this.listOne = randomAccess(listOne);
+        this.listTwo = randomAccess(listTwo);
+        this.comparatorFactory = comparatorFactory;
+        this.hashFunction = hashFunction;
+        this.matchedOne = new boolean[this.listOne.size()];
+        this.matchedTwo = new boolean[this.listTwo.size()];
+        this.keys = new long[this.listOne.size() + this.listTwo.size()];
+    }
+
+    /**
+     * Pairs the elements of two collections in parallel.
+     *
+     * @param <A>               Type of list element
+     * @param listOne           left side collection
+     * @param listTwo           right side collection
+     * @param comparatorFactory supplies the comparator used by each worker, called once per task
+     * @param hashFunction      hash function, elements compared as 0 must have the same hash
+     * @return the elements left without a pair
+     */
+    static <A> MatchResult<A> match(Collection<A> listOne, Collection<A> listTwo,
+                                    Supplier<? extends Comparator<? super A>> comparatorFactory, ToLongFunction<? super A> hashFunction) {
+        return new ParallelListMatcher<>(listOne, listTwo, comparatorFactory, hashFunction).match();
+    }
+
+    /**
+     * Runs the fingerprint, sort and bucket matching phases.
+     *
+     * @return the elements left without a pair
+     */
+    private MatchResult<A> match() {
+        final int sizeOne = listOne.size();
+        inPool(() -> IntStream.range(0, keys.length).parallel().forEach(i -> keys[i] = i < sizeOne
+                ? sortKey(listOne.get(i), i)
+                : sortKey(listTwo.get(i - sizeOne), i - sizeOne) | LIST_TWO_FLAG));
+        Arrays.parallelSort(keys);
+
+        inPool(() -> ForkJoinPool.commonPool().invoke(new BucketMatchTask(0, keys.length)));
+
+        final List<A> remainingOne = remaining(listOne, matchedOne);
+        final List<A> remainingTwo = remaining(listTwo, matchedTwo);
+        final boolean listTwoExhausted = remainingTwo.isEmpty() && sizeOne > 0 && !matchedOne[sizeOne - 1];
+        return new MatchResult<>(remainingOne, remainingTwo, listTwoExhausted);
+    }
+
+    /**
+     * Runs a parallel phase, rethrowing the original exception of a worker.
+     * When a worker thread fails, ForkJoin rethrows a new instance of the exception built by reflection, which for
+     * assertion errors has no message, with the original one as cause.
+     *
+     * @param phase parallel phase to run
+     */
+    private static void inPool(Runnable phase) {
+        try {
+            phase.run();
+        } catch (RuntimeException | Error e) {
+            final Throwable cause = e.getCause();
+            if (cause == null || cause.getClass() != e.getClass()) {
+                throw e;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw (RuntimeException) cause;
+        }
+    }
+
+    /**
+     * Builds the sort key of an element.
+     *
+     * @param element element to be fingerprinted
+     * @param index   position of the element in its list
+     * @return sort key
+     */
+    private long sortKey(A element, int index) {
+        final long hash = StructuralComparator.mix(hashFunction.applyAsLong(element));
+        return ((hash ^ (hash >>> 32)) << 32) | index;
+    }
+
+    /**
+     * Matches the elements of a single bucket, list one entries come first as they have the flag unset.
+     *
+     * @param comparator comparator used to match elements
+     * @param from       first sorted entry of the bucket
+     * @param to         end of the bucket, exclusive
+     */
+    private void matchBucket(Comparator<? super A> comparator, int from, int to) {
+        int firstTwo = from;
+        while (firstTwo < to && (keys[firstTwo] & LIST_TWO_FLAG) == 0) {
+            firstTwo++;
+        }
+        for (int i = from; i < firstTwo; i++) {
+            final int indexOne = (int) (keys[i] & INDEX_MASK);
+            final A itemListOne = listOne.get(indexOne);
+            for (int j = firstTwo; j < to; j++) {
+                final int indexTwo = (int) (keys[j] & INDEX_MASK);
+                if (!matchedTwo[indexTwo] && comparator.compare(itemListOne, listTwo.get(indexTwo)) == 0) {
+                    matchedOne[indexOne] = true;
+                    matchedTwo[indexTwo] = true;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether two sorted entries belong to the same bucket.
+     *
+     * @param key1 first entry
+     * @param key2 second entry
+     * @return true when both share the bucket
+     */
+    private static boolean sameBucket(long key1, long key2) {
+        return (key1 >>> 32) == (key2 >>> 32);
+    }
+
+    /**
+     * Collects the elements that were not paired.
+     *
+     * @param <A>     Type of list element
+     * @param list    list to be collected
+     * @param matched flags of the paired elements
+     * @return elements without a pair, in the original order
+     */
+    private static <A> List<A> remaining(List<A> list, boolean[] matched) {
+        final List<A> remaining = new ArrayList<>();
+        for (int i = 0; i < matched.length; i++) {
+            if (!matched[i]) {
+                remaining.add(list.get(i));
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Gives an indexed view of a collection, copying it only when needed.
+     *
+     * @param <A>        Type of list element
+     * @param collection collection to be indexed
+     * @return list with constant time access
+     */
+    private static <A> List<A> randomAccess(Collection<A> collection) {
+        if (collection instanceof List<A> list && collection instanceof RandomAccess) {
+            return list;
+        }
+        return new ArrayList<>(collection);
+    }
+
+    /**
+     * Matches a range of sorted entries, splitting it on bucket boundaries.
+     */
+    private final class BucketMatchTask extends RecursiveAction {
+
+        private static final long serialVersionUID = -1823357165239187362L;
+
+        private final int from;
+        private final int to;
+
+        /**
+         * @param from first sorted entry, at the start of a bucket
+         * @param to   end of the range, exclusive, at the end of a bucket
+         */
+        BucketMatchTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SEQUENTIAL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                while (middle < to && sameBucket(keys[middle - 1], keys[middle])) {
+                    middle++;
+                }
+                if (middle < to) {
+                    invokeAll(new BucketMatchTask(from, middle), new BucketMatchTask(middle, to));
+                    return;
+                }
+            }
+
+            final Comparator<? super A> comparator = comparatorFactory.get();
+            int bucketStart = from;
+            for (int i = from + 1; i <= to; i++) {
+                if (i == to || !sameBucket(keys[bucketStart], keys[i])) {
+                    matchBucket(comparator, bucketStart, i);
+                    bucketStart = i;
+                }
+            }
+        }
+    }
+}
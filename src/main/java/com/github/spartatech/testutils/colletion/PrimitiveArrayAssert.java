@@ -0,0 +1,317 @@
+package com.github.spartatech.testutils.colletion;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.StringJoiner;
+import java.util.function.IntFunction;
+
+import org.opentest4j.AssertionFailedError;
+
+/**
+ *
+ * Asserts over primitive arrays, without boxing the values.
+ * Equal ranges are skipped using {@link Arrays#mismatch}, which the JVM vectorizes, and only the first
+ * difference is reported along with a small window of the elements around it.
+ * Unordered asserts sort primitive copies of both arrays and walk them side by side.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+final class PrimitiveArrayAssert {
+
+    /**
+     * Number of elements shown on each side of the mismatch.
+     */
+    private static final int WINDOW = 5;
+
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+
+    private PrimitiveArrayAssert() {
+    }
+
+    /**
+     * Asserts two arrays with the same values in the same order.
+     *
+     * @param arrayOne left side array
+     * @param arrayTwo right side array
+     * @param mismatch index of the first difference, -1 when equal
+     */
+    static void assertNoMismatch(Object arrayOne, Object arrayTwo, int mismatch) {
+        if (mismatch >= 0) {
+            failAt(arrayOne, Array.getLength(arrayOne), arrayTwo, Array.getLength(arrayTwo), mismatch, i -> Array.get(arrayOne, i), i -> Array.get(arrayTwo, i));
+        }
+    }
+
+    /**
+     * Asserts two double arrays within a tolerance, exact equal ranges are skipped by {@link Arrays#mismatch}.
+     *
+     * @param arrayOne          left side array
+     * @param arrayTwo          right side array
+     * @param absoluteTolerance maximum absolute difference
+     * @param relativeTolerance maximum difference relative to the largest magnitude of both values
+     */
+    static void assertDoubles(double[] arrayOne, double[] arrayTwo, double absoluteTolerance, double relativeTolerance) {
+        final int length = Math.min(arrayOne.length, arrayTwo.length);
+        int from = 0;
+        while (from < length) {
+            final int mismatch = Arrays.mismatch(arrayOne, from, length, arrayTwo, from, length);
+            if (mismatch < 0) {
+                break;
+            }
+            final int index = from + mismatch;
+            if (!withinTolerance(arrayOne[index], arrayTwo[index], absoluteTolerance, relativeTolerance)) {
+                failAt(arrayOne, arrayOne.length, arrayTwo, arrayTwo.length, index, i -> arrayOne[i], i -> arrayTwo[i]);
+            }
+            from = index + 1;
+        }
+        if (arrayOne.length != arrayTwo.length) {
+            failAt(arrayOne, arrayOne.length, arrayTwo, arrayTwo.length, length, i -> arrayOne[i], i -> arrayTwo[i]);
+        }
+    }
+
+    /**
+     * Asserts two buffers with the same remaining bytes, positions are not changed.
+     *
+     * @param bufferOne left side buffer
+     * @param bufferTwo right side buffer
+     */
+    static void assertBuffers(ByteBuffer bufferOne, ByteBuffer bufferTwo) {
+        final int mismatch = bufferOne.mismatch(bufferTwo);
+        if (mismatch >= 0) {
+            final int positionOne = bufferOne.position();
+            final int positionTwo = bufferTwo.position();
+            failAt(bufferOne, bufferOne.remaining(), bufferTwo, bufferTwo.remaining(), mismatch,
+                    i -> bufferOne.get(positionOne + i), i -> bufferTwo.get(positionTwo + i));
+        }
+    }
+
+    /**
+     * Asserts two int arrays with the same values in any order.
+     *
+     * @param arrayOne left side array
+     * @param arrayTwo right side array
+     */
+    static void assertUnordered(int[] arrayOne, int[] arrayTwo) {
+        final int[] sortedOne = arrayOne.clone();
+        final int[] sortedTwo = arrayTwo.clone();
+        Arrays.sort(sortedOne);
+        Arrays.sort(sortedTwo);
+        if (Arrays.mismatch(sortedOne, sortedTwo) >= 0) {
+            final Remaining remainingOne = new Remaining();
+            final Remaining remainingTwo = new Remaining();
+            int i = 0;
+            int j = 0;
+            while (i < sortedOne.length || j < sortedTwo.length) {
+                if (j == sortedTwo.length || (i < sortedOne.length && sortedOne[i] < sortedTwo[j])) {
+                    remainingOne.add(sortedOne[i++]);
+                } else if (i == sortedOne.length || sortedTwo[j] < sortedOne[i]) {
+                    remainingTwo.add(sortedTwo[j++]);
+                } else {
+                    i++;
+                    j++;
+                }
+            }
+            failUnordered(remainingOne, remainingTwo);
+        }
+    }
+
+    /**
+     * Asserts two long arrays with the same values in any order.
+     *
+     * @param arrayOne left side array
+     * @param arrayTwo right side array
+     */
+    static void assertUnordered(long[] arrayOne, long[] arrayTwo) {
+        final long[] sortedOne = arrayOne.clone();
+        final long[] sortedTwo = arrayTwo.clone();
+        Arrays.sort(sortedOne);
+        Arrays.sort(sortedTwo);
+        if (Arrays.mismatch(sortedOne, sortedTwo) >= 0) {
+            final Remaining remainingOne = new Remaining();
+            final Remaining remainingTwo = new Remaining();
+            int i = 0;
+            int j = 0;
+            while (i < sortedOne.length || j < sortedTwo.length) {
+                if (j == sortedTwo.length || (i < sortedOne.length && sortedOne[i] < sortedTwo[j])) {
+                    remainingOne.add(sortedOne[i++]);
+                } else if (i == sortedOne.length || sortedTwo[j] < sortedOne[i]) {
+                    remainingTwo.add(sortedTwo[j++]);
+                } else {
+                    i++;
+                    j++;
+                }
+            }
+            failUnordered(remainingOne, remainingTwo);
+        }
+    }
+
+    /**
+     * Asserts two double arrays with the same values in any order, within a tolerance.
+     * Both arrays are sorted and paired in order, values within the tolerance are considered the same.
+     *
+     * @param arrayOne          left side array
+     * @param arrayTwo          right side array
+     * @param absoluteTolerance maximum absolute difference
+     * @param relativeTolerance maximum difference relative to the largest magnitude of both values
+     */
+    static void assertUnordered(double[] arrayOne, double[] arrayTwo, double absoluteTolerance, double relativeTolerance) {
+        final double[] sortedOne = arrayOne.clone();
+        final double[] sortedTwo = arrayTwo.clone();
+        Arrays.sort(sortedOne);
+        Arrays.sort(sortedTwo);
+        final Remaining remainingOne = new Remaining();
+        final Remaining remainingTwo = new Remaining();
+        int i = 0;
+        int j = 0;
+        while (i < sortedOne.length || j < sortedTwo.length) {
+            if (i < sortedOne.length && j < sortedTwo.length
+                    && (Double.compare(sortedOne[i], sortedTwo[j]) == 0
+                        || withinTolerance(sortedOne[i], sortedTwo[j], absoluteTolerance, relativeTolerance))) {
+                i++;
+                j++;
+            } else if (j == sortedTwo.length || (i < sortedOne.length && Double.compare(sortedOne[i], sortedTwo[j]) < 0)) {
+                remainingOne.add(sortedOne[i++]);
+            } else {
+                remainingTwo.add(sortedTwo[j++]);
+            }
+        }
+        if (remainingOne.count > 0 || remainingTwo.count > 0) {
+            failUnordered(remainingOne, remainingTwo);
+        }
+    }
+
+    /**
+     * Asserts two byte arrays with the same values in any order, counting each byte value.
+     *
+     * @param arrayOne left side array
+     * @param arrayTwo right side array
+     */
+    static void assertUnordered(byte[] arrayOne, byte[] arrayTwo) {
+        final int[] counts = new int[256];
+        for (byte value : arrayOne) {
+            counts[value & 0xFF]++;
+        }
+        for (byte value : arrayTwo) {
+            counts[value & 0xFF]--;
+        }
+        final Remaining remainingOne = new Remaining();
+        final Remaining remainingTwo = new Remaining();
+        for (int value = Byte.MIN_VALUE; value <= Byte.MAX_VALUE; value++) {
+            for (int count = counts[value & 0xFF]; count != 0; count += count > 0 ? -1 : 1) {
+                (count > 0 ? remainingOne : remainingTwo).add(value);
+            }
+        }
+        if (remainingOne.count > 0 || remainingTwo.count > 0) {
+            failUnordered(remainingOne, remainingTwo);
+        }
+    }
+
+    /**
+     * Checks whether two values are close enough.
+     *
+     * @param value1            left side value
+     * @param value2            right side value
+     * @param absoluteTolerance maximum absolute difference
+     * @param relativeTolerance maximum difference relative to the largest magnitude of both values
+     * @return true when within any of the tolerances
+     */
+    private static boolean withinTolerance(double value1, double value2, double absoluteTolerance, double relativeTolerance) {
+        final double difference = Math.abs(value1 - value2);
+        return difference <= absoluteTolerance || difference <= relativeTolerance * Math.max(Math.abs(value1), Math.abs(value2));
+    }
+
+    /**
+     * Fails reporting the first difference and the elements around it.
+     *
+     * @param arrayOne  left side array or buffer
+     * @param lengthOne number of elements on the left side
+     * @param arrayTwo  right side array or buffer
+     * @param lengthTwo number of elements on the right side
+     * @param index     index of the first difference
+     * @param valueOne  reads a value of the left side
+     * @param valueTwo  reads a value of the right side
+     */
+    private static void failAt(Object arrayOne, int lengthOne, Object arrayTwo, int lengthTwo, int index,
+                               IntFunction<Object> valueOne, IntFunction<Object> valueTwo) {
+        final StringBuilder msg = new StringBuilder();
+        if (index >= lengthOne || index >= lengthTwo) {
+            msg.append("Arrays have different lengths: ").append(lengthOne).append(" and ").append(lengthTwo)
+               .append(", first difference at index [").append(index).append("]");
+        } else {
+            msg.append("Arrays differ at index [").append(index).append("]");
+        }
+        msg.append(LINE_SEPARATOR).append("Array one: ").append(window(lengthOne, index, valueOne))
+           .append(LINE_SEPARATOR).append("Array two: ").append(window(lengthTwo, index, valueTwo));
+        throw new AssertionFailedError(msg.toString(),
+                index < lengthOne ? String.valueOf(valueOne.apply(index)) : "<missing>",
+                index < lengthTwo ? String.valueOf(valueTwo.apply(index)) : "<missing>");
+    }
+
+    /**
+     * Formats the elements around an index.
+     *
+     * @param length number of elements
+     * @param index  index in the center of the window
+     * @param value  reads a value
+     * @return formatted window, the value at the index between angle brackets
+     */
+    private static String window(int length, int index, IntFunction<Object> value) {
+        final int from = Math.max(0, index - WINDOW);
+        final int to = Math.min(length, index + WINDOW + 1);
+        final StringJoiner joiner = new StringJoiner(", ", (from > 0 ? "[..., " : "["), (to < length ? ", ...]" : "]"));
+        for (int i = from; i < to; i++) {
+            joiner.add(i == index ? "<" + value.apply(i) + ">" : String.valueOf(value.apply(i)));
+        }
+        return "[" + from + ".." + to + ") " + joiner;
+    }
+
+    /**
+     * Fails listing the values left without a pair.
+     *
+     * @param remainingOne values only in array one
+     * @param remainingTwo values only in array two
+     */
+    private static void failUnordered(Remaining remainingOne, Remaining remainingTwo) {
+        fail("Arrays do not contain the same elements." + LINE_SEPARATOR
+                + "Array one: Remaining: " + remainingOne + LINE_SEPARATOR
+                + "Array two: Remaining: " + remainingTwo + LINE_SEPARATOR);
+    }
+
+    /**
+     * Values without a pair, only the first ones are kept for the report.
+     */
+    private static final class Remaining {
+        private final int limit = FailureReport.maxElements();
+        private final StringJoiner shown = new StringJoiner(", ", "[", "]");
+        private long count;
+
+        /**
+         * @param value integral value without a pair
+         */
+        void add(long value) {
+            if (count++ < limit) {
+                shown.add(Long.toString(value));
+            }
+        }
+
+        /**
+         * @param value floating point value without a pair
+         */
+        void add(double value) {
+            if (count++ < limit) {
+                shown.add(Double.toString(value));
+            }
+        }
+
+        @Override
+        public String toString() {
+            return shown + (count > limit ? " ... " + (count - limit) + " more" : "") + " (" + count + " in total)";
+        }
+    }
+}
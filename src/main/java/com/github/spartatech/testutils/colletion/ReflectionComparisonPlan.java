@@ -0,0 +1,313 @@
+package com.github.spartatech.testutils.colletion;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ *
+ * Per class comparison plan used by the reflection based asserts.
+ * The instance fields of the class and all its superclasses are resolved only once
+ * into {@link VarHandle} accessors, so comparing elements does no reflection lookups.
+ *
+ * For each set of excluded fields a comparator of the primitive fields is composed out of method handles,
+ * reading the fields directly and comparing them without boxing. As primitive fields are compared first, most
+ * differences are found before any object is walked. The composed handle is kept in a field, not a constant, so it is
+ * invoked as a single call that the JIT does not inline into the caller, and reference fields are still read through
+ * their {@link VarHandle}.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *    Oct 19, 2026 - Sparta Team - Composed comparator of the primitive fields
+ *    Oct 19, 2026 - Sparta Team - Documented the composed comparator is not inlined
+ *
+ */
+final class ReflectionComparisonPlan {
+
+    private static final FieldAccessor[] NO_FIELDS = new FieldAccessor[0];
+
+    private static final MethodType EQUALITY_TYPE = MethodType.methodType(boolean.class, Object.class, Object.class);
+
+    private static final MethodHandle ALWAYS_EQUAL = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, true), 0, Object.class, Object.class);
+
+    private static final MethodHandle NEVER_EQUAL = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false), 0, Object.class, Object.class);
+
+    private static final ClassValue<ReflectionComparisonPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected ReflectionComparisonPlan computeValue(Class<?> type) {
+            return new ReflectionComparisonPlan(type);
+        }
+    };
+
+    /**
+     * All the instance fields, own fields first followed by the superclasses ones.
+     */
+    private final FieldAccessor[] accessors;
+
+    /**
+     * Accessors already filtered by a set of excluded field names.
+     */
+    private final ConcurrentMap<Set<String>, FieldAccessor[]> filteredAccessors = new ConcurrentHashMap<>();
+
+    /**
+     * Comparators already composed for a set of excluded field names.
+     */
+    private final ConcurrentMap<Set<String>, Comparison> comparisons = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor resolving the accessors for the class.
+     *
+     * @param type class to build the plan for
+     */
+    private ReflectionComparisonPlan(Class<?> type) {
+        final List<FieldAccessor> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    fields.add(FieldAccessor.of(field));
+                }
+            }
+        }
+        this.accessors = fields.toArray(NO_FIELDS);
+    }
+
+    /**
+     * Retrieves the cached plan for a class.
+     *
+     * @param type class of the elements being compared
+     * @return comparison plan for the class
+     */
+    static ReflectionComparisonPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Retrieves the accessors for the fields that are not excluded.
+     *
+     * @param excludedFields names of the fields to be skipped
+     * @return accessors to be compared
+     */
+    FieldAccessor[] accessors(Set<String> excludedFields) {
+        if (excludedFields.isEmpty()) {
+            return accessors;
+        }
+        return filteredAccessors.computeIfAbsent(excludedFields, excluded -> {
+            final List<FieldAccessor> filtered = new ArrayList<>(accessors.length);
+            for (FieldAccessor accessor : accessors) {
+                if (!excluded.contains(accessor.name())) {
+                    filtered.add(accessor);
+                }
+            }
+            return filtered.toArray(NO_FIELDS);
+        });
+    }
+
+    /**
+     * Retrieves the comparator for the fields that are not excluded, composing it on first use.
+     *
+     * @param excludedFields names of the fields to be skipped
+     * @return comparator of the primitive fields and the remaining accessors
+     */
+    Comparison comparison(Set<String> excludedFields) {
+        return comparisons.computeIfAbsent(excludedFields, excluded -> {
+            final List<FieldAccessor> others = new ArrayList<>();
+            MethodHandle primitives = ALWAYS_EQUAL;
+            final FieldAccessor[] fields = accessors(excluded);
+            for (int i = fields.length - 1; i >= 0; i--) {
+                final MethodHandle fieldEquality = fields[i].equality();
+                if (fieldEquality == null) {
+                    others.add(0, fields[i]);
+                } else {
+                    primitives = MethodHandles.guardWithTest(fieldEquality, primitives, NEVER_EQUAL);
+                }
+            }
+            return new Comparison(primitives, others.toArray(NO_FIELDS));
+        });
+    }
+
+    /**
+     * Comparator of the fields of a class, for a set of excluded fields.
+     *
+     * @param primitives comparator of the accessible primitive fields, of type (Object, Object)boolean
+     * @param others     accessors of the fields not covered by the primitives comparator, in declaration order
+     */
+    record Comparison(MethodHandle primitives, FieldAccessor[] others) {
+
+        /**
+         * Compares the accessible primitive fields of two objects of the class.
+         *
+         * @param item1 left side object
+         * @param item2 right side object
+         * @return true when all those fields are equal
+         */
+        boolean primitivesEqual(Object item1, Object item2) {
+            try {
+                return (boolean) primitives.invokeExact(item1, item2);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Pre-resolved accessor to a single field.
+     *
+     * @param name    field name
+     * @param type    declared type of the field
+     * @param handle  handle used to read the field, null when the field is not accessible
+     * @param failure reason why the field could not be accessed, null when accessible
+     */
+    record FieldAccessor(String name, Class<?> type, VarHandle handle, String failure) {
+
+        /**
+         * Resolves the accessor for a field.
+         *
+         * @param field field to be read
+         * @return accessor for the field
+         */
+        static FieldAccessor of(Field field) {
+            try {
+                final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+                return new FieldAccessor(field.getName(), field.getType(), lookup.unreflectVarHandle(field), null);
+            } catch (IllegalAccessException | RuntimeException e) {
+                return new FieldAccessor(field.getName(), field.getType(), null, e.getMessage());
+            }
+        }
+
+        /**
+         * Composes the equality of a primitive field, same semantics as {@link #primitiveEquals(Object, Object)}.
+         *
+         * @return handle of type (Object, Object)boolean, null for reference or inaccessible fields
+         */
+        MethodHandle equality() {
+            if (handle == null || !type.isPrimitive()) {
+                return null;
+            }
+            try {
+                final MethodHandle getter = handle.toMethodHandle(VarHandle.AccessMode.GET).asType(MethodType.methodType(type, Object.class));
+                final MethodHandle equals = MethodHandles.lookup().findStatic(FieldAccessor.class, "same", MethodType.methodType(boolean.class, type, type));
+                return MethodHandles.filterArguments(equals, 0, getter, getter).asType(EQUALITY_TYPE);
+            } catch (ReflectiveOperationException e) {
+                return null;
+            }
+        }
+
+        private static boolean same(int value1, int value2) {
+            return value1 == value2;
+        }
+
+        private static boolean same(long value1, long value2) {
+            return value1 == value2;
+        }
+
+        private static boolean same(boolean value1, boolean value2) {
+            return value1 == value2;
+        }
+
+        private static boolean same(double value1, double value2) {
+            return Double.doubleToLongBits(value1) == Double.doubleToLongBits(value2);
+        }
+
+        private static boolean same(float value1, float value2) {
+            return Float.floatToIntBits(value1) == Float.floatToIntBits(value2);
+        }
+
+        private static boolean same(char value1, char value2) {
+            return value1 == value2;
+        }
+
+        private static boolean same(byte value1, byte value2) {
+            return value1 == value2;
+        }
+
+        private static boolean same(short value1, short value2) {
+            return value1 == value2;
+        }
+
+        /**
+         * Reads the field value from an object.
+         *
+         * @param target object to read the field from
+         * @return field value, boxed when primitive
+         * @throws IllegalStateException when the field is not accessible
+         */
+        Object get(Object target) throws IllegalStateException {
+            if (handle == null) {
+                throw new IllegalStateException(failure);
+            }
+            return handle.get(target);
+        }
+
+        /**
+         * Compares a primitive field of two objects without boxing the values.
+         * Floating point values are compared the same way as their wrappers equals does.
+         *
+         * @param item1 left side object
+         * @param item2 right side object
+         * @return true when the field has the same value on both objects
+         * @throws IllegalStateException when the field is not accessible
+         */
+        boolean primitiveEquals(Object item1, Object item2) throws IllegalStateException {
+            if (handle == null) {
+                throw new IllegalStateException(failure);
+            }
+            if (type == int.class) {
+                return (int) handle.get(item1) == (int) handle.get(item2);
+            } else if (type == long.class) {
+                return (long) handle.get(item1) == (long) handle.get(item2);
+            } else if (type == boolean.class) {
+                return (boolean) handle.get(item1) == (boolean) handle.get(item2);
+            } else if (type == double.class) {
+                return Double.doubleToLongBits((double) handle.get(item1)) == Double.doubleToLongBits((double) handle.get(item2));
+            } else if (type == float.class) {
+                return Float.floatToIntBits((float) handle.get(item1)) == Float.floatToIntBits((float) handle.get(item2));
+            } else if (type == char.class) {
+                return (char) handle.get(item1) == (char) handle.get(item2);
+            } else if (type == byte.class) {
+                return (byte) handle.get(item1) == (byte) handle.get(item2);
+            }
+            return (short) handle.get(item1) == (short) handle.get(item2);
+        }
+
+        /**
+         * Hashes a primitive field without boxing the value, consistent with {@link #primitiveEquals(Object, Object)}.
+         *
+         * @param target object to read the field from
+         * @return hash of the field value
+         * @throws IllegalStateException when the field is not accessible
+         */
+        long primitiveHash(Object target) throws IllegalStateException {
+            if (handle == null) {
+                throw new IllegalStateException(failure);
+            }
+            if (type == int.class) {
+                return (int) handle.get(target);
+            } else if (type == long.class) {
+                return (long) handle.get(target);
+            } else if (type == boolean.class) {
+                return (boolean) handle.get(target) ? 1231 : 1237;
+            } else if (type == double.class) {
+                return Double.doubleToLongBits((double) handle.get(target));
+            } else if (type == float.class) {
+                return Float.floatToIntBits((float) handle.get(target));
+            } else if (type == char.class) {
+                return (char) handle.get(target);
+            } else if (type == byte.class) {
+                return (byte) handle.get(target);
+            }
+            return (short) handle.get(target);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.github.spartatech.testutils.colletion;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ *
+ * Pairs the elements of two iterators regardless of order, without materializing them.
+ *
+ * Both sides are consumed alternately. Each element is paired with the first pending element of the other side
+ * that has the same hash and is compared as 0, otherwise it becomes pending itself. Only unmatched elements are held
+ * in memory, so when both sides are similar the memory used stays small, and it is bounded by a maximum count.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ * @param <A> Type of element
+ */
+final class StreamingMultisetMatcher<A> {
+
+    private final Comparator<? super A> elementComparator;
+    private final ToLongFunction<? super A> hashFunction;
+    private final int maxUnmatched;
+
+    private final Map<Long, List<Pending<A>>> pendingOne = new HashMap<>();
+    private final Map<Long, List<Pending<A>>> pendingTwo = new HashMap<>();
+    private int unmatched;
+
+    /**
+     * Constructor receiving how to compare elements.
+     *
+     * @param elementComparator comparator to compare records
+     * @param hashFunction      hash of an element, elements compared as 0 must have the same hash
+     * @param maxUnmatched      maximum number of unmatched elements held at the same time
+     */
+    private StreamingMultisetMatcher(Comparator<? super A> elementComparator, ToLongFunction<? super A> hashFunction, int maxUnmatched) {
+        this.elementComparator = elementComparator;
+        this.hashFunction = hashFunction;
+        this.maxUnmatched = maxUnmatched;
+    }
+
+    /**
+     * Pairs the elements of two iterators, consuming both completely unless the bound is exceeded.
+     *
+     * @param <A>               Type of element
+     * @param iteratorOne       left side elements
+     * @param iteratorTwo       right side elements
+     * @param elementComparator comparator to compare records
+     * @param hashFunction      hash of an element, elements compared as 0 must have the same hash
+     * @param maxUnmatched      maximum number of unmatched elements held at the same time
+     * @return the elements left without a pair, in the order they were read
+     */
+    static <A> MatchResult<A> match(Iterator<? extends A> iteratorOne, Iterator<? extends A> iteratorTwo,
+                                    Comparator<? super A> elementComparator, ToLongFunction<? super A> hashFunction, int maxUnmatched) {
+        return new StreamingMultisetMatcher<A>(elementComparator, hashFunction, maxUnmatched).match(iteratorOne, iteratorTwo);
+    }
+
+    /**
+     * Consumes both iterators alternately.
+     *
+     * @param iteratorOne left side elements
+     * @param iteratorTwo right side elements
+     * @return the elements left without a pair
+     */
+    private MatchResult<A> match(Iterator<? extends A> iteratorOne, Iterator<? extends A> iteratorTwo) {
+        long position = 0;
+        while (iteratorOne.hasNext() || iteratorTwo.hasNext()) {
+            if (iteratorOne.hasNext()) {
+                offer(iteratorOne.next(), position, pendingTwo, pendingOne, true);
+            }
+            if (iteratorTwo.hasNext()) {
+                offer(iteratorTwo.next(), position, pendingOne, pendingTwo, false);
+            }
+            position++;
+        }
+        return new MatchResult<>(remaining(pendingOne), remaining(pendingTwo), false);
+    }
+
+    /**
+     * Pairs an element with a pending one from the other side, or adds it as pending.
+     *
+     * @param element      element read
+     * @param position     position of the element in its side
+     * @param otherPending pending elements of the other side
+     * @param ownPending   pending elements of the element side
+     * @param isListOne    whether the element belongs to list one, which is always the left side of the comparator
+     */
+    private void offer(A element, long position, Map<Long, List<Pending<A>>> otherPending,
+                       Map<Long, List<Pending<A>>> ownPending, boolean isListOne) {
+        final Long hash = hashFunction.applyAsLong(element);
+        final List<Pending<A>> candidates = otherPending.get(hash);
+        if (candidates != null) {
+            for (int i = 0; i < candidates.size(); i++) {
+                final A candidate = candidates.get(i).element();
+                final int result = isListOne ? elementComparator.compare(element, candidate) : elementComparator.compare(candidate, element);
+                if (result == 0) {
+                    candidates.remove(i);
+                    if (candidates.isEmpty()) {
+                        otherPending.remove(hash);
+                    }
+                    unmatched--;
+                    return;
+                }
+            }
+        }
+
+        if (++unmatched > maxUnmatched) {
+            fail("Lists are not similar. More than " + maxUnmatched + " elements are unmatched at position [" + position + "]");
+        }
+        ownPending.computeIfAbsent(hash, key -> new ArrayList<>(1)).add(new Pending<>(position, element));
+    }
+
+    /**
+     * Collects the pending elements in the order they were read.
+     *
+     * @param <A>     Type of element
+     * @param pending pending elements by hash
+     * @return pending elements
+     */
+    private static <A> List<A> remaining(Map<Long, List<Pending<A>>> pending) {
+        final List<Pending<A>> all = new ArrayList<>();
+        pending.values().forEach(all::addAll);
+        all.sort(Comparator.comparingLong(Pending::position));
+        final List<A> remaining = new ArrayList<>(all.size());
+        all.forEach(item -> remaining.add(item.element()));
+        return remaining;
+    }
+
+    /**
+     * Element waiting for a pair.
+     *
+     * @param <A>      Type of element
+     * @param position position of the element in its side
+     * @param element  the element
+     */
+    private record Pending<A>(long position, A element) { }
+}
@@ -0,0 +1,620 @@
+package com.github.spartatech.testutils.colletion;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Currency;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.spartatech.testutils.colletion.ReflectionComparisonPlan.Comparison;
+import com.github.spartatech.testutils.colletion.ReflectionComparisonPlan.FieldAccessor;
+
+/**
+ *
+ * Structural deep equality used by the reflection based asserts.
+ * Walks both object graphs side by side and stops at the first difference, without rendering any value to String.
+ *
+ * The rules applied for each pair of values are:
+ * - primitives, boxed types, Strings, Enums, java.time types, UUIDs, Dates and other JDK value types are compared using equals;
+ * - BigDecimals are compared numerically, so 1.0 and 1.00 are the same;
+ * - Optionals are compared by their content;
+ * - other JDK classes are compared using equals when they override it, otherwise by toString, as their fields can not
+ *   be reflected, so an AtomicInteger or a StringBuilder is compared by its value;
+ * - arrays, Lists, Sets and Maps are compared element by element;
+ * - any other object, records included, is compared field by field, including superclass fields.
+ *
+ * Excluded fields are given as an {@link ExclusionTrie}, which is walked down along with the object graph.
+ *
+ * Pairs already being compared are tracked by identity, so cyclic graphs terminate.
+ * Instances are not thread safe for {@link #areEqual(Object, Object)}, each thread must use its own,
+ * {@link #hash(Object)} keeps no state and can be shared.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *    Oct 19, 2026 - Sparta Team - Nested excluded field paths
+ *    Oct 19, 2026 - Sparta Team - Primitive fields compared first by a composed comparator
+ *    Oct 19, 2026 - Sparta Team - Array, collection and map roots compared as values
+ *    Oct 19, 2026 - Sparta Team - JDK classes without value equals compared by toString
+ *
+ */
+final class StructuralComparator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StructuralComparator.class);
+
+    /**
+     * How deep the object graph is unfolded when hashing, deeper values do not contribute to the hash.
+     */
+    private static final int HASH_DEPTH = 4;
+
+    /**
+     * Whether the equals of a value type compares values. Known value types are listed, other JDK classes qualify when
+     * they override equals. The others, like AtomicInteger, StringBuilder or locks, keep the identity equals of Object
+     * and are compared by toString instead.
+     */
+    private static final ClassValue<Boolean> EQUALS_BY_VALUE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            if (Enum.class.isAssignableFrom(type) || type == String.class || type == Boolean.class || type == Character.class
+                    || type == Byte.class || type == Short.class || type == Integer.class || type == Long.class
+                    || type == Float.class || type == Double.class || type == BigInteger.class || type == BigDecimal.class
+                    || type == UUID.class || type == Locale.class || type == Currency.class || type == URI.class
+                    || type == Class.class || Date.class.isAssignableFrom(type) || Path.class.isAssignableFrom(type)
+                    || type.getName().startsWith("java.time.")) {
+                return true;
+            }
+            try {
+                return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    /**
+     * Fields excluded from the comparison, starting at the root objects.
+     */
+    private final ExclusionTrie exclusions;
+
+    /**
+     * Pairs of objects currently being compared, used to break cycles.
+     */
+    private final Set<IdentityPair> visited = new HashSet<>();
+
+    /**
+     * Pairs in the order they were visited, allowing a failed trial match to be rolled back.
+     */
+    private final List<IdentityPair> visitLog = new ArrayList<>();
+
+    /**
+     * Constructor receiving the fields to be excluded.
+     *
+     * @param exclusions compiled paths of the fields that are not compared
+     */
+    StructuralComparator(ExclusionTrie exclusions) {
+        this.exclusions = exclusions;
+    }
+
+    /**
+     * Compares two root objects, applying the excluded fields.
+     *
+     * @param item1 left side object
+     * @param item2 right side object
+     * @return true when both are structurally equal
+     */
+    boolean areEqual(Object item1, Object item2) {
+        try {
+            if (item1 == item2) {
+                return true;
+            }
+            if (item1 == null || item2 == null || item1.getClass() != item2.getClass() || isValueType(item1.getClass())
+                    || item1.getClass().isArray() || item1 instanceof Collection<?> || item1 instanceof Map<?, ?>) {
+                return valuesEqual(item1, item2, exclusions);
+            }
+            return fieldsEqual(item1, item2, exclusions);
+        } finally {
+            visited.clear();
+            visitLog.clear();
+        }
+    }
+
+    /**
+     * Lists the fields of two root objects that are not structurally equal, applying the excluded fields.
+     *
+     * @param item1 left side object
+     * @param item2 right side object
+     * @return names of the differing fields, empty when the objects are not compared field by field
+     */
+    List<String> differingFields(Object item1, Object item2) {
+        final List<String> differing = new ArrayList<>();
+        if (item1 == null || item2 == null || item1.getClass() != item2.getClass() || isValueType(item1.getClass())
+                || item1.getClass().isArray() || item1 instanceof Collection<?> || item1 instanceof Map<?, ?>) {
+            return differing;
+        }
+        for (FieldAccessor field : ReflectionComparisonPlan.of(item1.getClass()).accessors(exclusions.excludedFields())) {
+            try {
+                final boolean equal = field.type().isPrimitive()
+                        ? field.primitiveEquals(item1, item2)
+                        : valuesEqual(field.get(item1), field.get(item2), exclusions.field(field.name()));
+                if (!equal) {
+                    differing.add(field.name());
+                }
+            } catch (RuntimeException e) {
+                differing.add(field.name());
+            } finally {
+                visited.clear();
+                visitLog.clear();
+            }
+        }
+        return differing;
+    }
+
+    /**
+     * Computes a 64 bits structural hash of a root object, applying the excluded fields.
+     * Objects that are equal according to {@link #areEqual(Object, Object)} always have the same hash.
+     * The graph is unfolded only up to a fixed depth, so cycles need no tracking.
+     *
+     * @param item object to be hashed
+     * @return structural hash
+     */
+    long hash(Object item) {
+        if (item == null || isValueType(item.getClass()) || item.getClass().isArray()
+                || item instanceof Collection<?> || item instanceof Map<?, ?>) {
+            return valueHash(item, HASH_DEPTH, exclusions);
+        }
+        try {
+            return fieldsHash(item, exclusions, HASH_DEPTH);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failure", e);
+            return fail("Exception not expected hashing " + item.getClass().getName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Finalization step of MurmurHash3, spreads the bits of a hash.
+     *
+     * @param hash hash to be mixed
+     * @return mixed hash
+     */
+    static long mix(long hash) {
+        long h = hash;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Hashes a value of any kind, consistent with {@link #valuesEqual(Object, Object, ExclusionTrie)}.
+     *
+     * @param value      value to be hashed
+     * @param depth      how many levels can still be unfolded
+     * @param exclusions fields excluded from the value
+     * @return structural hash
+     */
+    private static long valueHash(Object value, int depth, ExclusionTrie exclusions) {
+        if (value == null) {
+            return 0;
+        }
+        if (depth == 0) {
+            return 1;
+        }
+        if (value instanceof String string) {
+            long h = 1125899906842597L;
+            for (int i = 0; i < string.length(); i++) {
+                h = 31 * h + string.charAt(i);
+            }
+            return h;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Double doubleValue) {
+            return Double.doubleToLongBits(doubleValue);
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.stripTrailingZeros().hashCode();
+        }
+        if (value instanceof Enum<?> enumValue) {
+            return valueHash(enumValue.name(), depth, ExclusionTrie.NONE);
+        }
+        if (value instanceof List<?> list) {
+            long h = 1;
+            for (Object element : list) {
+                h = 31 * h + valueHash(element, depth - 1, exclusions.elements());
+            }
+            return h;
+        }
+        if (value instanceof Collection<?> collection) {
+            long h = collection.size();
+            for (Object element : collection) {
+                h += mix(valueHash(element, depth - 1, exclusions.elements()));
+            }
+            return h;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long h = map.size();
+            for (Object element : map.values()) {
+                h += mix(valueHash(element, depth - 1, exclusions.elements()));
+            }
+            return h;
+        }
+        if (value instanceof Object[] objects) {
+            long h = 1;
+            for (Object element : objects) {
+                h = 31 * h + valueHash(element, depth - 1, exclusions.elements());
+            }
+            return h;
+        }
+        if (value.getClass().isArray()) {
+            return primitiveArrayHash(value);
+        }
+        if (value instanceof Optional<?> optional) {
+            return valueHash(optional.orElse(null), depth, exclusions);
+        }
+        if (isValueType(value.getClass())) {
+            return EQUALS_BY_VALUE.get(value.getClass()) ? value.hashCode() : value.toString().hashCode();
+        }
+        return fieldsHash(value, exclusions, depth);
+    }
+
+    /**
+     * Hashes the non excluded fields of an object.
+     *
+     * @param item       object to be hashed
+     * @param exclusions fields to be skipped
+     * @param depth      how many levels can still be unfolded
+     * @return structural hash
+     */
+    private static long fieldsHash(Object item, ExclusionTrie exclusions, int depth) {
+        long h = 1;
+        for (FieldAccessor field : ReflectionComparisonPlan.of(item.getClass()).accessors(exclusions.excludedFields())) {
+            h = 31 * h + (field.type().isPrimitive()
+                    ? field.primitiveHash(item)
+                    : valueHash(field.get(item), depth - 1, exclusions.field(field.name())));
+        }
+        return h;
+    }
+
+    /**
+     * Hashes a primitive array, consistent with {@link Arrays#equals} for the array type.
+     *
+     * @param array primitive array
+     * @return hash of the array content
+     */
+    private static long primitiveArrayHash(Object array) {
+        if (array instanceof int[] ints) {
+            return Arrays.hashCode(ints);
+        }
+        if (array instanceof long[] longs) {
+            return Arrays.hashCode(longs);
+        }
+        if (array instanceof double[] doubles) {
+            return Arrays.hashCode(doubles);
+        }
+        if (array instanceof byte[] bytes) {
+            return Arrays.hashCode(bytes);
+        }
+        if (array instanceof char[] chars) {
+            return Arrays.hashCode(chars);
+        }
+        if (array instanceof boolean[] booleans) {
+            return Arrays.hashCode(booleans);
+        }
+        if (array instanceof float[] floats) {
+            return Arrays.hashCode(floats);
+        }
+        return Arrays.hashCode((short[]) array);
+    }
+
+    /**
+     * Compares two values of any kind.
+     *
+     * @param val1       left side value
+     * @param val2       right side value
+     * @param exclusions fields excluded from the values
+     * @return true when both are structurally equal
+     */
+    private boolean valuesEqual(Object val1, Object val2, ExclusionTrie exclusions) {
+        if (val1 == val2) {
+            return true;
+        }
+        if (val1 == null || val2 == null) {
+            return false;
+        }
+
+        final Class<?> type = val1.getClass();
+        if (val1 instanceof List<?> list1 && val2 instanceof List<?> list2) {
+            return alreadyVisited(val1, val2, exclusions) || listsEqual(list1, list2, exclusions.elements());
+        }
+        if (val1 instanceof Set<?> set1 && val2 instanceof Set<?> set2) {
+            return alreadyVisited(val1, val2, exclusions) || unorderedEqual(set1, set2, exclusions.elements());
+        }
+        if (val1 instanceof Map<?, ?> map1 && val2 instanceof Map<?, ?> map2) {
+            return alreadyVisited(val1, val2, exclusions) || mapsEqual(map1, map2, exclusions.elements());
+        }
+        if (type != val2.getClass()) {
+            return false;
+        }
+        if (val1 instanceof BigDecimal decimal1) {
+            return decimal1.compareTo((BigDecimal) val2) == 0;
+        }
+        if (type.isArray()) {
+            return alreadyVisited(val1, val2, exclusions) || arraysEqual(val1, val2, exclusions.elements());
+        }
+        if (val1 instanceof Collection<?> collection1) {
+            return alreadyVisited(val1, val2, exclusions) || unorderedEqual(collection1, (Collection<?>) val2, exclusions.elements());
+        }
+        if (val1 instanceof Optional<?> optional1) {
+            return valuesEqual(optional1.orElse(null), ((Optional<?>) val2).orElse(null), exclusions);
+        }
+        if (isValueType(type)) {
+            return EQUALS_BY_VALUE.get(type) ? val1.equals(val2) : val1.toString().equals(val2.toString());
+        }
+        return alreadyVisited(val1, val2, exclusions) || fieldsEqual(val1, val2, exclusions);
+    }
+
+    /**
+     * Compares all the non excluded fields of two objects of the same class, the primitive ones first.
+     *
+     * @param item1      left side object
+     * @param item2      right side object
+     * @param exclusions fields to be skipped
+     * @return true when all the fields are structurally equal
+     */
+    private boolean fieldsEqual(Object item1, Object item2, ExclusionTrie exclusions) {
+        final Comparison comparison = ReflectionComparisonPlan.of(item1.getClass()).comparison(exclusions.excludedFields());
+        if (!comparison.primitivesEqual(item1, item2)) {
+            return false;
+        }
+        for (FieldAccessor field : comparison.others()) {
+            final boolean equal;
+            try {
+                if (field.type().isPrimitive()) {
+                    equal = field.primitiveEquals(item1, item2);
+                } else {
+                    equal = valuesEqual(field.get(item1), field.get(item2), exclusions.field(field.name()));
+                }
+            } catch (RuntimeException e) {
+                LOGGER.error("Failure", e);
+                fail("Exception not expected comparing field "+ field.name() + ": " + e.getMessage());
+                return false;
+            }
+            if (!equal) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares two arrays of the same type element by element.
+     *
+     * @param array1     left side array
+     * @param array2     right side array
+     * @param exclusions fields excluded from the elements
+     * @return true when both arrays are structurally equal
+     */
+    private boolean arraysEqual(Object array1, Object array2, ExclusionTrie exclusions) {
+        if (array1 instanceof Object[] objects1) {
+            final Object[] objects2 = (Object[]) array2;
+            if (objects1.length != objects2.length) {
+                return false;
+            }
+            for (int i = 0; i < objects1.length; i++) {
+                if (!valuesEqual(objects1[i], objects2[i], exclusions)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (array1 instanceof int[] ints) {
+            return Arrays.equals(ints, (int[]) array2);
+        }
+        if (array1 instanceof long[] longs) {
+            return Arrays.equals(longs, (long[]) array2);
+        }
+        if (array1 instanceof double[] doubles) {
+            return Arrays.equals(doubles, (double[]) array2);
+        }
+        if (array1 instanceof byte[] bytes) {
+            return Arrays.equals(bytes, (byte[]) array2);
+        }
+        if (array1 instanceof char[] chars) {
+            return Arrays.equals(chars, (char[]) array2);
+        }
+        if (array1 instanceof boolean[] booleans) {
+            return Arrays.equals(booleans, (boolean[]) array2);
+        }
+        if (array1 instanceof float[] floats) {
+            return Arrays.equals(floats, (float[]) array2);
+        }
+        return Arrays.equals((short[]) array1, (short[]) array2);
+    }
+
+    /**
+     * Compares two lists in order.
+     *
+     * @param list1      left side list
+     * @param list2      right side list
+     * @param exclusions fields excluded from the elements
+     * @return true when both lists are structurally equal
+     */
+    private boolean listsEqual(List<?> list1, List<?> list2, ExclusionTrie exclusions) {
+        if (list1.size() != list2.size()) {
+            return false;
+        }
+        final Iterator<?> iterator2 = list2.iterator();
+        for (Object element : list1) {
+            if (!valuesEqual(element, iterator2.next(), exclusions)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares two collections ignoring the order of the elements.
+     *
+     * @param collection1 left side collection
+     * @param collection2 right side collection
+     * @param exclusions  fields excluded from the elements
+     * @return true when every element has a structurally equal pair on the other side
+     */
+    private boolean unorderedEqual(Collection<?> collection1, Collection<?> collection2, ExclusionTrie exclusions) {
+        if (collection1.size() != collection2.size()) {
+            return false;
+        }
+        final Object[] remaining = collection2.toArray();
+        int remainingSize = remaining.length;
+        for (Object element : collection1) {
+            int found = -1;
+            for (int i = 0; i < remainingSize && found < 0; i++) {
+                if (trialEqual(element, remaining[i], exclusions)) {
+                    found = i;
+                }
+            }
+            if (found < 0) {
+                return false;
+            }
+            remaining[found] = remaining[--remainingSize];
+        }
+        return true;
+    }
+
+    /**
+     * Compares two maps, keys are looked up directly and structurally when not found.
+     *
+     * @param map1       left side map
+     * @param map2       right side map
+     * @param exclusions fields excluded from the values
+     * @return true when both maps are structurally equal
+     */
+    private boolean mapsEqual(Map<?, ?> map1, Map<?, ?> map2, ExclusionTrie exclusions) {
+        if (map1.size() != map2.size()) {
+            return false;
+        }
+        for (Map.Entry<?, ?> entry : map1.entrySet()) {
+            if (map2.containsKey(entry.getKey())) {
+                if (!valuesEqual(entry.getValue(), map2.get(entry.getKey()), exclusions)) {
+                    return false;
+                }
+            } else if (!containsStructurally(map2, entry, exclusions)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Searches a map for an entry structurally equal to the given one.
+     *
+     * @param map        map to be searched
+     * @param entry      entry to look for
+     * @param exclusions fields excluded from the values
+     * @return true when an equal entry was found
+     */
+    private boolean containsStructurally(Map<?, ?> map, Map.Entry<?, ?> entry, ExclusionTrie exclusions) {
+        for (Map.Entry<?, ?> candidate : map.entrySet()) {
+            if (trialEqual(entry.getKey(), candidate.getKey(), ExclusionTrie.NONE)) {
+                return valuesEqual(entry.getValue(), candidate.getValue(), exclusions);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Registers a pair of objects as being compared.
+     * A pair found again is either part of a cycle or was already found equal,
+     * as the comparison stops at the first difference.
+     *
+     * @param val1       left side object
+     * @param val2       right side object
+     * @param exclusions fields excluded from the objects, the same pair may be compared with different exclusions
+     * @return true when the pair was already registered
+     */
+    private boolean alreadyVisited(Object val1, Object val2, ExclusionTrie exclusions) {
+        final IdentityPair pair = new IdentityPair(val1, val2, exclusions);
+        if (visited.add(pair)) {
+            visitLog.add(pair);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Compares two values while searching for a match, a failed attempt does not end the whole comparison,
+     * so the pairs visited during the attempt are forgotten.
+     *
+     * @param val1       left side value
+     * @param val2       right side value
+     * @param exclusions fields excluded from the values
+     * @return true when both are structurally equal
+     */
+    private boolean trialEqual(Object val1, Object val2, ExclusionTrie exclusions) {
+        final int mark = visitLog.size();
+        if (valuesEqual(val1, val2, exclusions)) {
+            return true;
+        }
+        for (int i = visitLog.size() - 1; i >= mark; i--) {
+            visited.remove(visitLog.remove(i));
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the class is compared as a single value rather than by its fields.
+     *
+     * @param type class to check
+     * @return true for primitive wrappers, enums and any JDK class that is not a container
+     */
+    static boolean isValueType(Class<?> type) {
+        if (Enum.class.isAssignableFrom(type)) {
+            return true;
+        }
+        if (type.isArray() || Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+            return false;
+        }
+        final String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.") || name.startsWith("sun.");
+    }
+
+    /**
+     * Pair of objects compared by identity.
+     *
+     * @param left       left side object
+     * @param right      right side object
+     * @param exclusions fields excluded while comparing the pair
+     */
+    private record IdentityPair(Object left, Object right, ExclusionTrie exclusions) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IdentityPair pair && pair.left == left && pair.right == right && pair.exclusions == exclusions;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(left) + System.identityHashCode(right);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.github.spartatech.testutils.colletion;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ *
+ * Pairs the elements of two iterators that are in order except for displacements of at most a window of positions.
+ *
+ * Both sides are consumed in lockstep. An element is paired with the first pending element of the other side
+ * that has the same hash and is compared as 0, otherwise it becomes pending itself. Once the other side has read
+ * past the window of a pending element, it can no longer be paired and is reported, so each side never holds more
+ * than window + 1 pending elements and the whole comparison takes linear time.
+ *
+ * Only the first elements that could not be paired are kept for the report. Before failing they are paired among
+ * themselves, telling apart the elements that were displaced further than the window from the missing ones.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ * @param <A> Type of element
+ */
+final class WindowedMatcher<A> {
+
+    private final Comparator<? super A> elementComparator;
+    private final ToLongFunction<? super A> hashFunction;
+    private final int window;
+    private final int maxReported = FailureReport.maxElements();
+
+    private final Side one = new Side();
+    private final Side two = new Side();
+
+    /**
+     * Constructor receiving how to compare elements.
+     *
+     * @param elementComparator comparator to compare records
+     * @param hashFunction      hash of an element, elements compared as 0 must have the same hash
+     * @param window            maximum displacement allowed, in positions
+     */
+    private WindowedMatcher(Comparator<? super A> elementComparator, ToLongFunction<? super A> hashFunction, int window) {
+        this.elementComparator = elementComparator;
+        this.hashFunction = hashFunction;
+        this.window = window;
+    }
+
+    /**
+     * Pairs the elements of two iterators, consuming both completely, failing when any element was not paired within the window.
+     *
+     * @param <A>               Type of element
+     * @param iteratorOne       left side elements
+     * @param iteratorTwo       right side elements
+     * @param elementComparator comparator to compare records
+     * @param hashFunction      hash of an element, elements compared as 0 must have the same hash
+     * @param window            maximum displacement allowed, in positions
+     */
+    static <A> void assertWithin(Iterator<? extends A> iteratorOne, Iterator<? extends A> iteratorTwo,
+                                 Comparator<? super A> elementComparator, ToLongFunction<? super A> hashFunction, int window) {
+        if (window < 0) {
+            throw new IllegalArgumentException("Window must not be negative: " + window);
+        }
+        new WindowedMatcher<A>(elementComparator, hashFunction, window).match(iteratorOne, iteratorTwo);
+    }
+
+    /**
+     * Consumes both iterators in lockstep, expiring the pending elements that left the window.
+     *
+     * @param iteratorOne left side elements
+     * @param iteratorTwo right side elements
+     */
+    private void match(Iterator<? extends A> iteratorOne, Iterator<? extends A> iteratorTwo) {
+        long position = 0;
+        while (iteratorOne.hasNext() || iteratorTwo.hasNext()) {
+            if (iteratorOne.hasNext()) {
+                offer(iteratorOne.next(), position, two, one, true);
+            }
+            if (iteratorTwo.hasNext()) {
+                offer(iteratorTwo.next(), position, one, two, false);
+            }
+            one.expire(position - window);
+            two.expire(position - window);
+            position++;
+        }
+        one.expire(Long.MAX_VALUE);
+        two.expire(Long.MAX_VALUE);
+
+        if (one.unpaired > 0 || two.unpaired > 0) {
+            fail(report());
+        }
+    }
+
+    /**
+     * Pairs an element with a pending one from the other side, or adds it as pending.
+     *
+     * @param element   element read
+     * @param position  position of the element in its side
+     * @param other     the other side
+     * @param own       the element side
+     * @param isListOne whether the element belongs to list one, which is always the left side of the comparator
+     */
+    private void offer(A element, long position, Side other, Side own, boolean isListOne) {
+        final Long hash = hashFunction.applyAsLong(element);
+        final List<Pending<A>> candidates = other.byHash.get(hash);
+        if (candidates != null) {
+            for (int i = 0; i < candidates.size(); i++) {
+                final Pending<A> candidate = candidates.get(i);
+                if (compare(element, candidate.element, isListOne) == 0) {
+                    candidates.remove(i);
+                    if (candidates.isEmpty()) {
+                        other.byHash.remove(hash);
+                    }
+                    candidate.paired = true;
+                    return;
+                }
+            }
+        }
+        final Pending<A> pending = new Pending<>(position, hash, element);
+        own.byHash.computeIfAbsent(hash, key -> new ArrayList<>(1)).add(pending);
+        own.inOrder.addLast(pending);
+    }
+
+    /**
+     * Compares two elements keeping list one on the left side.
+     *
+     * @param element   element read
+     * @param candidate pending element of the other side
+     * @param isListOne whether the element belongs to list one
+     * @return comparator result
+     */
+    private int compare(A element, A candidate, boolean isListOne) {
+        return isListOne ? elementComparator.compare(element, candidate) : elementComparator.compare(candidate, element);
+    }
+
+    /**
+     * Describes the elements not paired within the window.
+     *
+     * @return failure message
+     */
+    private String report() {
+        final FailureReport report = new FailureReport("Lists are not similar within a window of " + window + " positions.");
+        final List<Pending<A>> extra = new ArrayList<>(two.reported);
+        for (Pending<A> pending : one.reported) {
+            Pending<A> found = null;
+            for (int i = 0; i < extra.size() && found == null; i++) {
+                if (extra.get(i).hash == pending.hash && elementComparator.compare(pending.element, extra.get(i).element) == 0) {
+                    found = extra.remove(i);
+                }
+            }
+            if (found == null) {
+                report.line("List one: Missing at position [" + pending.position + "]: " + FailureReport.describe(pending.element));
+            } else {
+                report.line("List one: Displaced from position [" + pending.position + "] to [" + found.position + "] in list two: "
+                        + FailureReport.describe(pending.element));
+            }
+        }
+        for (Pending<A> pending : extra) {
+            report.line("List two: Extra at position [" + pending.position + "]: " + FailureReport.describe(pending.element));
+        }
+        report.line("Elements not paired within the window: " + one.unpaired + " in list one, " + two.unpaired + " in list two");
+        return report.toString();
+    }
+
+    /**
+     * Pending elements of one side.
+     */
+    private final class Side {
+        private final Map<Long, List<Pending<A>>> byHash = new HashMap<>();
+        private final ArrayDeque<Pending<A>> inOrder = new ArrayDeque<>();
+        private final List<Pending<A>> reported = new ArrayList<>();
+        private long unpaired;
+
+        /**
+         * Gives up the pending elements read up to a position.
+         *
+         * @param lastPosition last position that can no longer be paired
+         */
+        void expire(long lastPosition) {
+            while (!inOrder.isEmpty() && inOrder.peekFirst().position <= lastPosition) {
+                final Pending<A> pending = inOrder.pollFirst();
+                if (pending.paired) {
+                    continue;
+                }
+                final List<Pending<A>> sameHash = byHash.get(pending.hash);
+                sameHash.remove(pending);
+                if (sameHash.isEmpty()) {
+                    byHash.remove(pending.hash);
+                }
+                if (unpaired++ < maxReported) {
+                    reported.add(pending);
+                }
+            }
+        }
+    }
+
+    /**
+     * Element waiting for a pair.
+     *
+     * @param <A> Type of element
+     */
+    private static final class Pending<A> {
+        private final long position;
+        private final long hash;
+        private final A element;
+        private boolean paired;
+
+        /**
+         * @param position position of the element in its side
+         * @param hash     hash of the element
+         * @param element  the element
+         */
+        Pending(long position, long hash, A element) {
+            this.position = position;
+            this.hash = hash;
+            this.element = element;
+        }
+    }
+}
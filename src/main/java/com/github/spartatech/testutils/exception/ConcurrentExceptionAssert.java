@@ -0,0 +1,120 @@
+package com.github.spartatech.testutils.exception;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Stress runs of a Processable, to find races.
+ * The Processable runs a number of times spread across several threads, all of them released together by a barrier
+ * so they contend from the first run. Every exception thrown is counted by type and message, without locks on the
+ * hot path, and the distribution is returned as a {@link StressResult} to be asserted.
+ *
+ * Threads are created by a ThreadFactory, platform threads by default. On Java 21 or later virtual threads can be used
+ * passing Thread.ofVirtual().factory().
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *  Oct 19, 2026 - Sparta Team
+ */
+public abstract class ConcurrentExceptionAssert {
+
+	private static final AtomicInteger STRESS_ID = new AtomicInteger();
+
+	/**
+	 * Runs a Processable across platform threads.
+	 *
+	 * @param runs        total number of runs, spread across all the threads
+	 * @param threads     number of threads running at the same time
+	 * @param processable the execution to be stressed
+	 * @return exceptions thrown, grouped by type and message
+	 * @throws InterruptedException when the calling thread is interrupted while waiting for the runs
+	 */
+	public static StressResult stress(long runs, int threads, Processable processable) throws InterruptedException {
+		final int id = STRESS_ID.incrementAndGet();
+		final AtomicInteger count = new AtomicInteger();
+		return stress(runs, threads, task -> {
+			final Thread thread = new Thread(task, "stress-" + id + "-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}, processable);
+	}
+
+	/**
+	 * Runs a Processable across threads created by a factory.
+	 *
+	 * @param runs          total number of runs, spread across all the threads
+	 * @param threads       number of threads running at the same time
+	 * @param threadFactory creates the threads running the Processable
+	 * @param processable   the execution to be stressed
+	 * @return exceptions thrown, grouped by type and message
+	 * @throws InterruptedException when the calling thread is interrupted while waiting for the runs
+	 * @throws IllegalArgumentException when runs is negative or threads is not positive
+	 */
+	public static StressResult stress(long runs, int threads, ThreadFactory threadFactory, Processable processable)
+			throws InterruptedException, IllegalArgumentException {
+		if (runs < 0 || threads < 1) {
+			throw new IllegalArgumentException("Invalid stress of " + runs + " runs on " + threads + " threads");
+		}
+		final StressResult result = new StressResult(runs);
+		final CyclicBarrier barrier = new CyclicBarrier(threads);
+		final AtomicLong claimed = new AtomicLong();
+		final Runnable worker = () -> {
+			try {
+				barrier.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (BrokenBarrierException e) {
+				return;
+			}
+			while (claimed.getAndIncrement() < runs) {
+				try {
+					processable.process();
+				} catch (Throwable e) {
+					result.record(e);
+				}
+			}
+		};
+
+		final List<Thread> started = new ArrayList<>(threads);
+		try {
+			for (int i = 0; i < threads; i++) {
+				final Thread thread = threadFactory.newThread(worker);
+				thread.start();
+				started.add(thread);
+			}
+		} finally {
+			if (started.size() < threads) {
+				barrier.reset();
+			}
+		}
+		for (Thread thread : started) {
+			thread.join();
+		}
+		if (claimed.get() < runs) {
+			throw new AssertionFailedError("Stress did not complete: threads were interrupted before the runs were claimed");
+		}
+		return result;
+	}
+
+	/**
+	 * Runs a Processable across platform threads and asserts it never throws.
+	 *
+	 * @param runs        total number of runs, spread across all the threads
+	 * @param threads     number of threads running at the same time
+	 * @param processable the execution to be stressed
+	 * @throws InterruptedException when the calling thread is interrupted while waiting for the runs
+	 * @throws AssertionFailedError when any run throws
+	 */
+	public static void assertNoExceptions(long runs, int threads, Processable processable) throws InterruptedException, AssertionFailedError {
+		stress(runs, threads, processable).assertNoExceptions();
+	}
+}
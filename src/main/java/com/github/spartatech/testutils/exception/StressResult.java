@@ -0,0 +1,255 @@
+package com.github.spartatech.testutils.exception;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Exceptions thrown by a stress run of {@link ConcurrentExceptionAssert}, grouped by type and message.
+ * The first exception of each group is kept, and added as cause of the failures, to show its stack trace.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *  Oct 19, 2026 - Sparta Team
+ *  Oct 19, 2026 - Sparta Team - Expected types copied once in assertOnly
+ */
+public final class StressResult {
+
+	private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+
+	private final long runs;
+	private final Map<ExceptionKey, Group> groups = new ConcurrentHashMap<>();
+
+	/**
+	 * Group of exceptions: exception type and message.
+	 *
+	 * @param type    class of the exceptions
+	 * @param message message of the exceptions, null when they have none
+	 */
+	public record ExceptionKey(Class<? extends Throwable> type, String message) {
+
+		@Override
+		public String toString() {
+			return message == null ? type.getName() : type.getName() + ": " + message;
+		}
+	}
+
+	/**
+	 * Counter of a group, with its first exception.
+	 */
+	private static final class Group {
+		private final LongAdder count = new LongAdder();
+		private final Throwable first;
+
+		/**
+		 * @param first first exception of the group
+		 */
+		Group(Throwable first) {
+			this.first = first;
+		}
+	}
+
+	/**
+	 * Constructor receiving the number of runs.
+	 *
+	 * @param runs total number of runs
+	 */
+	StressResult(long runs) {
+		this.runs = runs;
+	}
+
+	/**
+	 * Counts an exception, only a lookup and a LongAdder increment once its group exists.
+	 *
+	 * @param exception exception thrown by a run
+	 */
+	void record(Throwable exception) {
+		final ExceptionKey key = new ExceptionKey(exception.getClass(), exception.getMessage());
+		Group group = groups.get(key);
+		if (group == null) {
+			final Group created = new Group(exception);
+			group = groups.putIfAbsent(key, created);
+			if (group == null) {
+				group = created;
+			}
+		}
+		group.count.increment();
+	}
+
+	/**
+	 * @return total number of runs
+	 */
+	public long runs() {
+		return runs;
+	}
+
+	/**
+	 * @return number of runs that threw
+	 */
+	public long failures() {
+		long failures = 0;
+		for (Group group : groups.values()) {
+			failures += group.count.sum();
+		}
+		return failures;
+	}
+
+	/**
+	 * Number of exceptions of each type and message.
+	 *
+	 * @return counts by group
+	 */
+	public Map<ExceptionKey, Long> counts() {
+		final Map<ExceptionKey, Long> counts = new LinkedHashMap<>();
+		sortedGroups().forEach(entry -> counts.put(entry.getKey(), entry.getValue().count.sum()));
+		return counts;
+	}
+
+	/**
+	 * Number of exceptions of a type, or of its subclasses, with any message.
+	 *
+	 * @param type exception type
+	 * @return number of exceptions
+	 */
+	public long count(Class<? extends Throwable> type) {
+		long count = 0;
+		for (Map.Entry<ExceptionKey, Group> entry : groups.entrySet()) {
+			if (type.isAssignableFrom(entry.getKey().type())) {
+				count += entry.getValue().count.sum();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Number of exceptions of a type, or of its subclasses, with a message.
+	 *
+	 * @param type    exception type
+	 * @param message exception message
+	 * @return number of exceptions
+	 */
+	public long count(Class<? extends Throwable> type, String message) {
+		long count = 0;
+		for (Map.Entry<ExceptionKey, Group> entry : groups.entrySet()) {
+			if (type.isAssignableFrom(entry.getKey().type()) && Objects.equals(message, entry.getKey().message())) {
+				count += entry.getValue().count.sum();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Asserts no run threw.
+	 *
+	 * @throws AssertionFailedError when any run threw
+	 */
+	public void assertNoExceptions() throws AssertionFailedError {
+		if (!groups.isEmpty()) {
+			fail("Expected no exceptions", groups.keySet().stream().toList());
+		}
+	}
+
+	/**
+	 * Asserts every exception thrown is of one of the expected types, or of their subclasses.
+	 *
+	 * @param expectedTypes exception types allowed
+	 * @throws AssertionFailedError when any run threw another type
+	 */
+	@SafeVarargs
+	public final void assertOnly(Class<? extends Throwable>... expectedTypes) throws AssertionFailedError {
+		final List<ExceptionKey> unexpected = new ArrayList<>();
+		for (ExceptionKey key : groups.keySet()) {
+			boolean expected = false;
+			for (Class<? extends Throwable> type : expectedTypes) {
+				expected |= type.isAssignableFrom(key.type());
+			}
+			if (!expected) {
+				unexpected.add(key);
+			}
+		}
+		if (!unexpected.isEmpty()) {
+			final List<String> expectedNames = new ArrayList<>();
+			for (Class<? extends Throwable> type : expectedTypes) {
+				expectedNames.add(type.getName());
+			}
+			fail("Unexpected exceptions, only " + expectedNames + " were expected", unexpected);
+		}
+	}
+
+	/**
+	 * Asserts how many exceptions of a type, or of its subclasses, were thrown.
+	 *
+	 * @param type     exception type
+	 * @param expected expected number of exceptions
+	 * @throws AssertionFailedError when the count differs
+	 */
+	public void assertCount(Class<? extends Throwable> type, long expected) throws AssertionFailedError {
+		final long actual = count(type);
+		if (actual != expected) {
+			fail("Expected " + expected + " exceptions of " + type.getName() + " but were " + actual, matching(type));
+		}
+	}
+
+	/**
+	 * Asserts at most a number of exceptions of a type, or of its subclasses, were thrown.
+	 *
+	 * @param type    exception type
+	 * @param maximum maximum number of exceptions
+	 * @throws AssertionFailedError when the count is larger
+	 */
+	public void assertAtMost(Class<? extends Throwable> type, long maximum) throws AssertionFailedError {
+		final long actual = count(type);
+		if (actual > maximum) {
+			fail("Expected at most " + maximum + " exceptions of " + type.getName() + " but were " + actual, matching(type));
+		}
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder msg = new StringBuilder().append(failures()).append(" of ").append(runs).append(" runs threw");
+		sortedGroups().forEach(entry -> msg.append(LINE_SEPARATOR).append("  ").append(entry.getValue().count.sum())
+				.append(" x ").append(entry.getKey()));
+		return msg.toString();
+	}
+
+	/**
+	 * @param type exception type
+	 * @return groups of the type or of its subclasses
+	 */
+	private List<ExceptionKey> matching(Class<? extends Throwable> type) {
+		return groups.keySet().stream().filter(key -> type.isAssignableFrom(key.type())).toList();
+	}
+
+	/**
+	 * @return groups, the most frequent first
+	 */
+	private List<Map.Entry<ExceptionKey, Group>> sortedGroups() {
+		final List<Map.Entry<ExceptionKey, Group>> sorted = new ArrayList<>(groups.entrySet());
+		sorted.sort(Comparator.comparingLong((Map.Entry<ExceptionKey, Group> entry) -> entry.getValue().count.sum()).reversed()
+				.thenComparing(entry -> entry.getKey().toString()));
+		return sorted;
+	}
+
+	/**
+	 * Fails showing the distribution, with the first exception of the offending groups as cause.
+	 *
+	 * @param header    first line of the message
+	 * @param offending groups causing the failure
+	 */
+	private void fail(String header, List<ExceptionKey> offending) {
+		final AssertionFailedError error = new AssertionFailedError(header + LINE_SEPARATOR + this,
+				offending.isEmpty() ? null : groups.get(offending.get(0)).first);
+		for (int i = 1; i < offending.size(); i++) {
+			error.addSuppressed(groups.get(offending.get(i)).first);
+		}
+		throw error;
+	}
+}
@@ -0,0 +1,153 @@
+package com.github.spartatech.testutils.performance;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ *
+ * Reads and appends performance baseline files: tab separated text, one measurement per line, so the file is only ever
+ * appended to and its history diffs well. Lines starting with # are comments.
+ * Latencies are stored in nanos along with the nanos of the calibration loop run on the same machine, so they can be
+ * normalized when compared on another machine. Allocation does not depend on the machine and is stored as is.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+final class Baseline {
+
+    /** System property that, when true, makes the baseline asserts append the measurements instead of comparing */
+    static final String UPDATE_PROPERTY = "sparta.testutils.performance.baseline.update";
+
+    private static final String HEADER = "# name\trecorded\tcalibrationNanos\tmeanNanos\tp50Nanos\tp90Nanos\tp99Nanos\tallocatedBytesPerRun";
+    private static final int COLUMNS = 8;
+
+    /**
+     * One measurement of a baseline file.
+     *
+     * @param name             name of the measured code
+     * @param recorded         when it was measured
+     * @param calibrationNanos nanos of the calibration loop on the machine measured
+     * @param meanNanos        average latency
+     * @param p50Nanos         latency at percentile 50
+     * @param p90Nanos         latency at percentile 90
+     * @param p99Nanos         latency at percentile 99
+     * @param allocatedBytes   bytes allocated per run, NaN when the JVM could not count them
+     */
+    record Entry(String name, Instant recorded, long calibrationNanos, double meanNanos, long p50Nanos, long p90Nanos, long p99Nanos,
+                 double allocatedBytes) {
+
+        /**
+         * @return the entry as a line, without terminator
+         */
+        String format() {
+            return String.join("\t", name, recorded.toString(), Long.toString(calibrationNanos), String.format(Locale.ROOT, "%.1f", meanNanos),
+                    Long.toString(p50Nanos), Long.toString(p90Nanos), Long.toString(p99Nanos), String.format(Locale.ROOT, "%.1f", allocatedBytes));
+        }
+
+        /**
+         * Parses a line.
+         *
+         * @param line line of a baseline file
+         * @return parsed entry
+         * @throws IllegalArgumentException when the line is malformed
+         */
+        static Entry parse(String line) throws IllegalArgumentException {
+            final String[] columns = line.split("\t", -1);
+            if (columns.length != COLUMNS) {
+                throw new IllegalArgumentException("expected " + COLUMNS + " tab separated columns but found " + columns.length);
+            }
+            try {
+                return new Entry(columns[0], Instant.parse(columns[1]), Long.parseLong(columns[2]), Double.parseDouble(columns[3]),
+                        Long.parseLong(columns[4]), Long.parseLong(columns[5]), Long.parseLong(columns[6]), Double.parseDouble(columns[7]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the baseline asserts should append the measurements.
+     *
+     * @return true when the update property is set
+     */
+    static boolean updating() {
+        return Boolean.getBoolean(UPDATE_PROPERTY);
+    }
+
+    /**
+     * Reads the most recent entries of a name.
+     *
+     * @param path    baseline file
+     * @param name    name of the measured code
+     * @param maximum maximum number of entries
+     * @return entries of the name, oldest first, empty when the file does not exist
+     * @throws IOException when the file can not be read
+     * @throws IllegalStateException when a line is malformed
+     */
+    static List<Entry> read(Path path, String name, int maximum) throws IOException, IllegalStateException {
+        final Deque<Entry> entries = new ArrayDeque<>(maximum + 1);
+        if (!Files.exists(path)) {
+            return List.of();
+        }
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#") || !line.startsWith(name + "\t")) {
+                    continue;
+                }
+                try {
+                    entries.addLast(Entry.parse(line));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalStateException("Malformed line " + lineNumber + " of baseline file " + path + ": " + e.getMessage(), e);
+                }
+                if (entries.size() > maximum) {
+                    entries.removeFirst();
+                }
+            }
+        }
+        return new ArrayList<>(entries);
+    }
+
+    /**
+     * Appends an entry, creating the file with a header line when it does not exist.
+     *
+     * @param path  baseline file
+     * @param entry entry to append
+     * @throws IOException when the file can not be written
+     */
+    static void append(Path path, Entry entry) throws IOException {
+        final Path absolute = path.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        final boolean created = !Files.exists(absolute);
+        try (Writer writer = Files.newBufferedWriter(absolute, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (created) {
+                writer.write(HEADER);
+                writer.write('\n');
+            }
+            writer.write(entry.format());
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Not instantiable.
+     */
+    private Baseline() {
+    }
+}
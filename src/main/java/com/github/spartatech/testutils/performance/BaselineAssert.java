@@ -0,0 +1,268 @@
+package com.github.spartatech.testutils.performance;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToDoubleFunction;
+
+import org.opentest4j.AssertionFailedError;
+import org.opentest4j.TestAbortedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.spartatech.testutils.exception.Processable;
+import com.github.spartatech.testutils.performance.Baseline.Entry;
+
+/**
+ *
+ * Performance regression assertions against a baseline file kept with the tests.
+ * Latencies are divided by the time of a short calibration loop run on the same machine before being compared, so a
+ * baseline recorded on a developer machine holds on slower CI hardware. The calibration loop is CPU bound, code bound by
+ * memory or IO normalizes less precisely and needs a larger tolerance.
+ * The last measurements of each name in the file are the baseline: a metric regresses when it is above their median by more
+ * than the tolerance plus three times their spread. Running with the system property
+ * sparta.testutils.performance.baseline.update=true appends the new measurements to the file instead of comparing.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+public abstract class BaselineAssert {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BaselineAssert.class);
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+
+    /**
+     * Default tolerance: 25% above the baseline.
+     */
+    public static final double DEFAULT_TOLERANCE = 0.25;
+
+    /**
+     * Measurements of a name compared against, the most recent ones.
+     */
+    private static final int BASELINE_SAMPLES = 5;
+
+    /**
+     * Iterations of the calibration loop, about a millisecond on current hardware.
+     */
+    private static final int CALIBRATION_ITERATIONS = 1 << 20;
+
+    /**
+     * Runs of the calibration loop, the fastest one is kept.
+     */
+    private static final int CALIBRATION_RUNS = 5;
+
+    /**
+     * Scale from the median absolute deviation to the standard deviation of normally distributed values.
+     */
+    private static final double MAD_TO_SIGMA = 1.4826;
+
+    private static final double SPREADS_ALLOWED = 3;
+
+    private static volatile long calibrationSink;
+
+    /**
+     * Assert a Processable did not regress against its baseline: mean, percentiles 50, 90 and 99 and allocated bytes per run.
+     * When updating, the measurements are appended to the baseline file instead.
+     *
+     * @param baseline    baseline file
+     * @param name        name of the measured code in the baseline file, without tabs or line breaks
+     * @param tolerance   relative increase allowed above the baseline, 0.25 for 25%
+     * @param measurement iterations to run
+     * @param processable the execution to be measured
+     * @return statistics of the measured iterations
+     * @throws AssertionFailedError when any metric regressed, or there is no baseline for the name
+     * @throws IllegalArgumentException when the name has tabs or line breaks, or the tolerance is negative
+     * @throws IllegalStateException when the baseline file has malformed lines
+     * @throws Exception when the Processable throws
+     */
+    public static PerformanceResult assertNoRegression(Path baseline, String name, double tolerance, Measurement measurement,
+                                                       Processable processable) throws AssertionFailedError, Exception {
+        if (name.isEmpty() || name.indexOf('\t') >= 0 || name.indexOf('\n') >= 0 || name.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("Baseline name must not be empty nor have tabs or line breaks: " + name);
+        }
+        if (tolerance < 0 || Double.isNaN(tolerance)) {
+            throw new IllegalArgumentException("Tolerance must not be negative: " + tolerance);
+        }
+        final long calibrationNanos = calibrate();
+        final PerformanceResult result = PerformanceAssert.measure(measurement, processable);
+        double allocated;
+        try {
+            allocated = PerformanceAssert.measureAllocation(measurement, processable);
+        } catch (TestAbortedException e) {
+            allocated = Double.NaN;
+        }
+        final Entry actual = new Entry(name, Instant.now(), calibrationNanos, result.histogram().mean(), result.histogram().percentile(50),
+                result.histogram().percentile(90), result.histogram().percentile(99), allocated);
+
+        try {
+            if (Baseline.updating()) {
+                Baseline.append(baseline, actual);
+                LOGGER.info("Baseline {} of {} updated: {}", name, baseline, actual.format());
+                return result;
+            }
+            final List<Entry> entries = Baseline.read(baseline, name, BASELINE_SAMPLES);
+            if (entries.isEmpty()) {
+                throw new AssertionFailedError("No baseline for " + name + " in " + baseline + ", run with -D" + Baseline.UPDATE_PROPERTY
+                        + "=true to record it" + LINE_SEPARATOR + result.table());
+            }
+            compare(baseline, entries, actual, tolerance);
+        } catch (IOException e) {
+            throw new AssertionFailedError("Could not access baseline file " + baseline + ": " + e.getMessage(), e);
+        }
+        return result;
+    }
+
+    /**
+     * Assert a Processable did not regress against its baseline, with the default tolerance and measurement.
+     *
+     * @param baseline    baseline file
+     * @param name        name of the measured code in the baseline file, without tabs or line breaks
+     * @param processable the execution to be measured
+     * @return statistics of the measured iterations
+     * @throws AssertionFailedError when any metric regressed, or there is no baseline for the name
+     * @throws IllegalStateException when the baseline file has malformed lines
+     * @throws Exception when the Processable throws
+     */
+    public static PerformanceResult assertNoRegression(Path baseline, String name, Processable processable) throws AssertionFailedError, Exception {
+        return assertNoRegression(baseline, name, DEFAULT_TOLERANCE, Measurement.DEFAULT, processable);
+    }
+
+    /**
+     * Compares every metric, failing with the table of all of them when any regressed.
+     *
+     * @param baseline  baseline file
+     * @param entries   baseline entries of the name
+     * @param actual    current measurement
+     * @param tolerance relative increase allowed
+     */
+    private static void compare(Path baseline, List<Entry> entries, Entry actual, double tolerance) {
+        final StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%12s %14s %14s %14s %9s", "Metric", "Baseline", "Limit", "Actual", "Change"));
+        boolean regressed = false;
+        regressed |= compareLatency(table, "mean", entries, actual, Entry::meanNanos, tolerance);
+        regressed |= compareLatency(table, "p50", entries, actual, entry -> entry.p50Nanos(), tolerance);
+        regressed |= compareLatency(table, "p90", entries, actual, entry -> entry.p90Nanos(), tolerance);
+        regressed |= compareLatency(table, "p99", entries, actual, entry -> entry.p99Nanos(), tolerance);
+        regressed |= compareAllocation(table, entries, actual, tolerance);
+        if (regressed) {
+            throw new AssertionFailedError(String.format(Locale.ROOT, "Performance of %s regressed against %d baseline measurements of %s, tolerance %.0f%%",
+                    actual.name(), entries.size(), baseline, tolerance * 100) + LINE_SEPARATOR + table);
+        }
+        LOGGER.debug("Performance of {} within its baseline{}{}", actual.name(), LINE_SEPARATOR, table);
+    }
+
+    /**
+     * Compares a latency normalized by the calibration loop, reported in nanos of this machine.
+     *
+     * @param table     table of the metrics being built
+     * @param metric    name of the metric
+     * @param entries   baseline entries
+     * @param actual    current measurement
+     * @param latency   reads the latency of an entry
+     * @param tolerance relative increase allowed
+     * @return true when it regressed
+     */
+    private static boolean compareLatency(StringBuilder table, String metric, List<Entry> entries, Entry actual,
+                                          ToDoubleFunction<Entry> latency, double tolerance) {
+        final double[] normalized = entries.stream().mapToDouble(entry -> latency.applyAsDouble(entry) / entry.calibrationNanos()).toArray();
+        final double scale = actual.calibrationNanos();
+        final double expected = median(normalized) * scale;
+        final double limit = limit(normalized, tolerance) * scale;
+        final double value = latency.applyAsDouble(actual);
+        final boolean regressed = value > limit;
+        table.append(LINE_SEPARATOR).append(String.format(Locale.ROOT, "%12s %14s %14s %14s %9s%s", metric,
+                PerformanceResult.format(Math.round(expected)), PerformanceResult.format(Math.round(limit)),
+                PerformanceResult.format(Math.round(value)), change(expected, value), regressed ? "  <-- regression" : ""));
+        return regressed;
+    }
+
+    /**
+     * Compares the bytes allocated per run, skipped when not counted by either side.
+     *
+     * @param table     table of the metrics being built
+     * @param entries   baseline entries
+     * @param actual    current measurement
+     * @param tolerance relative increase allowed
+     * @return true when it regressed
+     */
+    private static boolean compareAllocation(StringBuilder table, List<Entry> entries, Entry actual, double tolerance) {
+        final double[] allocated = entries.stream().mapToDouble(Entry::allocatedBytes).filter(bytes -> !Double.isNaN(bytes)).toArray();
+        if (allocated.length == 0 || Double.isNaN(actual.allocatedBytes())) {
+            return false;
+        }
+        final double expected = median(allocated);
+        final double limit = limit(allocated, tolerance);
+        final boolean regressed = actual.allocatedBytes() > limit;
+        table.append(LINE_SEPARATOR).append(String.format(Locale.ROOT, "%12s %14s %14s %14s %9s%s", "bytes/run",
+                String.format(Locale.ROOT, "%.1f B", expected), String.format(Locale.ROOT, "%.1f B", limit),
+                String.format(Locale.ROOT, "%.1f B", actual.allocatedBytes()), change(expected, actual.allocatedBytes()),
+                regressed ? "  <-- regression" : ""));
+        return regressed;
+    }
+
+    /**
+     * Highest value allowed: the median increased by the tolerance, plus three standard deviations estimated from the
+     * median absolute deviation, which a single outlier measurement does not inflate.
+     *
+     * @param values    baseline values
+     * @param tolerance relative increase allowed
+     * @return limit
+     */
+    private static double limit(double[] values, double tolerance) {
+        final double median = median(values);
+        final double[] deviations = Arrays.stream(values).map(value -> Math.abs(value - median)).toArray();
+        return median * (1 + tolerance) + SPREADS_ALLOWED * MAD_TO_SIGMA * median(deviations);
+    }
+
+    /**
+     * @param values values, not empty
+     * @return median of the values
+     */
+    private static double median(double[] values) {
+        final double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        final int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    /**
+     * @param expected baseline value
+     * @param value    actual value
+     * @return relative change, formatted
+     */
+    private static String change(double expected, double value) {
+        if (expected == 0) {
+            return value == 0 ? "+0.0%" : "n/a";
+        }
+        return String.format(Locale.ROOT, "%+.1f%%", (value - expected) / expected * 100);
+    }
+
+    /**
+     * Times a fixed CPU bound loop, the fastest of a few runs after one discarded, as the speed of this machine.
+     *
+     * @return nanos of the calibration loop
+     */
+    static long calibrate() {
+        long fastest = Long.MAX_VALUE;
+        for (int run = 0; run <= CALIBRATION_RUNS; run++) {
+            final long start = System.nanoTime();
+            long x = run + 1;
+            for (int i = 0; i < CALIBRATION_ITERATIONS; i++) {
+                x ^= x << 13;
+                x ^= x >>> 7;
+                x ^= x << 17;
+            }
+            final long elapsed = System.nanoTime() - start;
+            calibrationSink = x;
+            if (run > 0) {
+                fastest = Math.min(fastest, elapsed);
+            }
+        }
+        return Math.max(1, fastest);
+    }
+}
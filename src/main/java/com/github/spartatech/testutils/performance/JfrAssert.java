@@ -0,0 +1,234 @@
+package com.github.spartatech.testutils.performance;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+import org.junit.jupiter.api.Assumptions;
+import org.opentest4j.AssertionFailedError;
+
+import com.github.spartatech.testutils.exception.Processable;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ *
+ * Runtime assertions over a Processable using an in-process Java Flight Recorder recording.
+ * Only garbage collection, monitor enter and thread park events are enabled, without thresholds, while the Processable runs.
+ * The recording is then dumped to a temporary file, parsed and deleted.
+ * Monitor contention and parks are counted only for the thread running the Processable by default, so threads of the JVM
+ * unrelated to it, like idle pool workers or timers, do not make the asserts fail. {@link RecordedThreads} widens them to
+ * the threads the Processable starts, or to every thread.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *    Oct 19, 2026 - Sparta Team - Contention and parks counted for the calling thread by default
+ *
+ */
+public abstract class JfrAssert {
+
+    private static final String GARBAGE_COLLECTION = "jdk.GarbageCollection";
+    private static final String MONITOR_ENTER = "jdk.JavaMonitorEnter";
+    private static final String THREAD_PARK = "jdk.ThreadPark";
+    private static final String RECORDER_THREADS = "JFR ";
+
+    /**
+     * Records the runtime events of a Processable.
+     *
+     * @param threads     threads whose monitor contention and parks are counted
+     * @param processable the execution to be recorded
+     * @return garbage collections, monitor contention and thread parks while it ran
+     * @throws org.opentest4j.TestAbortedException when the Flight Recorder is not available
+     * @throws Exception when the Processable throws
+     */
+    public static RuntimeEvents record(RecordedThreads threads, Processable processable) throws Exception {
+        Assumptions.assumeTrue(FlightRecorder.isAvailable(), "Java Flight Recorder is not available");
+        final LongPredicate counted = counted(threads);
+        final Path directory = Files.createTempDirectory("sparta-jfr");
+        final Path file = directory.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.setName("sparta-test-utils");
+            recording.enable(GARBAGE_COLLECTION);
+            recording.enable(MONITOR_ENTER).withThreshold(Duration.ZERO).withoutStackTrace();
+            recording.enable(THREAD_PARK).withThreshold(Duration.ZERO).withoutStackTrace();
+            recording.start();
+            try {
+                processable.process();
+            } finally {
+                recording.stop();
+            }
+            recording.dump(file);
+            return read(file, counted);
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    /**
+     * Records the runtime events of a Processable, counting the monitor contention and parks of the calling thread only.
+     *
+     * @param processable the execution to be recorded
+     * @return garbage collections, monitor contention and thread parks while it ran
+     * @throws org.opentest4j.TestAbortedException when the Flight Recorder is not available
+     * @throws Exception when the Processable throws
+     */
+    public static RuntimeEvents record(Processable processable) throws Exception {
+        return record(RecordedThreads.CALLING, processable);
+    }
+
+    /**
+     * Assert no garbage collection pauses longer than a limit while a Processable runs.
+     *
+     * @param limit       longest pause allowed
+     * @param processable the execution to be recorded
+     * @return recorded events
+     * @throws AssertionFailedError when a pause was longer
+     * @throws Exception when the Processable throws
+     */
+    public static RuntimeEvents assertNoGcPauseLongerThan(Duration limit, Processable processable) throws AssertionFailedError, Exception {
+        final RuntimeEvents events = record(processable);
+        events.assertNoGcPauseLongerThan(limit);
+        return events;
+    }
+
+    /**
+     * Assert no thread blocks entering a monitor while a Processable runs.
+     *
+     * @param threads     threads whose monitor contention is counted
+     * @param processable the execution to be recorded
+     * @return recorded events
+     * @throws AssertionFailedError when any of the threads blocked
+     * @throws Exception when the Processable throws
+     */
+    public static RuntimeEvents assertNoMonitorContention(RecordedThreads threads, Processable processable) throws AssertionFailedError, Exception {
+        final RuntimeEvents events = record(threads, processable);
+        events.assertNoMonitorContention();
+        return events;
+    }
+
+    /**
+     * Assert the calling thread never blocks entering a monitor while a Processable runs.
+     *
+     * @param processable the execution to be recorded
+     * @return recorded events
+     * @throws AssertionFailedError when the calling thread blocked
+     * @throws Exception when the Processable throws
+     */
+    public static RuntimeEvents assertNoMonitorContention(Processable processable) throws AssertionFailedError, Exception {
+        return assertNoMonitorContention(RecordedThreads.CALLING, processable);
+    }
+
+    /**
+     * Assert threads park at most a number of times while a Processable runs.
+     *
+     * @param maximum     maximum number of parks, of all the counted threads
+     * @param threads     threads whose parks are counted
+     * @param processable the execution to be recorded
+     * @return recorded events
+     * @throws AssertionFailedError when the threads parked more
+     * @throws Exception when the Processable throws
+     */
+    public static RuntimeEvents assertParksAtMost(long maximum, RecordedThreads threads, Processable processable) throws AssertionFailedError, Exception {
+        final RuntimeEvents events = record(threads, processable);
+        events.assertParksAtMost(maximum);
+        return events;
+    }
+
+    /**
+     * Assert the calling thread parks at most a number of times while a Processable runs.
+     *
+     * @param maximum     maximum number of parks
+     * @param processable the execution to be recorded
+     * @return recorded events
+     * @throws AssertionFailedError when the calling thread parked more
+     * @throws Exception when the Processable throws
+     */
+    public static RuntimeEvents assertParksAtMost(long maximum, Processable processable) throws AssertionFailedError, Exception {
+        return assertParksAtMost(maximum, RecordedThreads.CALLING, processable);
+    }
+
+    /**
+     * Selects the threads counted, by their ids, taken before the Processable starts.
+     *
+     * @param threads threads to be counted
+     * @return whether the events of a thread id are counted
+     */
+    @SuppressWarnings("deprecation")
+    private static LongPredicate counted(RecordedThreads threads) {
+        final long calling = Thread.currentThread().getId();
+        return switch (threads) {
+            case CALLING -> id -> id == calling;
+            case STARTED -> {
+                final long[] existing = ManagementFactory.getThreadMXBean().getAllThreadIds();
+                Arrays.sort(existing);
+                yield id -> id == calling || Arrays.binarySearch(existing, id) < 0;
+            }
+            case ALL -> id -> true;
+        };
+    }
+
+    /**
+     * Aggregates the events of a dumped recording.
+     *
+     * @param file    dumped recording
+     * @param counted whether the contention and parks of a thread id are counted
+     * @return aggregated events
+     * @throws UncheckedIOException when the recording can not be read
+     */
+    private static RuntimeEvents read(Path file, LongPredicate counted) {
+        final RuntimeEvents events = new RuntimeEvents();
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                final RecordedEvent event = recording.readEvent();
+                switch (event.getEventType().getName()) {
+                    case GARBAGE_COLLECTION -> events.addGc(event.getDuration("longestPause"), event.getDuration("sumOfPauses"));
+                    case MONITOR_ENTER -> {
+                        if (counted(event, counted)) {
+                            events.addContention(event.getClass("monitorClass").getName(), event.getDuration());
+                        }
+                    }
+                    case THREAD_PARK -> {
+                        if (counted(event, counted)) {
+                            events.addPark(threadName(event), event.getDuration());
+                        }
+                    }
+                    default -> { }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the recording " + file, e);
+        }
+        return events;
+    }
+
+    /**
+     * @param event   recorded event
+     * @param counted whether the events of a thread id are counted
+     * @return true when recorded on a counted thread, never on a thread of the Flight Recorder
+     */
+    private static boolean counted(RecordedEvent event, LongPredicate counted) {
+        final RecordedThread thread = event.getThread();
+        return thread != null && !threadName(event).startsWith(RECORDER_THREADS) && counted.test(thread.getJavaThreadId());
+    }
+
+    /**
+     * @param event recorded event
+     * @return name of the thread the event happened on
+     */
+    private static String threadName(RecordedEvent event) {
+        final RecordedThread thread = event.getThread();
+        return thread == null || thread.getJavaName() == null ? "<unknown>" : thread.getJavaName();
+    }
+}
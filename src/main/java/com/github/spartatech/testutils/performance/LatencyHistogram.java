@@ -0,0 +1,155 @@
+package com.github.spartatech.testutils.performance;
+
+import java.util.Arrays;
+
+/**
+ *
+ * Fixed memory log-linear histogram of non-negative values, in the style of HdrHistogram.
+ * Values below 2^(PRECISION_BITS + 1) have their own bucket, larger values share buckets of 2^PRECISION_BITS per power of two,
+ * so any value is reported with a relative error below 1 / 2^PRECISION_BITS (under 1%). The whole long range fits
+ * in a few thousand counters, allocated once, and recording is a couple of shifts and an array increment.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+final class LatencyHistogram {
+
+    private static final int PRECISION_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << PRECISION_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS << 1;
+    private static final int BUCKETS = LINEAR_LIMIT + (62 - PRECISION_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    /**
+     * Records a value.
+     *
+     * @param value value to record, negative values are recorded as 0
+     */
+    void record(long value) {
+        final long recorded = Math.max(0, value);
+        counts[index(recorded)]++;
+        count++;
+        sum += recorded;
+        min = Math.min(min, recorded);
+        max = Math.max(max, recorded);
+    }
+
+    /**
+     * Adds all the values of another histogram.
+     *
+     * @param other histogram to add
+     */
+    void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Clears all the values.
+     */
+    void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    /**
+     * @return number of values recorded
+     */
+    long count() {
+        return count;
+    }
+
+    /**
+     * @return average of the values, 0 when empty
+     */
+    double mean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * @return lowest value recorded, exact, 0 when empty
+     */
+    long min() {
+        return count == 0 ? 0 : min;
+    }
+
+    /**
+     * @return highest value recorded, exact
+     */
+    long max() {
+        return max;
+    }
+
+    /**
+     * Value at a percentile: the highest value equivalent to the bucket holding it, never above the maximum.
+     *
+     * @param percentile percentile, from 0 to 100
+     * @return value at the percentile, 0 when empty
+     * @throws IllegalArgumentException when the percentile is out of range
+     */
+    long percentile(double percentile) throws IllegalArgumentException {
+        if (percentile < 0 || percentile > 100 || Double.isNaN(percentile)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(max, highestEquivalent(i));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Bucket of a value.
+     *
+     * @param value non-negative value
+     * @return index of its bucket
+     */
+    static int index(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int top = (int) (value >>> (exponent - PRECISION_BITS));
+        return LINEAR_LIMIT + (exponent - PRECISION_BITS - 1) * SUB_BUCKETS + (top - SUB_BUCKETS);
+    }
+
+    /**
+     * Highest value of a bucket.
+     *
+     * @param index index of the bucket
+     * @return highest value sharing the bucket
+     */
+    static long highestEquivalent(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        final int offset = index - LINEAR_LIMIT;
+        final int shift = offset / SUB_BUCKETS + 1;
+        final long top = offset % SUB_BUCKETS + SUB_BUCKETS;
+        final long next = (top + 1) << shift;
+        return next <= 0 ? Long.MAX_VALUE : next - 1;
+    }
+}
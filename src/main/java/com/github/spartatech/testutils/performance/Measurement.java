@@ -0,0 +1,33 @@
+package com.github.spartatech.testutils.performance;
+
+/**
+ *
+ * How many times a Processable runs before being measured, so the JIT compiles it, and while measured.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ * @param warmupIterations      runs discarded before measuring
+ * @param measurementIterations runs measured
+ */
+public record Measurement(int warmupIterations, int measurementIterations) {
+
+    /**
+     * Default measurement: 10000 warmup runs and 10000 measured runs.
+     */
+    public static final Measurement DEFAULT = new Measurement(10_000, 10_000);
+
+    /**
+     * Validates the iterations.
+     *
+     * @throws IllegalArgumentException when warmup is negative or there are no measured runs
+     */
+    public Measurement {
+        if (warmupIterations < 0 || measurementIterations < 1) {
+            throw new IllegalArgumentException("Invalid measurement of " + warmupIterations + " warmup and "
+                    + measurementIterations + " measured iterations");
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.spartatech.testutils.performance;
+
+import java.util.Map;
+
+import org.opentest4j.AssertionFailedError;
+
+import com.github.spartatech.testutils.performance.ObjectGraphSizer.GraphSize;
+
+/**
+ *
+ * Memory budget assertions over object graphs.
+ * Sizes are estimated walking every object reachable from a root, with the object layout of the running JVM,
+ * so they are close to what a heap dump shows for the graph. Objects shared with other graphs are counted too: sizes are
+ * reachable, not dominated.
+ * Fields are read by reflection: walking the internals of JDK collections and Strings needs the JVM to run with
+ * --add-opens java.base/java.util=ALL-UNNAMED --add-opens java.base/java.lang=ALL-UNNAMED, otherwise their references are
+ * reported as unreadable and left out.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *    Oct 19, 2026 - Sparta Team - Reachable, not dominated, size documented
+ *    Oct 19, 2026 - Sparta Team - Opens needed to walk JDK internals documented
+ *
+ */
+public abstract class MemoryAssert {
+
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+
+    /**
+     * Estimates the bytes of all the objects reachable from a root, the root included.
+     * This is the reachable size, not the dominated size a heap analyzer calls retained: objects also referenced from
+     * outside the graph are counted, even though they would stay alive without the root.
+     *
+     * @param root root of the graph, null has size 0
+     * @return estimated bytes
+     */
+    public static long retainedSize(Object root) {
+        return ObjectGraphSizer.measure(root).bytes();
+    }
+
+    /**
+     * Assert the objects reachable from a root use at most a number of bytes.
+     * Counts every reachable object, not only the ones dominated by the root, see {@link #retainedSize(Object)}.
+     * Failures show the paths holding the most bytes, each object counted in the path it was first reached by.
+     *
+     * @param message    message in case user wants to show a custom message
+     * @param limitBytes maximum estimated bytes
+     * @param root       root of the graph
+     * @return estimated bytes
+     * @throws AssertionFailedError when the estimate is above the limit
+     */
+    public static long assertRetainedSizeAtMost(String message, long limitBytes, Object root) throws AssertionFailedError {
+        final GraphSize size = ObjectGraphSizer.measure(root);
+        if (size.bytes() > limitBytes) {
+            final StringBuilder msg = new StringBuilder(message == null ? "Retained size above the limit" : message)
+                    .append(": ").append(size.bytes()).append(" bytes in ").append(size.objects()).append(" objects, expected at most ")
+                    .append(limitBytes).append(" bytes").append(LINE_SEPARATOR).append("Largest paths:");
+            for (Map.Entry<String, Long> path : size.paths()) {
+                msg.append(LINE_SEPARATOR).append(String.format("%14d bytes  %s", path.getValue(), path.getKey()));
+            }
+            if (size.unreadable() > 0) {
+                msg.append(LINE_SEPARATOR).append(size.unreadable()).append(" references could not be read and were left out");
+            }
+            throw new AssertionFailedError(msg.toString(), limitBytes, size.bytes());
+        }
+        return size.bytes();
+    }
+
+    /**
+     * Assert the objects reachable from a root use at most a number of bytes. Shows a standard failure message.
+     * Counts every reachable object, not only the ones dominated by the root, see {@link #retainedSize(Object)}.
+     *
+     * @param limitBytes maximum estimated bytes
+     * @param root       root of the graph
+     * @return estimated bytes
+     * @throws AssertionFailedError when the estimate is above the limit
+     */
+    public static long assertRetainedSizeAtMost(long limitBytes, Object root) throws AssertionFailedError {
+        return assertRetainedSizeAtMost(null, limitBytes, root);
+    }
+}
@@ -0,0 +1,387 @@
+package com.github.spartatech.testutils.performance;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+/**
+ *
+ * Estimates the memory used by all the objects reachable from a root.
+ *
+ * Shallow sizes are computed from field types with the header size, reference size and alignment of the running JVM
+ * (compressed oops, compressed class pointers and ObjectAlignmentInBytes), and cached per class. The graph is walked
+ * breadth first with an identity visited set, so shared and cyclic references are counted once. Classes, class loaders,
+ * threads and enum constants are not followed, as they are not owned by the graph.
+ *
+ * Fields are read by reflection. Fields of classes in modules not opened to the caller, like the table of a HashMap or
+ * the bytes of a String, can not be read unless the JVM runs with --add-opens java.base/java.util=ALL-UNNAMED and
+ * --add-opens java.base/java.lang=ALL-UNNAMED. References that can not be read are only counted, their objects are
+ * left out of the estimate.
+ *
+ * Bytes are also added to the path each object was first reached by, array indexes shown as [*], so the largest
+ * contributors can be reported.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *    Oct 19, 2026 - Sparta Team - Fields read only by reflection, without Unsafe
+ *
+ */
+final class ObjectGraphSizer {
+
+    /**
+     * Paths deeper than this are added to their ancestor at this depth.
+     */
+    private static final int MAX_PATH_DEPTH = 6;
+
+    private static final Layout LAYOUT = Layout.detect();
+
+    private static final ClassValue<ClassInfo> CLASS_INFO = new ClassValue<>() {
+        @Override
+        protected ClassInfo computeValue(Class<?> type) {
+            return ClassInfo.of(type);
+        }
+    };
+
+    private ObjectGraphSizer() {
+    }
+
+    /**
+     * Walks the graph of a root.
+     *
+     * @param root root object, null is empty
+     * @return estimated size, with the bytes of each path
+     */
+    static GraphSize measure(Object root) {
+        final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final ArrayDeque<Pending> queue = new ArrayDeque<>();
+        final PathTable paths = new PathTable();
+        long total = 0;
+        long objects = 0;
+        long unreadable = 0;
+
+        if (root != null && !skipped(root)) {
+            visited.add(root);
+            queue.add(new Pending(root, PathTable.ROOT));
+        }
+        while (!queue.isEmpty()) {
+            final Pending pending = queue.poll();
+            final Object object = pending.object();
+            final Class<?> type = object.getClass();
+            final long size;
+            if (type.isArray()) {
+                final int length = Array.getLength(object);
+                size = LAYOUT.align(LAYOUT.arrayHeader + (long) length * LAYOUT.sizeOf(type.getComponentType()));
+                if (!type.getComponentType().isPrimitive()) {
+                    for (Object element : (Object[]) object) {
+                        enqueue(element, pending.path(), "[*]", paths, visited, queue);
+                    }
+                }
+            } else {
+                final ClassInfo info = CLASS_INFO.get(type);
+                size = info.shallowSize;
+                for (FieldReader reader : info.references) {
+                    try {
+                        enqueue(reader.read(object), pending.path(), reader.name(), paths, visited, queue);
+                    } catch (RuntimeException e) {
+                        unreadable++;
+                    }
+                }
+            }
+            total += size;
+            objects++;
+            paths.add(pending.path(), size);
+        }
+        return new GraphSize(total, objects, unreadable, paths.largest());
+    }
+
+    /**
+     * Adds an object to the walk unless it is null, skipped or already visited.
+     *
+     * @param object  object referenced
+     * @param parent  path of the object holding the reference
+     * @param segment field name or [*] for array elements
+     * @param paths   interned paths
+     * @param visited objects already reached
+     * @param queue   objects waiting to be measured
+     */
+    private static void enqueue(Object object, int parent, String segment, PathTable paths, Set<Object> visited, ArrayDeque<Pending> queue) {
+        if (object != null && !skipped(object) && visited.add(object)) {
+            queue.add(new Pending(object, paths.child(parent, segment)));
+        }
+    }
+
+    /**
+     * @param object referenced object
+     * @return true for objects shared by the whole JVM, not owned by the graph
+     */
+    private static boolean skipped(Object object) {
+        return object instanceof Class || object instanceof ClassLoader || object instanceof Thread || object instanceof Enum;
+    }
+
+    /**
+     * Size of a measured graph.
+     *
+     * @param bytes      estimated bytes of all the objects
+     * @param objects    number of objects
+     * @param unreadable references that could not be read
+     * @param paths      largest paths with their bytes, the largest first
+     */
+    record GraphSize(long bytes, long objects, long unreadable, List<Map.Entry<String, Long>> paths) { }
+
+    /**
+     * Object waiting to be measured.
+     *
+     * @param object object reached
+     * @param path   id of the path it was reached by
+     */
+    private record Pending(Object object, int path) { }
+
+    /**
+     * Header, reference and alignment sizes of the running JVM.
+     */
+    private static final class Layout {
+        private final int objectHeader;
+        private final int arrayHeader;
+        private final int referenceSize;
+        private final int alignment;
+
+        /**
+         * @param objectHeader  bytes of the header of an object
+         * @param referenceSize bytes of a reference
+         * @param alignment     alignment of objects
+         */
+        private Layout(int objectHeader, int referenceSize, int alignment) {
+            this.objectHeader = objectHeader;
+            this.referenceSize = referenceSize;
+            this.alignment = alignment;
+            this.arrayHeader = (int) alignTo(objectHeader + 4L, 8);
+        }
+
+        /**
+         * Reads the layout flags of the JVM, falling back to a 64 bit JVM with compressed oops.
+         *
+         * @return layout of the running JVM
+         */
+        static Layout detect() {
+            if ("32".equals(System.getProperty("sun.arch.data.model"))) {
+                return new Layout(8, 4, 8);
+            }
+            boolean compressedOops = Runtime.getRuntime().maxMemory() < 32L * 1024 * 1024 * 1024;
+            boolean compressedClassPointers = compressedOops;
+            int alignment = 8;
+            try {
+                final HotSpotDiagnosticMXBean bean = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+                compressedOops = Boolean.parseBoolean(bean.getVMOption("UseCompressedOops").getValue());
+                compressedClassPointers = Boolean.parseBoolean(bean.getVMOption("UseCompressedClassPointers").getValue());
+                alignment = Integer.parseInt(bean.getVMOption("ObjectAlignmentInBytes").getValue());
+            } catch (RuntimeException | LinkageError e) {
+                // not a HotSpot JVM, keep the defaults
+            }
+            return new Layout(compressedClassPointers ? 12 : 16, compressedOops ? 4 : 8, alignment);
+        }
+
+        /**
+         * @param type field or array component type
+         * @return bytes used by a value of the type
+         */
+        int sizeOf(Class<?> type) {
+            if (type == long.class || type == double.class) {
+                return 8;
+            } else if (type == int.class || type == float.class) {
+                return 4;
+            } else if (type == char.class || type == short.class) {
+                return 2;
+            } else if (type == byte.class || type == boolean.class) {
+                return 1;
+            }
+            return referenceSize;
+        }
+
+        /**
+         * @param size unaligned size
+         * @return size aligned to the object alignment
+         */
+        long align(long size) {
+            return alignTo(size, alignment);
+        }
+
+        /**
+         * @param size      unaligned size
+         * @param alignment alignment, a power of two
+         * @return aligned size
+         */
+        private static long alignTo(long size, int alignment) {
+            return (size + alignment - 1) & -alignment;
+        }
+    }
+
+    /**
+     * Shallow size and reference fields of a class.
+     */
+    private static final class ClassInfo {
+        private final long shallowSize;
+        private final FieldReader[] references;
+
+        /**
+         * @param shallowSize aligned size of an instance
+         * @param references  readers of the reference fields, superclass ones included
+         */
+        private ClassInfo(long shallowSize, FieldReader[] references) {
+            this.shallowSize = shallowSize;
+            this.references = references;
+        }
+
+        /**
+         * Computes the layout of a class from the types of its instance fields.
+         *
+         * @param type class to compute
+         * @return layout of the class
+         */
+        static ClassInfo of(Class<?> type) {
+            long size = LAYOUT.objectHeader;
+            final List<FieldReader> references = new ArrayList<>();
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    size += LAYOUT.sizeOf(field.getType());
+                    if (!field.getType().isPrimitive()) {
+                        references.add(FieldReader.of(field));
+                    }
+                }
+            }
+            return new ClassInfo(LAYOUT.align(size), references.toArray(new FieldReader[0]));
+        }
+    }
+
+    /**
+     * Reads a reference field.
+     */
+    private interface FieldReader {
+
+        /**
+         * @return name of the field
+         */
+        String name();
+
+        /**
+         * @param object instance holding the field
+         * @return value of the field
+         */
+        Object read(Object object);
+
+        /**
+         * Builds the reader of a field, by reflection when the field can be made accessible, failing every read otherwise.
+         *
+         * @param field reference field
+         * @return reader of the field
+         */
+        static FieldReader of(Field field) {
+            boolean accessible;
+            try {
+                accessible = field.trySetAccessible();
+            } catch (SecurityException e) {
+                accessible = false;
+            }
+            final boolean readable = accessible;
+            return new FieldReader() {
+                @Override
+                public String name() {
+                    return field.getName();
+                }
+
+                @Override
+                public Object read(Object object) {
+                    if (!readable) {
+                        throw new IllegalStateException("Field " + field + " is not accessible");
+                    }
+                    try {
+                        return field.get(object);
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            };
+        }
+    }
+
+    /**
+     * Interned paths with their bytes. A path is its parent id plus a segment.
+     */
+    private static final class PathTable {
+        static final int ROOT = 0;
+        private static final int MAX_SHOWN = 10;
+
+        private final List<String> names = new ArrayList<>();
+        private final List<Integer> depths = new ArrayList<>();
+        private final List<Map<String, Integer>> children = new ArrayList<>();
+        private long[] bytes = new long[16];
+
+        PathTable() {
+            names.add("root");
+            depths.add(0);
+            children.add(new HashMap<>());
+        }
+
+        /**
+         * @param parent  id of the parent path
+         * @param segment field name or [*]
+         * @return id of the child path, the parent itself beyond the maximum depth
+         */
+        int child(int parent, String segment) {
+            if (depths.get(parent) >= MAX_PATH_DEPTH) {
+                return parent;
+            }
+            final Integer existing = children.get(parent).get(segment);
+            if (existing != null) {
+                return existing;
+            }
+            final int id = names.size();
+            names.add(names.get(parent) + (segment.startsWith("[") ? segment : "." + segment));
+            depths.add(depths.get(parent) + 1);
+            children.add(new HashMap<>());
+            children.get(parent).put(segment, id);
+            return id;
+        }
+
+        /**
+         * @param path id of the path
+         * @param size bytes of an object reached by the path
+         */
+        void add(int path, long size) {
+            if (path >= bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, path + 1));
+            }
+            bytes[path] += size;
+        }
+
+        /**
+         * @return paths holding the most bytes, the largest first
+         */
+        List<Map.Entry<String, Long>> largest() {
+            final List<Map.Entry<String, Long>> entries = new ArrayList<>();
+            for (int i = 0; i < names.size() && i < bytes.length; i++) {
+                if (bytes[i] > 0) {
+                    entries.add(Map.entry(names.get(i) + (depths.get(i) >= MAX_PATH_DEPTH ? "..." : ""), bytes[i]));
+                }
+            }
+            entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+            return entries.subList(0, Math.min(MAX_SHOWN, entries.size()));
+        }
+    }
+}
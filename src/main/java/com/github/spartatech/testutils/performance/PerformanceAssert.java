@@ -0,0 +1,244 @@
+package com.github.spartatech.testutils.performance;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Assumptions;
+import org.opentest4j.AssertionFailedError;
+
+import com.github.spartatech.testutils.exception.Processable;
+
+/**
+ *
+ * Performance assertions over a Processable.
+ * The Processable first runs a number of warmup iterations, discarded, so the JIT compiles it, and then the measured
+ * iterations, each one timed into a fixed memory latency histogram. Failures show the table of percentiles.
+ * Allocation is measured on the calling thread with the HotSpot per thread allocation counter.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *    Oct 19, 2026 - Sparta Team - Allocation asserts
+ *    Oct 19, 2026 - Sparta Team - Budget checks shared with PerformanceTestExtension
+ *
+ */
+public abstract class PerformanceAssert {
+
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+
+    /**
+     * Times the allocation counter is read back to back to measure its own allocation.
+     */
+    private static final int CALIBRATION_ROUNDS = 16;
+
+    /**
+     * Rounds of measured iterations when measuring allocation, the lowest one is kept.
+     */
+    private static final int ALLOCATION_ROUNDS = 3;
+
+    /**
+     * Runs the warmup and measured iterations of a Processable.
+     *
+     * @param measurement iterations to run
+     * @param processable the execution to be measured
+     * @return statistics of the measured iterations
+     * @throws Exception when the Processable throws
+     */
+    public static PerformanceResult measure(Measurement measurement, Processable processable) throws Exception {
+        for (int i = 0; i < measurement.warmupIterations(); i++) {
+            processable.process();
+        }
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final long start = System.nanoTime();
+        long before = start;
+        for (int i = 0; i < measurement.measurementIterations(); i++) {
+            processable.process();
+            final long after = System.nanoTime();
+            histogram.record(after - before);
+            before = after;
+        }
+        return new PerformanceResult(histogram, before - start);
+    }
+
+    /**
+     * Assert a Processable runs at least a number of times per second.
+     *
+     * @param opsPerSecond minimum runs per second
+     * @param measurement  iterations to run
+     * @param processable  the execution to be measured
+     * @return statistics of the measured iterations
+     * @throws AssertionFailedError when the throughput is lower
+     * @throws Exception when the Processable throws
+     */
+    public static PerformanceResult assertThroughputAtLeast(double opsPerSecond, Measurement measurement, Processable processable)
+            throws AssertionFailedError, Exception {
+        final PerformanceResult result = measure(measurement, processable);
+        checkThroughput(result, opsPerSecond);
+        return result;
+    }
+
+    /**
+     * Assert a Processable runs at least a number of times per second, with the default measurement.
+     *
+     * @param opsPerSecond minimum runs per second
+     * @param processable  the execution to be measured
+     * @return statistics of the measured iterations
+     * @throws AssertionFailedError when the throughput is lower
+     * @throws Exception when the Processable throws
+     */
+    public static PerformanceResult assertThroughputAtLeast(double opsPerSecond, Processable processable) throws AssertionFailedError, Exception {
+        return assertThroughputAtLeast(opsPerSecond, Measurement.DEFAULT, processable);
+    }
+
+    /**
+     * Assert the latency of a Processable at a percentile is below a limit.
+     *
+     * @param percentile  percentile to check, from 0 to 100, like 99 or 99.9
+     * @param limit       latency the percentile must stay below
+     * @param measurement iterations to run
+     * @param processable the execution to be measured
+     * @return statistics of the measured iterations
+     * @throws AssertionFailedError when the latency is not below the limit
+     * @throws Exception when the Processable throws
+     */
+    public static PerformanceResult assertLatencyPercentileBelow(double percentile, Duration limit, Measurement measurement, Processable processable)
+            throws AssertionFailedError, Exception {
+        final PerformanceResult result = measure(measurement, processable);
+        checkLatency(result, percentile, limit);
+        return result;
+    }
+
+    /**
+     * Assert the latency of a Processable at a percentile is below a limit, with the default measurement.
+     *
+     * @param percentile  percentile to check, from 0 to 100, like 99 or 99.9
+     * @param limit       latency the percentile must stay below
+     * @param processable the execution to be measured
+     * @return statistics of the measured iterations
+     * @throws AssertionFailedError when the latency is not below the limit
+     * @throws Exception when the Processable throws
+     */
+    public static PerformanceResult assertLatencyPercentileBelow(double percentile, Duration limit, Processable processable)
+            throws AssertionFailedError, Exception {
+        return assertLatencyPercentileBelow(percentile, limit, Measurement.DEFAULT, processable);
+    }
+
+    /**
+     * Fails when a result runs fewer times per second than a minimum.
+     *
+     * @param result       measured result
+     * @param opsPerSecond minimum runs per second
+     * @throws AssertionFailedError when the throughput is lower
+     */
+    static void checkThroughput(PerformanceResult result, double opsPerSecond) throws AssertionFailedError {
+        if (result.opsPerSecond() < opsPerSecond) {
+            throw new AssertionFailedError(String.format(Locale.ROOT, "Throughput was %.1f ops/s, expected at least %.1f ops/s",
+                    result.opsPerSecond(), opsPerSecond) + LINE_SEPARATOR + result.table());
+        }
+    }
+
+    /**
+     * Fails when the latency of a result at a percentile is not below a limit.
+     *
+     * @param result     measured result
+     * @param percentile percentile to check
+     * @param limit      latency the percentile must stay below
+     * @throws AssertionFailedError when the latency is not below the limit
+     */
+    static void checkLatency(PerformanceResult result, double percentile, Duration limit) throws AssertionFailedError {
+        final Duration latency = result.percentile(percentile);
+        if (latency.compareTo(limit) >= 0) {
+            throw new AssertionFailedError("Latency at percentile " + percentile + " was " + PerformanceResult.format(latency.toNanos())
+                    + ", expected below " + PerformanceResult.format(limit.toNanos()) + LINE_SEPARATOR + result.table(),
+                    limit, latency);
+        }
+    }
+
+    /**
+     * Measures the bytes a Processable allocates per run on the calling thread.
+     * The allocation of reading the counter itself is measured first and discarded, and the measured iterations run
+     * a few rounds keeping the lowest one, so one-off allocations like lazy initialization are not counted.
+     *
+     * @param measurement iterations to run
+     * @param processable the execution to be measured
+     * @return bytes allocated per run
+     * @throws org.opentest4j.TestAbortedException when the JVM can not count allocated bytes per thread
+     * @throws Exception when the Processable throws
+     */
+    public static double measureAllocation(Measurement measurement, Processable processable) throws Exception {
+        final com.sun.management.ThreadMXBean threads = allocationCounter();
+        for (int i = 0; i < measurement.warmupIterations(); i++) {
+            processable.process();
+        }
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            final long before = threads.getCurrentThreadAllocatedBytes();
+            overhead = Math.min(overhead, threads.getCurrentThreadAllocatedBytes() - before);
+        }
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < ALLOCATION_ROUNDS; round++) {
+            final long before = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < measurement.measurementIterations(); i++) {
+                processable.process();
+            }
+            allocated = Math.min(allocated, threads.getCurrentThreadAllocatedBytes() - before - overhead);
+        }
+        return Math.max(0, allocated) / (double) measurement.measurementIterations();
+    }
+
+    /**
+     * Assert a Processable allocates at most a number of bytes per run on the calling thread.
+     *
+     * @param bytesPerRun maximum bytes allocated per run, 0 for allocation free code
+     * @param measurement iterations to run
+     * @param processable the execution to be measured
+     * @return bytes allocated per run
+     * @throws AssertionFailedError when the Processable allocates more
+     * @throws org.opentest4j.TestAbortedException when the JVM can not count allocated bytes per thread
+     * @throws Exception when the Processable throws
+     */
+    public static double assertAllocatesAtMost(long bytesPerRun, Measurement measurement, Processable processable)
+            throws AssertionFailedError, Exception {
+        final double allocated = measureAllocation(measurement, processable);
+        if (allocated > bytesPerRun) {
+            throw new AssertionFailedError(String.format(Locale.ROOT, "Allocated %.1f bytes per run, expected at most %d (%d runs measured)",
+                    allocated, bytesPerRun, measurement.measurementIterations()), bytesPerRun, allocated);
+        }
+        return allocated;
+    }
+
+    /**
+     * Assert a Processable allocates at most a number of bytes per run on the calling thread, with the default measurement.
+     *
+     * @param bytesPerRun maximum bytes allocated per run, 0 for allocation free code
+     * @param processable the execution to be measured
+     * @return bytes allocated per run
+     * @throws AssertionFailedError when the Processable allocates more
+     * @throws org.opentest4j.TestAbortedException when the JVM can not count allocated bytes per thread
+     * @throws Exception when the Processable throws
+     */
+    public static double assertAllocatesAtMost(long bytesPerRun, Processable processable) throws AssertionFailedError, Exception {
+        return assertAllocatesAtMost(bytesPerRun, Measurement.DEFAULT, processable);
+    }
+
+    /**
+     * Gets the HotSpot thread bean counting allocated bytes, enabling the counting when needed.
+     * Aborts the test when it is not available.
+     *
+     * @return thread bean counting allocated bytes
+     */
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads instanceof com.sun.management.ThreadMXBean,
+                "Allocated bytes per thread are not available on this JVM");
+        final com.sun.management.ThreadMXBean counter = (com.sun.management.ThreadMXBean) threads;
+        Assumptions.assumeTrue(counter.isThreadAllocatedMemorySupported(), "Allocated bytes per thread are not supported on this JVM");
+        if (!counter.isThreadAllocatedMemoryEnabled()) {
+            counter.setThreadAllocatedMemoryEnabled(true);
+        }
+        return counter;
+    }
+}
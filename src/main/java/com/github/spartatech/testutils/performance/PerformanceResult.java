@@ -0,0 +1,128 @@
+package com.github.spartatech.testutils.performance;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ *
+ * Statistics of the measured runs of a Processable: latency distribution and throughput.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+public final class PerformanceResult {
+
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+    private static final double[] TABLE_PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private final LatencyHistogram histogram;
+    private final long elapsedNanos;
+
+    /**
+     * Constructor receiving the recorded latencies.
+     *
+     * @param histogram    latencies of the measured runs, in nanos
+     * @param elapsedNanos wall time of all the measured runs
+     */
+    PerformanceResult(LatencyHistogram histogram, long elapsedNanos) {
+        this.histogram = histogram;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return number of measured runs
+     */
+    public long count() {
+        return histogram.count();
+    }
+
+    /**
+     * @return runs per second over the wall time of the measurement
+     */
+    public double opsPerSecond() {
+        return elapsedNanos == 0 ? Double.POSITIVE_INFINITY : histogram.count() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * @return average latency
+     */
+    public Duration mean() {
+        return Duration.ofNanos(Math.round(histogram.mean()));
+    }
+
+    /**
+     * @return highest latency
+     */
+    public Duration max() {
+        return Duration.ofNanos(histogram.max());
+    }
+
+    /**
+     * Latency at a percentile, with a relative error below 1%.
+     *
+     * @param percentile percentile, from 0 to 100
+     * @return latency at the percentile
+     * @throws IllegalArgumentException when the percentile is out of range
+     */
+    public Duration percentile(double percentile) throws IllegalArgumentException {
+        return Duration.ofNanos(histogram.percentile(percentile));
+    }
+
+    /**
+     * @return latency histogram, in nanos
+     */
+    LatencyHistogram histogram() {
+        return histogram;
+    }
+
+    /**
+     * Table of the main percentiles, mean, maximum and throughput.
+     *
+     * @return formatted table
+     */
+    public String table() {
+        final StringBuilder table = new StringBuilder();
+        table.append(String.format(Locale.ROOT, "%12s %14s", "Percentile", "Latency")).append(LINE_SEPARATOR);
+        for (double percentile : TABLE_PERCENTILES) {
+            table.append(String.format(Locale.ROOT, "%12s %14s", format(percentile), format(histogram.percentile(percentile))))
+                 .append(LINE_SEPARATOR);
+        }
+        table.append(String.format(Locale.ROOT, "%12s %14s", "max", format(histogram.max()))).append(LINE_SEPARATOR);
+        table.append(String.format(Locale.ROOT, "%12s %14s", "mean", format(Math.round(histogram.mean())))).append(LINE_SEPARATOR);
+        table.append(String.format(Locale.ROOT, "Runs: %d, throughput: %.1f ops/s", histogram.count(), opsPerSecond()));
+        return table.toString();
+    }
+
+    @Override
+    public String toString() {
+        return table();
+    }
+
+    /**
+     * @param percentile percentile
+     * @return percentile without trailing zeros
+     */
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile) ? Long.toString((long) percentile) : Double.toString(percentile);
+    }
+
+    /**
+     * Formats nanos in the largest unit keeping the value above 1.
+     *
+     * @param nanos duration in nanos
+     * @return formatted duration
+     */
+    static String format(long nanos) {
+        if (nanos < 1_000) {
+            return nanos + " ns";
+        } else if (nanos < 1_000_000) {
+            return String.format(Locale.ROOT, "%.3f us", nanos / 1e3);
+        } else if (nanos < 1_000_000_000) {
+            return String.format(Locale.ROOT, "%.3f ms", nanos / 1e6);
+        }
+        return String.format(Locale.ROOT, "%.3f s", nanos / 1e9);
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.spartatech.testutils.performance;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Turns a test method into a micro-benchmark: the method runs the warmup repetitions, then the measured ones, each timed
+ * into a latency histogram, and the test fails when the budgets are not met. The statistics are published as report
+ * entries of the test. Used along with @Test, BeforeEach and AfterEach methods run only once around all the repetitions.
+ * The repetitions before the last one call the method directly, without going through the interceptors of other
+ * extensions, so a method also annotated with @Timeout, @LogbackRunLevel or an @ExtendWith of another
+ * InvocationInterceptor fails without running. Interceptors registered on the test class, like a class level @Timeout,
+ * are not detected and only apply to the last repetition.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *    Oct 19, 2026 - Sparta Team - Documented other interceptors only see the last repetition
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ExtendWith(PerformanceTestExtension.class)
+public @interface PerformanceTest {
+    /**
+     * Repetitions discarded before measuring, so the JIT compiles the code.
+     *
+     * @return int warmup repetitions
+     */
+    int warmup() default 100;
+
+    /**
+     * Repetitions measured, the last one being the regular invocation of the test.
+     *
+     * @return int measured repetitions
+     */
+    int iterations() default 1_000;
+
+    /**
+     * Latency the 99th percentile must stay below, in {@link #unit()}. Negative values disable the check.
+     *
+     * @return long maximum 99th percentile
+     */
+    long maxP99() default -1;
+
+    /**
+     * Unit of {@link #maxP99()}.
+     *
+     * @return TimeUnit unit of the latency budget
+     */
+    TimeUnit unit() default TimeUnit.MICROSECONDS;
+
+    /**
+     * Minimum repetitions per second. Zero disables the check.
+     *
+     * @return double minimum throughput
+     */
+    double minOpsPerSec() default 0;
+}
@@ -0,0 +1,140 @@
+package com.github.spartatech.testutils.performance;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import com.github.spartatech.testutils.logback.ContainerLogbackRunLevel;
+import com.github.spartatech.testutils.logback.LogbackRunLevel;
+
+/**
+ * This extension runs the methods annotated with @PerformanceTest as micro-benchmarks.
+ * An invocation can only proceed once, so the warmup and all but the last measured repetitions invoke the test method
+ * reflectively on the same instance and arguments, and the last measured repetition is the invocation itself.
+ * Those reflective repetitions skip every other interceptor of the chain, so methods also annotated with @Timeout,
+ * @LogbackRunLevel or an @ExtendWith of another InvocationInterceptor are rejected before running.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *    Oct 19, 2026 - Sparta Team - Methods with other interceptors rejected
+ */
+public class PerformanceTestExtension implements InvocationInterceptor {
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
+        final PerformanceTest settings = invocationContext.getExecutable().getAnnotation(PerformanceTest.class);
+        if (settings == null) {
+            invocation.proceed();
+            return;
+        }
+        final Method method = invocationContext.getExecutable();
+        checkNoOtherInterceptor(method);
+        final Measurement measurement = new Measurement(settings.warmup(), settings.iterations());
+        method.setAccessible(true);
+        final Object target = invocationContext.getTarget().orElse(null);
+        final Object[] arguments = invocationContext.getArguments().toArray();
+
+        for (int i = 0; i < measurement.warmupIterations(); i++) {
+            invoke(method, target, arguments);
+        }
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final long start = System.nanoTime();
+        long before = start;
+        for (int i = 1; i < measurement.measurementIterations(); i++) {
+            invoke(method, target, arguments);
+            final long after = System.nanoTime();
+            histogram.record(after - before);
+            before = after;
+        }
+        invocation.proceed();
+        final long end = System.nanoTime();
+        histogram.record(end - before);
+
+        final PerformanceResult result = new PerformanceResult(histogram, end - start);
+        extensionContext.publishReportEntry(report(result));
+        if (settings.maxP99() >= 0) {
+            PerformanceAssert.checkLatency(result, 99, Duration.ofNanos(settings.unit().toNanos(settings.maxP99())));
+        }
+        if (settings.minOpsPerSec() > 0) {
+            PerformanceAssert.checkThroughput(result, settings.minOpsPerSec());
+        }
+    }
+
+    @Override
+    public void interceptTestTemplateMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
+        interceptTestMethod(invocation, invocationContext, extensionContext);
+    }
+
+    /**
+     * Rejects test methods other interceptors apply to, as they would only see the last repetition.
+     *
+     * @param method test method
+     * @throws IllegalArgumentException when the method has @Timeout, @LogbackRunLevel or extends with another InvocationInterceptor
+     */
+    private static void checkNoOtherInterceptor(Method method) throws IllegalArgumentException {
+        String other = null;
+        if (AnnotationSupport.isAnnotated(method, Timeout.class)) {
+            other = "@Timeout";
+        } else if (AnnotationSupport.isAnnotated(method, LogbackRunLevel.class) || AnnotationSupport.isAnnotated(method, ContainerLogbackRunLevel.class)) {
+            other = "@LogbackRunLevel";
+        }
+        for (ExtendWith extendWith : AnnotationSupport.findRepeatableAnnotations(method, ExtendWith.class)) {
+            for (Class<? extends Extension> extension : extendWith.value()) {
+                if (extension != PerformanceTestExtension.class && InvocationInterceptor.class.isAssignableFrom(extension)) {
+                    other = "@ExtendWith(" + extension.getSimpleName() + ")";
+                }
+            }
+        }
+        if (other != null) {
+            throw new IllegalArgumentException("@PerformanceTest can not be combined with " + other + " on " + method.getName()
+                    + ": only the last repetition goes through the other interceptors");
+        }
+    }
+
+    /**
+     * Invokes the test method, throwing what the method throws.
+     *
+     * @param method    test method
+     * @param target    test instance
+     * @param arguments resolved arguments
+     * @throws Throwable thrown by the test method
+     */
+    private static void invoke(Method method, Object target, Object[] arguments) throws Throwable {
+        try {
+            method.invoke(target, arguments);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Builds the report entry of a result.
+     *
+     * @param result measured result
+     * @return statistics by name
+     */
+    private static Map<String, String> report(PerformanceResult result) {
+        final Map<String, String> entry = new LinkedHashMap<>();
+        entry.put("performance.iterations", Long.toString(result.count()));
+        entry.put("performance.opsPerSec", String.format(Locale.ROOT, "%.1f", result.opsPerSecond()));
+        entry.put("performance.mean", result.mean().toString());
+        entry.put("performance.p50", result.percentile(50).toString());
+        entry.put("performance.p90", result.percentile(90).toString());
+        entry.put("performance.p99", result.percentile(99).toString());
+        entry.put("performance.max", result.max().toString());
+        return entry;
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.spartatech.testutils.performance;
+
+/**
+ *
+ * Threads whose monitor contention and parks {@link JfrAssert} counts. Garbage collections are counted whatever the threads,
+ * as they pause the whole JVM.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+public enum RecordedThreads {
+    /** Only the thread running the Processable */
+    CALLING,
+    /** The thread running the Processable and the threads started while it runs */
+    STARTED,
+    /** Every thread of the JVM, except the threads of the recorder itself */
+    ALL
+}
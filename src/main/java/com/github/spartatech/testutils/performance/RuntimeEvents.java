@@ -0,0 +1,212 @@
+package com.github.spartatech.testutils.performance;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.opentest4j.AssertionFailedError;
+
+/**
+ *
+ * Garbage collections, monitor contention and thread parks recorded by {@link JfrAssert} while a Processable ran,
+ * aggregated as counts and durations. Monitor contention and parks are only the ones of the threads counted, see
+ * {@link RecordedThreads}.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *    Oct 19, 2026 - Sparta Team - Contention and parks of the counted threads only
+ *
+ */
+public final class RuntimeEvents {
+
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+    private static final int MAX_SOURCES_SHOWN = 10;
+
+    private long gcCount;
+    private Duration longestGcPause = Duration.ZERO;
+    private Duration totalGcPause = Duration.ZERO;
+    private final Aggregate contention = new Aggregate();
+    private final Aggregate parks = new Aggregate();
+
+    /**
+     * Constructor used by JfrAssert.
+     */
+    RuntimeEvents() {
+    }
+
+    /**
+     * Adds a garbage collection.
+     *
+     * @param longestPause longest pause of the collection
+     * @param sumOfPauses  total pause of the collection
+     */
+    void addGc(Duration longestPause, Duration sumOfPauses) {
+        gcCount++;
+        if (longestPause.compareTo(longestGcPause) > 0) {
+            longestGcPause = longestPause;
+        }
+        totalGcPause = totalGcPause.plus(sumOfPauses);
+    }
+
+    /**
+     * Adds a thread blocked entering a monitor.
+     *
+     * @param monitorClass class of the monitor
+     * @param duration     time blocked
+     */
+    void addContention(String monitorClass, Duration duration) {
+        contention.add(monitorClass, duration);
+    }
+
+    /**
+     * Adds a thread park.
+     *
+     * @param thread   name of the parked thread
+     * @param duration time parked
+     */
+    void addPark(String thread, Duration duration) {
+        parks.add(thread, duration);
+    }
+
+    /**
+     * @return number of garbage collections
+     */
+    public long gcCount() {
+        return gcCount;
+    }
+
+    /**
+     * @return longest pause of all the garbage collections
+     */
+    public Duration longestGcPause() {
+        return longestGcPause;
+    }
+
+    /**
+     * @return sum of the pauses of all the garbage collections
+     */
+    public Duration totalGcPause() {
+        return totalGcPause;
+    }
+
+    /**
+     * @return number of times a thread blocked entering a monitor
+     */
+    public long monitorContentions() {
+        return contention.count;
+    }
+
+    /**
+     * @return total time threads were blocked entering monitors
+     */
+    public Duration monitorContentionTime() {
+        return contention.time;
+    }
+
+    /**
+     * @return number of thread parks, of all the counted threads
+     */
+    public long parks() {
+        return parks.count;
+    }
+
+    /**
+     * @param threadName name of a thread
+     * @return number of parks of the thread
+     */
+    public long parks(String threadName) {
+        return parks.bySource.getOrDefault(threadName, 0L);
+    }
+
+    /**
+     * @return total time threads were parked
+     */
+    public Duration parkTime() {
+        return parks.time;
+    }
+
+    /**
+     * Asserts no garbage collection paused longer than a limit.
+     *
+     * @param limit longest pause allowed
+     * @throws AssertionFailedError when a pause was longer
+     */
+    public void assertNoGcPauseLongerThan(Duration limit) throws AssertionFailedError {
+        if (longestGcPause.compareTo(limit) > 0) {
+            throw new AssertionFailedError("GC paused for " + longestGcPause + ", expected at most " + limit + LINE_SEPARATOR + this,
+                    limit, longestGcPause);
+        }
+    }
+
+    /**
+     * Asserts no thread blocked entering a monitor.
+     *
+     * @throws AssertionFailedError when any thread blocked
+     */
+    public void assertNoMonitorContention() throws AssertionFailedError {
+        if (contention.count > 0) {
+            throw new AssertionFailedError("Expected no monitor contention" + LINE_SEPARATOR + this, 0L, contention.count);
+        }
+    }
+
+    /**
+     * Asserts threads parked at most a number of times.
+     *
+     * @param maximum maximum number of parks, of all the counted threads
+     * @throws AssertionFailedError when threads parked more
+     */
+    public void assertParksAtMost(long maximum) throws AssertionFailedError {
+        if (parks.count > maximum) {
+            throw new AssertionFailedError("Expected at most " + maximum + " thread parks" + LINE_SEPARATOR + this, maximum, parks.count);
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder msg = new StringBuilder()
+                .append("GC: ").append(gcCount).append(" collections, longest pause ").append(longestGcPause)
+                .append(", total pause ").append(totalGcPause).append(LINE_SEPARATOR)
+                .append("Monitor contention: ").append(contention.count).append(" times, ").append(contention.time);
+        contention.describe(msg, "monitor ");
+        msg.append(LINE_SEPARATOR).append("Thread parks: ").append(parks.count).append(" times, ").append(parks.time);
+        parks.describe(msg, "thread ");
+        return msg.toString();
+    }
+
+    /**
+     * Count and time of events, with the count by source.
+     */
+    private static final class Aggregate {
+        private final Map<String, Long> bySource = new TreeMap<>();
+        private long count;
+        private Duration time = Duration.ZERO;
+
+        /**
+         * @param source   monitor class or thread name
+         * @param duration duration of the event
+         */
+        void add(String source, Duration duration) {
+            count++;
+            time = time.plus(duration);
+            bySource.merge(source, 1L, Long::sum);
+        }
+
+        /**
+         * Appends the sources with most events.
+         *
+         * @param msg    message being built
+         * @param prefix kind of source
+         */
+        void describe(StringBuilder msg, String prefix) {
+            final List<Map.Entry<String, Long>> sources = new ArrayList<>(bySource.entrySet());
+            sources.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+            for (Map.Entry<String, Long> source : sources.subList(0, Math.min(MAX_SOURCES_SHOWN, sources.size()))) {
+                msg.append(LINE_SEPARATOR).append("  ").append(source.getValue()).append(" x ").append(prefix).append(source.getKey());
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.spartatech.testutils.temporal;
+
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.WeekFields;
+import java.util.Calendar;
+import java.util.Locale;
+import java.util.function.ToLongFunction;
+
+import com.github.spartatech.testutils.exception.FieldNotFoundException;
+
+/**
+ *
+ * Calendar field constants translated to java.time, so Dates can be compared by Calendar fields
+ * without creating Calendar instances.
+ * Values follow the Gregorian Calendar conventions: months start at 0, days of week start at Sunday = 1
+ * and week numbering follows the default format Locale, as Calendar.getInstance() does.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+final class CalendarFields {
+
+    /**
+     * Fields indexed by their Calendar constant.
+     */
+    private static final CalendarField[] FIELDS = new CalendarField[Calendar.FIELD_COUNT];
+
+    static {
+        register(Calendar.ERA, "ERA", time -> time.getLong(ChronoField.ERA));
+        register(Calendar.YEAR, "YEAR", time -> time.getLong(ChronoField.YEAR_OF_ERA));
+        register(Calendar.MONTH, "MONTH", time -> time.getMonthValue() - 1L);
+        register(Calendar.WEEK_OF_YEAR, "WEEK_OF_YEAR", time -> time.getLong(weekFields().weekOfWeekBasedYear()));
+        register(Calendar.WEEK_OF_MONTH, "WEEK_OF_MONTH", time -> time.getLong(weekFields().weekOfMonth()));
+        register(Calendar.DATE, "DATE", ZonedDateTime::getDayOfMonth);
+        register(Calendar.DAY_OF_YEAR, "DAY_OF_YEAR", ZonedDateTime::getDayOfYear);
+        register(Calendar.DAY_OF_WEEK, "DAY_OF_WEEK", time -> time.getDayOfWeek().getValue() % 7 + 1L);
+        register(Calendar.DAY_OF_WEEK_IN_MONTH, "DAY_OF_WEEK_IN_MONTH", time -> time.getLong(ChronoField.ALIGNED_WEEK_OF_MONTH));
+        register(Calendar.AM_PM, "AM_PM", time -> time.getLong(ChronoField.AMPM_OF_DAY));
+        register(Calendar.HOUR, "HOUR", time -> time.getLong(ChronoField.HOUR_OF_AMPM));
+        register(Calendar.HOUR_OF_DAY, "HOUR_OF_DAY", ZonedDateTime::getHour);
+        register(Calendar.MINUTE, "MINUTE", ZonedDateTime::getMinute);
+        register(Calendar.SECOND, "SECOND", ZonedDateTime::getSecond);
+        register(Calendar.MILLISECOND, "MILLISECOND", time -> time.getLong(ChronoField.MILLI_OF_SECOND));
+        register(Calendar.ZONE_OFFSET, "ZONE_OFFSET",
+                time -> time.getZone().getRules().getStandardOffset(time.toInstant()).getTotalSeconds() * 1000L);
+        register(Calendar.DST_OFFSET, "DST_OFFSET",
+                time -> time.getZone().getRules().getDaylightSavings(time.toInstant()).toMillis());
+    }
+
+    private CalendarFields() {
+    }
+
+    /**
+     * Retrieves a Calendar field.
+     *
+     * @param fieldId Calendar field constant
+     * @return the field
+     * @throws FieldNotFoundException when the constant is not a Calendar field
+     */
+    static CalendarField of(int fieldId) throws FieldNotFoundException {
+        if (fieldId < 0 || fieldId >= FIELDS.length) {
+            throw new FieldNotFoundException("Field ["+ fieldId + "] not found as a constant in Calendar");
+        }
+        return FIELDS[fieldId];
+    }
+
+    private static void register(int fieldId, String name, ToLongFunction<ZonedDateTime> value) {
+        FIELDS[fieldId] = new CalendarField(name, value);
+    }
+
+    private static WeekFields weekFields() {
+        return WeekFields.of(Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Calendar field read from a ZonedDateTime.
+     *
+     * @param name  name of the Calendar constant
+     * @param value reads the field with the Calendar conventions
+     */
+    record CalendarField(String name, ToLongFunction<ZonedDateTime> value) {
+
+        /**
+         * Reads the field.
+         *
+         * @param time date and time in the zone the field is read
+         * @return field value, as Calendar.get would return
+         */
+        long get(ZonedDateTime time) {
+            return value.applyAsLong(time);
+        }
+    }
+}
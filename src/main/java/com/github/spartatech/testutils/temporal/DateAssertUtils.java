@@ -2,14 +2,18 @@ package com.github.spartatech.testutils.temporal;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-import java.lang.reflect.Field;
 import java.text.SimpleDateFormat;
-import java.util.Calendar;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.Locale;
 
 import org.opentest4j.AssertionFailedError;
 
-import com.github.spartatech.testutils.exception.FieldNotFoundException;
+import com.github.spartatech.testutils.temporal.CalendarFields.CalendarField;
 
 
 
@@ -22,6 +26,10 @@ import com.github.spartatech.testutils.exception.FieldNotFoundException;
  * History: 
  *    Dec 29, 2016 - Daniel Conde Diehl
  *    Aug 03, 2020 - ddiehl - Porting to Junit5 Jupiter
+ *    Oct 19, 2026 - Sparta Team - Calendar fields read through java.time, without Calendar instances or reflection
+ *    Oct 19, 2026 - Sparta Team - Cached formatters for assertDateByFormat
+ *    Oct 19, 2026 - Sparta Team - assertNow, reading the virtual clock of VirtualClockExtension
+ *    Oct 19, 2026 - Sparta Team - Cached formatters only when the locale texts match SimpleDateFormat
  *  
  */
 public abstract class DateAssertUtils {
@@ -32,24 +40,29 @@ public abstract class DateAssertUtils {
      * @param message  message in case user wants to show a custom message
      * @param expected Expected Date
      * @param actual   Actual Date
-     * @param fields   Calendar fields to be compared
+     * @param fields   Calendar fields to be compared, read in the default time zone
      * @throws AssertionFailedError in case comparison fails
+     * @throws com.github.spartatech.testutils.exception.FieldNotFoundException when a field is not a Calendar field
      */
     public static void assertDate(String message, Date expected, Date actual, int... fields) throws AssertionFailedError {
         if (fields.length == 0) {
             assertEquals(expected, actual, message == null ? "Date Mismatch": message);
         }
-        
-        final Calendar expectedCalendar = Calendar.getInstance();
-        expectedCalendar.setTime(expected);
-        
-        final Calendar actualCalendar = Calendar.getInstance();
-        actualCalendar.setTime(actual);
+
+        final ZoneId zone = ZoneId.systemDefault();
+        ZonedDateTime expectedTime = null;
+        ZonedDateTime actualTime = null;
         for (int field : fields) {
-            final String fieldName = findCalendarFieldName(field);
-            if (expectedCalendar.get(field) != actualCalendar.get(field)) {
-                throw new AssertionFailedError(message == null ? "Field "+ fieldName+ " mismatch": message, 
-                        String.valueOf(expectedCalendar.get(field)), String.valueOf(actualCalendar.get(field)));
+            final CalendarField calendarField = CalendarFields.of(field);
+            if (expectedTime == null) {
+                expectedTime = Instant.ofEpochMilli(expected.getTime()).atZone(zone);
+                actualTime = Instant.ofEpochMilli(actual.getTime()).atZone(zone);
+            }
+            final long expectedValue = calendarField.get(expectedTime);
+            final long actualValue = calendarField.get(actualTime);
+            if (expectedValue != actualValue) {
+                throw new AssertionFailedError(message == null ? "Field "+ calendarField.name()+ " mismatch": message, 
+                        String.valueOf(expectedValue), String.valueOf(actualValue));
             }
         }
     }
@@ -68,7 +81,9 @@ public abstract class DateAssertUtils {
 
 
     /**
-     * Compares Dates by format
+     * Compares Dates by format.
+     * Formats are cached as DateTimeFormatters, shared by all threads, when the pattern formats the same way as
+     * SimpleDateFormat, otherwise a SimpleDateFormat is used.
      *
      * @param message  to be presented in case of error
      * @param expected expected date
@@ -77,10 +92,18 @@ public abstract class DateAssertUtils {
      * @throws AssertionFailedError in case comparison fails
      */
     public static void assertDateByFormat(String message, Date expected, Date actual, String format) throws AssertionFailedError {
-        final SimpleDateFormat sdf = new SimpleDateFormat(format);
-        
-        final String actualFormatted = sdf.format(actual);
-        final String exepctedFormatted =sdf.format(expected);
+        final String actualFormatted;
+        final String exepctedFormatted;
+        final Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        if (FormatterCache.isCompatible(format, locale)) {
+            final DateTimeFormatter formatter = FormatterCache.get(format, ZoneId.systemDefault(), locale);
+            actualFormatted = formatter.format(Instant.ofEpochMilli(actual.getTime()));
+            exepctedFormatted = formatter.format(Instant.ofEpochMilli(expected.getTime()));
+        } else {
+            final SimpleDateFormat sdf = new SimpleDateFormat(format);
+            actualFormatted = sdf.format(actual);
+            exepctedFormatted = sdf.format(expected);
+        }
         
         if (!actualFormatted.equals(exepctedFormatted)) {
             throw new AssertionFailedError(message == null ? "Date mismatch": message, 
@@ -101,25 +124,28 @@ public abstract class DateAssertUtils {
     }
 
     /**
-     * Finds a field name of the calendar by the field Id
+     * Assert a Date is at most a tolerance away from now.
+     * Now is read from the virtual clock when the test runs with {@link VirtualClockExtension}, from the system clock otherwise.
+     *
+     * @param message   message in case user wants to show a custom message
+     * @param actual    actual date
+     * @param tolerance maximum difference allowed
+     * @throws AssertionFailedError in case comparison fails
+     */
+    public static void assertNow(String message, Date actual, Duration tolerance) throws AssertionFailedError {
+        TemporalAssertUtils.assertWithin(message, new Date(TestClock.current().millis()), actual, tolerance);
+    }
+
+    /**
+     * Assert a Date is at most a tolerance away from now. Shows a standard failure message.
      *
-     * @param fieldId Field Id, value
-     * @return Field Name
-     * @throws FieldNotFoundException when the fields does not exist for Calendar
+     * @param actual    actual date
+     * @param tolerance maximum difference allowed
+     * @throws AssertionFailedError in case comparison fails
      */
-    private static String findCalendarFieldName(int fieldId) throws FieldNotFoundException {
-        for (Field field : Calendar.class.getFields()) {
-            if (field.getType() == Integer.TYPE) {
-                try {
-                    if (field.getInt(null) == fieldId) {
-                        return field.getName();
-                    }
-                } catch (IllegalArgumentException|IllegalAccessException e) {
-                    throw new FieldNotFoundException("Field ["+ fieldId + "] not found as a constant in Calendar");
-                }
-            }
-        }
-        throw new FieldNotFoundException("Field ["+ fieldId + "] not found as a constant in Calendar");
+    public static void assertNow(Date actual, Duration tolerance) throws AssertionFailedError {
+        assertNow(null, actual, tolerance);
     }
+
     
 }
@@ -0,0 +1,577 @@
+package com.github.spartatech.testutils.temporal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.StringJoiner;
+import java.util.function.LongFunction;
+
+import org.opentest4j.AssertionFailedError;
+
+/**
+ *
+ * Bulk assertions over sequences of timestamps: monotonic, strictly increasing, within a range, maximum gap and bucket histogram.
+ * Each assert is a single linear pass over a long[] of epoch values, reporting the first offending index and how many
+ * positions offend in total. Instant collections are read as epoch nanos (valid from year 1677 to 2262),
+ * Date collections as epoch millis, both copied once into a long[] before the pass.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *    Oct 19, 2026 - Sparta Team - Date asserts named with a Dates suffix, asserts with standard messages
+ *
+ */
+public abstract class EpochAssertUtils {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final int MAX_BUCKETS_SHOWN = 20;
+
+    private static final LongFunction<String> RAW = String::valueOf;
+    private static final LongFunction<String> NANOS = value -> Instant.ofEpochSecond(0, value).toString();
+    private static final LongFunction<String> MILLIS = value -> Instant.ofEpochMilli(value).toString();
+
+    /**
+     * Assert epoch values never decrease, equal consecutive values are allowed.
+     *
+     * @param message message in case user wants to show a custom message
+     * @param epochs  epoch values, in any unit
+     * @throws AssertionFailedError in case any value is lower than the previous one
+     */
+    public static void assertMonotonic(String message, long[] epochs) throws AssertionFailedError {
+        assertIncreasing(message, epochs, false, RAW);
+    }
+
+    /**
+     * Assert epoch values never decrease, equal consecutive values are allowed. Shows a standard failure message.
+     *
+     * @param epochs epoch values, in any unit
+     * @throws AssertionFailedError in case any value is lower than the previous one
+     */
+    public static void assertMonotonic(long[] epochs) throws AssertionFailedError {
+        assertMonotonic(null, epochs);
+    }
+
+    /**
+     * Assert Instants never go back in time, equal consecutive Instants are allowed.
+     *
+     * @param message  message in case user wants to show a custom message
+     * @param instants instants in iteration order
+     * @throws AssertionFailedError in case any instant is before the previous one
+     */
+    public static void assertMonotonic(String message, Collection<Instant> instants) throws AssertionFailedError {
+        assertIncreasing(message, epochNanos(instants), false, NANOS);
+    }
+
+    /**
+     * Assert Instants never go back in time, equal consecutive Instants are allowed. Shows a standard failure message.
+     *
+     * @param instants instants in iteration order
+     * @throws AssertionFailedError in case any instant is before the previous one
+     */
+    public static void assertMonotonic(Collection<Instant> instants) throws AssertionFailedError {
+        assertMonotonic(null, instants);
+    }
+
+    /**
+     * Assert Dates never go back in time, equal consecutive Dates are allowed.
+     *
+     * @param message message in case user wants to show a custom message
+     * @param dates   dates in iteration order
+     * @throws AssertionFailedError in case any date is before the previous one
+     */
+    public static void assertMonotonicDates(String message, Collection<Date> dates) throws AssertionFailedError {
+        assertIncreasing(message, epochMillis(dates), false, MILLIS);
+    }
+
+    /**
+     * Assert Dates never go back in time, equal consecutive Dates are allowed. Shows a standard failure message.
+     *
+     * @param dates dates in iteration order
+     * @throws AssertionFailedError in case any date is before the previous one
+     */
+    public static void assertMonotonicDates(Collection<Date> dates) throws AssertionFailedError {
+        assertMonotonicDates(null, dates);
+    }
+
+    /**
+     * Assert each epoch value is greater than the previous one.
+     *
+     * @param message message in case user wants to show a custom message
+     * @param epochs  epoch values, in any unit
+     * @throws AssertionFailedError in case any value is not greater than the previous one
+     */
+    public static void assertStrictlyIncreasing(String message, long[] epochs) throws AssertionFailedError {
+        assertIncreasing(message, epochs, true, RAW);
+    }
+
+    /**
+     * Assert each epoch value is greater than the previous one. Shows a standard failure message.
+     *
+     * @param epochs epoch values, in any unit
+     * @throws AssertionFailedError in case any value is not greater than the previous one
+     */
+    public static void assertStrictlyIncreasing(long[] epochs) throws AssertionFailedError {
+        assertStrictlyIncreasing(null, epochs);
+    }
+
+    /**
+     * Assert each Instant is after the previous one.
+     *
+     * @param message  message in case user wants to show a custom message
+     * @param instants instants in iteration order
+     * @throws AssertionFailedError in case any instant is not after the previous one
+     */
+    public static void assertStrictlyIncreasing(String message, Collection<Instant> instants) throws AssertionFailedError {
+        assertIncreasing(message, epochNanos(instants), true, NANOS);
+    }
+
+    /**
+     * Assert each Instant is after the previous one. Shows a standard failure message.
+     *
+     * @param instants instants in iteration order
+     * @throws AssertionFailedError in case any instant is not after the previous one
+     */
+    public static void assertStrictlyIncreasing(Collection<Instant> instants) throws AssertionFailedError {
+        assertStrictlyIncreasing(null, instants);
+    }
+
+    /**
+     * Assert each Date is after the previous one.
+     *
+     * @param message message in case user wants to show a custom message
+     * @param dates   dates in iteration order
+     * @throws AssertionFailedError in case any date is not after the previous one
+     */
+    public static void assertStrictlyIncreasingDates(String message, Collection<Date> dates) throws AssertionFailedError {
+        assertIncreasing(message, epochMillis(dates), true, MILLIS);
+    }
+
+    /**
+     * Assert each Date is after the previous one. Shows a standard failure message.
+     *
+     * @param dates dates in iteration order
+     * @throws AssertionFailedError in case any date is not after the previous one
+     */
+    public static void assertStrictlyIncreasingDates(Collection<Date> dates) throws AssertionFailedError {
+        assertStrictlyIncreasingDates(null, dates);
+    }
+
+    /**
+     * Assert all epoch values are inside a range, both ends inclusive.
+     *
+     * @param message message in case user wants to show a custom message
+     * @param epochs  epoch values
+     * @param from    lowest value allowed
+     * @param to      highest value allowed
+     * @throws AssertionFailedError in case any value is outside the range
+     */
+    public static void assertWithinRange(String message, long[] epochs, long from, long to) throws AssertionFailedError {
+        assertRange(message, epochs, from, to, RAW);
+    }
+
+    /**
+     * Assert all epoch values are inside a range, both ends inclusive. Shows a standard failure message.
+     *
+     * @param epochs epoch values
+     * @param from   lowest value allowed
+     * @param to     highest value allowed
+     * @throws AssertionFailedError in case any value is outside the range
+     */
+    public static void assertWithinRange(long[] epochs, long from, long to) throws AssertionFailedError {
+        assertWithinRange(null, epochs, from, to);
+    }
+
+    /**
+     * Assert all Instants are inside a range, both ends inclusive.
+     *
+     * @param message  message in case user wants to show a custom message
+     * @param instants instants to check
+     * @param from     first instant allowed
+     * @param to       last instant allowed
+     * @throws AssertionFailedError in case any instant is outside the range
+     */
+    public static void assertWithinRange(String message, Collection<Instant> instants, Instant from, Instant to) throws AssertionFailedError {
+        assertRange(message, epochNanos(instants), epochNanos(from), epochNanos(to), NANOS);
+    }
+
+    /**
+     * Assert all Instants are inside a range, both ends inclusive. Shows a standard failure message.
+     *
+     * @param instants instants to check
+     * @param from     first instant allowed
+     * @param to       last instant allowed
+     * @throws AssertionFailedError in case any instant is outside the range
+     */
+    public static void assertWithinRange(Collection<Instant> instants, Instant from, Instant to) throws AssertionFailedError {
+        assertWithinRange(null, instants, from, to);
+    }
+
+    /**
+     * Assert all Dates are inside a range, both ends inclusive.
+     *
+     * @param message message in case user wants to show a custom message
+     * @param dates   dates to check
+     * @param from    first date allowed
+     * @param to      last date allowed
+     * @throws AssertionFailedError in case any date is outside the range
+     */
+    public static void assertWithinRangeDates(String message, Collection<Date> dates, Date from, Date to) throws AssertionFailedError {
+        assertRange(message, epochMillis(dates), from.getTime(), to.getTime(), MILLIS);
+    }
+
+    /**
+     * Assert all Dates are inside a range, both ends inclusive. Shows a standard failure message.
+     *
+     * @param dates dates to check
+     * @param from  first date allowed
+     * @param to    last date allowed
+     * @throws AssertionFailedError in case any date is outside the range
+     */
+    public static void assertWithinRangeDates(Collection<Date> dates, Date from, Date to) throws AssertionFailedError {
+        assertWithinRangeDates(null, dates, from, to);
+    }
+
+    /**
+     * Assert the distance between consecutive epoch values, in any direction, is never larger than a maximum.
+     *
+     * @param message message in case user wants to show a custom message
+     * @param epochs  epoch values
+     * @param maxGap  largest distance allowed, in the same unit of the values
+     * @throws AssertionFailedError in case any gap is larger
+     */
+    public static void assertMaxGap(String message, long[] epochs, long maxGap) throws AssertionFailedError {
+        assertGap(message, epochs, maxGap, RAW, RAW);
+    }
+
+    /**
+     * Assert the distance between consecutive epoch values, in any direction, is never larger than a maximum. Shows a standard failure message.
+     *
+     * @param epochs epoch values
+     * @param maxGap largest distance allowed, in the same unit of the values
+     * @throws AssertionFailedError in case any gap is larger
+     */
+    public static void assertMaxGap(long[] epochs, long maxGap) throws AssertionFailedError {
+        assertMaxGap(null, epochs, maxGap);
+    }
+
+    /**
+     * Assert the distance between consecutive Instants, in any direction, is never larger than a maximum.
+     *
+     * @param message  message in case user wants to show a custom message
+     * @param instants instants in iteration order
+     * @param maxGap   largest distance allowed
+     * @throws AssertionFailedError in case any gap is larger
+     */
+    public static void assertMaxGap(String message, Collection<Instant> instants, Duration maxGap) throws AssertionFailedError {
+        assertGap(message, epochNanos(instants), maxGap.toNanos(), NANOS, value -> Duration.ofNanos(value).toString());
+    }
+
+    /**
+     * Assert the distance between consecutive Instants, in any direction, is never larger than a maximum. Shows a standard failure message.
+     *
+     * @param instants instants in iteration order
+     * @param maxGap   largest distance allowed
+     * @throws AssertionFailedError in case any gap is larger
+     */
+    public static void assertMaxGap(Collection<Instant> instants, Duration maxGap) throws AssertionFailedError {
+        assertMaxGap(null, instants, maxGap);
+    }
+
+    /**
+     * Assert the distance between consecutive Dates, in any direction, is never larger than a maximum.
+     *
+     * @param message message in case user wants to show a custom message
+     * @param dates   dates in iteration order
+     * @param maxGap  largest distance allowed
+     * @throws AssertionFailedError in case any gap is larger
+     */
+    public static void assertMaxGapDates(String message, Collection<Date> dates, Duration maxGap) throws AssertionFailedError {
+        assertGap(message, epochMillis(dates), maxGap.toMillis(), MILLIS, value -> Duration.ofMillis(value).toString());
+    }
+
+    /**
+     * Assert the distance between consecutive Dates, in any direction, is never larger than a maximum. Shows a standard failure message.
+     *
+     * @param dates  dates in iteration order
+     * @param maxGap largest distance allowed
+     * @throws AssertionFailedError in case any gap is larger
+     */
+    public static void assertMaxGapDates(Collection<Date> dates, Duration maxGap) throws AssertionFailedError {
+        assertMaxGapDates(null, dates, maxGap);
+    }
+
+    /**
+     * Assert how many epoch values fall in each bucket of fixed width.
+     * Bucket i holds the values from origin + i * width, inclusive, to origin + (i + 1) * width, exclusive.
+     *
+     * @param message        message in case user wants to show a custom message
+     * @param epochs         epoch values
+     * @param origin         start of the first bucket
+     * @param width          width of each bucket, in the same unit of the values
+     * @param expectedCounts expected number of values in each bucket
+     * @throws AssertionFailedError in case any count differs or a value falls outside all buckets
+     */
+    public static void assertHistogram(String message, long[] epochs, long origin, long width, long[] expectedCounts) throws AssertionFailedError {
+        assertBuckets(message, epochs, origin, width, expectedCounts, RAW);
+    }
+
+    /**
+     * Assert how many epoch values fall in each bucket of fixed width. Shows a standard failure message.
+     * Bucket i holds the values from origin + i * width, inclusive, to origin + (i + 1) * width, exclusive.
+     *
+     * @param epochs         epoch values
+     * @param origin         start of the first bucket
+     * @param width          width of each bucket, in the same unit of the values
+     * @param expectedCounts expected number of values in each bucket
+     * @throws AssertionFailedError in case any count differs or a value falls outside all buckets
+     */
+    public static void assertHistogram(long[] epochs, long origin, long width, long[] expectedCounts) throws AssertionFailedError {
+        assertHistogram(null, epochs, origin, width, expectedCounts);
+    }
+
+    /**
+     * Assert how many Instants fall in each bucket of fixed duration.
+     *
+     * @param message        message in case user wants to show a custom message
+     * @param instants       instants to count
+     * @param origin         start of the first bucket
+     * @param width          duration of each bucket
+     * @param expectedCounts expected number of instants in each bucket
+     * @throws AssertionFailedError in case any count differs or an instant falls outside all buckets
+     */
+    public static void assertHistogram(String message, Collection<Instant> instants, Instant origin, Duration width, long[] expectedCounts)
+            throws AssertionFailedError {
+        assertBuckets(message, epochNanos(instants), epochNanos(origin), width.toNanos(), expectedCounts, NANOS);
+    }
+
+    /**
+     * Assert how many Instants fall in each bucket of fixed duration. Shows a standard failure message.
+     *
+     * @param instants       instants to count
+     * @param origin         start of the first bucket
+     * @param width          duration of each bucket
+     * @param expectedCounts expected number of instants in each bucket
+     * @throws AssertionFailedError in case any count differs or an instant falls outside all buckets
+     */
+    public static void assertHistogram(Collection<Instant> instants, Instant origin, Duration width, long[] expectedCounts)
+            throws AssertionFailedError {
+        assertHistogram(null, instants, origin, width, expectedCounts);
+    }
+
+    /**
+     * Assert how many Dates fall in each bucket of fixed duration.
+     *
+     * @param message        message in case user wants to show a custom message
+     * @param dates          dates to count
+     * @param origin         start of the first bucket
+     * @param width          duration of each bucket
+     * @param expectedCounts expected number of dates in each bucket
+     * @throws AssertionFailedError in case any count differs or a date falls outside all buckets
+     */
+    public static void assertHistogramDates(String message, Collection<Date> dates, Date origin, Duration width, long[] expectedCounts)
+            throws AssertionFailedError {
+        assertBuckets(message, epochMillis(dates), origin.getTime(), width.toMillis(), expectedCounts, MILLIS);
+    }
+
+    /**
+     * Assert how many Dates fall in each bucket of fixed duration. Shows a standard failure message.
+     *
+     * @param dates          dates to count
+     * @param origin         start of the first bucket
+     * @param width          duration of each bucket
+     * @param expectedCounts expected number of dates in each bucket
+     * @throws AssertionFailedError in case any count differs or a date falls outside all buckets
+     */
+    public static void assertHistogramDates(Collection<Date> dates, Date origin, Duration width, long[] expectedCounts)
+            throws AssertionFailedError {
+        assertHistogramDates(null, dates, origin, width, expectedCounts);
+    }
+
+    /**
+     * Checks each value is greater, or not lower, than the previous one.
+     *
+     * @param message  custom message, null for the standard one
+     * @param epochs   values to check
+     * @param strictly whether equal consecutive values offend
+     * @param describe formats a value for the message
+     */
+    private static void assertIncreasing(String message, long[] epochs, boolean strictly, LongFunction<String> describe) {
+        int first = -1;
+        long count = 0;
+        for (int i = 1; i < epochs.length; i++) {
+            if (epochs[i] < epochs[i - 1] || (strictly && epochs[i] == epochs[i - 1])) {
+                if (first < 0) {
+                    first = i;
+                }
+                count++;
+            }
+        }
+        if (first >= 0) {
+            fail(message != null ? message : (strictly ? "Values are not strictly increasing" : "Values are not monotonic")
+                    + ": first at index [" + first + "], " + describe.apply(epochs[first]) + " after " + describe.apply(epochs[first - 1])
+                    + ". Offending positions: " + count + " of " + epochs.length);
+        }
+    }
+
+    /**
+     * Checks every value is inside a range.
+     *
+     * @param message  custom message, null for the standard one
+     * @param epochs   values to check
+     * @param from     lowest value allowed
+     * @param to       highest value allowed
+     * @param describe formats a value for the message
+     */
+    private static void assertRange(String message, long[] epochs, long from, long to, LongFunction<String> describe) {
+        int first = -1;
+        long count = 0;
+        for (int i = 0; i < epochs.length; i++) {
+            if (epochs[i] < from || epochs[i] > to) {
+                if (first < 0) {
+                    first = i;
+                }
+                count++;
+            }
+        }
+        if (first >= 0) {
+            fail(message != null ? message : "Values are not within [" + describe.apply(from) + ", " + describe.apply(to) + "]"
+                    + ": first at index [" + first + "], " + describe.apply(epochs[first])
+                    + ". Offending positions: " + count + " of " + epochs.length);
+        }
+    }
+
+    /**
+     * Checks the distance between consecutive values.
+     *
+     * @param message          custom message, null for the standard one
+     * @param epochs           values to check
+     * @param maxGap           largest distance allowed
+     * @param describe         formats a value for the message
+     * @param describeDistance formats a distance for the message
+     */
+    private static void assertGap(String message, long[] epochs, long maxGap, LongFunction<String> describe, LongFunction<String> describeDistance) {
+        if (maxGap < 0) {
+            throw new IllegalArgumentException("Maximum gap must not be negative: " + maxGap);
+        }
+        int first = -1;
+        long count = 0;
+        long largest = 0;
+        for (int i = 1; i < epochs.length; i++) {
+            final long gap = Math.abs(epochs[i] - epochs[i - 1]);
+            if (gap > maxGap) {
+                if (first < 0) {
+                    first = i;
+                }
+                count++;
+                largest = Math.max(largest, gap);
+            }
+        }
+        if (first >= 0) {
+            fail(message != null ? message : "Gap larger than " + describeDistance.apply(maxGap)
+                    + ": first at index [" + first + "], " + describeDistance.apply(Math.abs(epochs[first] - epochs[first - 1]))
+                    + " from " + describe.apply(epochs[first - 1]) + " to " + describe.apply(epochs[first])
+                    + ". Offending positions: " + count + " of " + epochs.length + ", largest gap " + describeDistance.apply(largest));
+        }
+    }
+
+    /**
+     * Counts the values of each bucket and compares with the expected counts.
+     *
+     * @param message        custom message, null for the standard one
+     * @param epochs         values to count
+     * @param origin         start of the first bucket
+     * @param width          width of each bucket
+     * @param expectedCounts expected number of values in each bucket
+     * @param describe       formats a value for the message
+     */
+    private static void assertBuckets(String message, long[] epochs, long origin, long width, long[] expectedCounts, LongFunction<String> describe) {
+        if (width <= 0) {
+            throw new IllegalArgumentException("Bucket width must be positive: " + width);
+        }
+        final long[] counts = new long[expectedCounts.length];
+        int firstOutside = -1;
+        long outside = 0;
+        for (int i = 0; i < epochs.length; i++) {
+            final long bucket = epochs[i] >= origin ? (epochs[i] - origin) / width : -1;
+            if (bucket >= 0 && bucket < counts.length) {
+                counts[(int) bucket]++;
+            } else {
+                if (firstOutside < 0) {
+                    firstOutside = i;
+                }
+                outside++;
+            }
+        }
+
+        final StringJoiner differences = new StringJoiner(", ");
+        int differing = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            if (counts[bucket] != expectedCounts[bucket] && differing++ < MAX_BUCKETS_SHOWN) {
+                differences.add("[" + bucket + "] from " + describe.apply(origin + bucket * width)
+                        + " expected " + expectedCounts[bucket] + " but was " + counts[bucket]);
+            }
+        }
+        if (differing > 0 || outside > 0) {
+            final StringBuilder msg = new StringBuilder("Histogram does not match.");
+            if (differing > 0) {
+                msg.append(" Buckets differing: ").append(differing).append(' ').append(differences);
+                if (differing > MAX_BUCKETS_SHOWN) {
+                    msg.append(" ...");
+                }
+                msg.append('.');
+            }
+            if (outside > 0) {
+                msg.append(" Values outside all buckets: ").append(outside).append(", first at index [").append(firstOutside)
+                   .append("], ").append(describe.apply(epochs[firstOutside])).append('.');
+            }
+            throw new AssertionFailedError(message != null ? message : msg.toString(), Arrays.toString(expectedCounts),
+                    Arrays.toString(counts));
+        }
+    }
+
+    /**
+     * Copies Instants as epoch nanos.
+     *
+     * @param instants instants to copy
+     * @return epoch nanos in iteration order
+     * @throws ArithmeticException when an instant does not fit in epoch nanos
+     */
+    private static long[] epochNanos(Collection<Instant> instants) {
+        final long[] epochs = new long[instants.size()];
+        final Iterator<Instant> iterator = instants.iterator();
+        for (int i = 0; i < epochs.length; i++) {
+            epochs[i] = epochNanos(iterator.next());
+        }
+        return epochs;
+    }
+
+    /**
+     * @param instant instant to convert
+     * @return epoch nanos
+     * @throws ArithmeticException when the instant does not fit in epoch nanos
+     */
+    private static long epochNanos(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+
+    /**
+     * Copies Dates as epoch millis.
+     *
+     * @param dates dates to copy
+     * @return epoch millis in iteration order
+     */
+    private static long[] epochMillis(Collection<Date> dates) {
+        final long[] epochs = new long[dates.size()];
+        final Iterator<Date> iterator = dates.iterator();
+        for (int i = 0; i < epochs.length; i++) {
+            epochs[i] = iterator.next().getTime();
+        }
+        return epochs;
+    }
+}
@@ -0,0 +1,180 @@
+package com.github.spartatech.testutils.temporal;
+
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ *
+ * Bounded, thread safe cache of DateTimeFormatters, so repeated asserts do not compile the same pattern again.
+ * DateTimeFormatters are immutable, the cached instances are shared by all threads.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *    Oct 19, 2026 - Sparta Team - Text fields compatible only when the locale texts match
+ *
+ */
+final class FormatterCache {
+
+    /**
+     * Maximum number of formatters kept, an arbitrary one is evicted when exceeded.
+     */
+    private static final int MAX_FORMATTERS = 512;
+
+
+    private static final ConcurrentMap<FormatKey, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    /**
+     * Dates compared to check text fields: every month, and consecutive days covering every day of week and both halves of the day.
+     */
+    private static final int TEXT_SAMPLES = 24;
+
+    /**
+     * Whether a pattern with text fields formats the same with both formatters, by pattern and locale, cleared when full.
+     */
+    private static final ConcurrentMap<FormatKey, Boolean> SAME_TEXT = new ConcurrentHashMap<>();
+
+    private FormatterCache() {
+    }
+
+    /**
+     * Retrieves the formatter of a pattern, compiling it on first use.
+     *
+     * @param pattern DateTimeFormatter pattern
+     * @param zone    zone used to format instants, null to keep the zone of the values
+     * @param locale  locale of the texts
+     * @return shared formatter
+     * @throws IllegalArgumentException when the pattern is invalid
+     */
+    static DateTimeFormatter get(String pattern, ZoneId zone, Locale locale) throws IllegalArgumentException {
+        final FormatKey key = new FormatKey(pattern, zone, locale);
+        final DateTimeFormatter cached = FORMATTERS.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, locale).withZone(zone);
+        if (FORMATTERS.size() >= MAX_FORMATTERS) {
+            final Iterator<FormatKey> keys = FORMATTERS.keySet().iterator();
+            if (keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        final DateTimeFormatter previous = FORMATTERS.putIfAbsent(key, formatter);
+        return previous == null ? formatter : previous;
+    }
+
+    /**
+     * Checks whether a SimpleDateFormat pattern formats the same with DateTimeFormatter in a locale.
+     * Patterns using other letters, or DateTimeFormatter reserved characters, must keep using SimpleDateFormat.
+     * Month, day of week, era and am/pm texts come from different locale data in each formatter, so patterns with them
+     * are only compatible when they match in the locale, like the short name of March in German.
+     *
+     * @param pattern SimpleDateFormat pattern
+     * @param locale  locale of the texts
+     * @return true when both formatters produce the same text
+     */
+    static boolean isCompatible(String pattern, Locale locale) {
+        boolean quoted = false;
+        boolean text = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            final char c = pattern.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted) {
+                if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+                    return false;
+                }
+                if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                    int count = 1;
+                    while (i + 1 < pattern.length() && pattern.charAt(i + 1) == c) {
+                        i++;
+                        count++;
+                    }
+                    if (count > maxCompatibleCount(c) || (c == 'S' && count != 3) || (c == 'X' && count == 1)) {
+                        return false;
+                    }
+                    text |= isText(c, count);
+                }
+            }
+        }
+        return !quoted && (!text || sameText(pattern, locale));
+    }
+
+    /**
+     * Longest run of a pattern letter that means the same for SimpleDateFormat and DateTimeFormatter.
+     * Besides these limits, S is only the same as SSS and X is not the same alone, as it shows the minutes of non whole hour offsets.
+     *
+     * @param letter pattern letter
+     * @return maximum count, 0 when the letter has a different meaning
+     */
+    private static int maxCompatibleCount(char letter) {
+        return switch (letter) {
+            case 'y', 'Y' -> Integer.MAX_VALUE;
+            case 'M', 'L', 'E', 'z' -> 4;
+            case 'G', 'D', 'S', 'Z', 'X' -> 3;
+            case 'd', 'H', 'k', 'K', 'h', 'm', 's' -> 2;
+            case 'a' -> 1;
+            default -> 0;
+        };
+    }
+
+    /**
+     * @param letter pattern letter
+     * @param count  number of repetitions of the letter
+     * @return true when the letter is formatted as a locale text
+     */
+    private static boolean isText(char letter, int count) {
+        return ((letter == 'M' || letter == 'L') && count >= 3) || letter == 'E' || letter == 'G' || letter == 'a';
+    }
+
+    /**
+     * Checks whether a pattern with text fields formats the same with both formatters, on sample dates covering every month,
+     * day of week and half of the day. The whole pattern is formatted, as SimpleDateFormat picks the standalone or the
+     * format form of month names depending on the other fields. Results are cached per pattern and locale.
+     *
+     * @param pattern SimpleDateFormat pattern
+     * @param locale  locale of the texts
+     * @return true when every sample formats the same
+     */
+    private static boolean sameText(String pattern, Locale locale) {
+        final FormatKey key = new FormatKey(pattern, ZoneOffset.UTC, locale);
+        final Boolean cached = SAME_TEXT.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final SimpleDateFormat simple = new SimpleDateFormat(pattern, locale);
+        simple.setTimeZone(TimeZone.getTimeZone(ZoneOffset.UTC));
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, locale).withZone(ZoneOffset.UTC);
+        boolean same = true;
+        for (int i = 0; i < TEXT_SAMPLES && same; i++) {
+            final Instant sample = LocalDateTime.of(2026, i % 12 + 1, i + 1, i, 0).toInstant(ZoneOffset.UTC);
+            same = simple.format(Date.from(sample)).equals(formatter.format(sample));
+        }
+        if (SAME_TEXT.size() >= MAX_FORMATTERS) {
+            SAME_TEXT.clear();
+        }
+        SAME_TEXT.put(key, same);
+        return same;
+    }
+
+    /**
+     * Key of a cached formatter.
+     *
+     * @param pattern DateTimeFormatter pattern
+     * @param zone    override zone, may be null
+     * @param locale  locale of the texts
+     */
+    private record FormatKey(String pattern, ZoneId zone, Locale locale) { }
+}
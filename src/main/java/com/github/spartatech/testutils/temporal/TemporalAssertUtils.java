@@ -0,0 +1,577 @@
+package com.github.spartatech.testutils.temporal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Date;
+import java.util.Locale;
+
+import org.opentest4j.AssertionFailedError;
+
+import com.github.spartatech.testutils.exception.FieldNotFoundException;
+
+/**
+ *
+ * Assertion utils for java.time types: Instant, LocalDate, LocalDateTime, LocalTime, OffsetDateTime and ZonedDateTime.
+ * Values are compared by ChronoFields or after truncating them to a ChronoUnit.
+ * Legacy Dates are converted through their epoch millis, no Calendar is involved.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *    Oct 19, 2026 - Sparta Team - Asserts by cached DateTimeFormatter patterns
+ *    Oct 19, 2026 - Sparta Team - Tolerance, before, after and between asserts
+ *    Oct 19, 2026 - Sparta Team - Before, after and between asserts with standard messages
+ *    Oct 19, 2026 - Sparta Team - Dates not truncated to units larger than HOURS
+ *
+ */
+public abstract class TemporalAssertUtils {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    /**
+     * Assert some fields of two temporal values.
+     * When no field is informed, values are compared using equals.
+     *
+     * @param message  message in case user wants to show a custom message
+     * @param expected expected value
+     * @param actual   actual value
+     * @param fields   fields to be compared
+     * @throws AssertionFailedError in case comparison fails
+     * @throws FieldNotFoundException when a field is not supported by the values
+     */
+    public static void assertTemporal(String message, TemporalAccessor expected, TemporalAccessor actual, ChronoField... fields)
+            throws AssertionFailedError, FieldNotFoundException {
+        if (fields.length == 0) {
+            assertEquals(expected, actual, message == null ? "Date Mismatch" : message);
+        }
+        for (ChronoField field : fields) {
+            if (!expected.isSupported(field) || !actual.isSupported(field)) {
+                throw new FieldNotFoundException("Field [" + field.name() + "] not supported by "
+                        + expected.getClass().getSimpleName() + " and " + actual.getClass().getSimpleName());
+            }
+            final long expectedValue = expected.getLong(field);
+            final long actualValue = actual.getLong(field);
+            if (expectedValue != actualValue) {
+                throw new AssertionFailedError(message == null ? "Field " + field.name() + " mismatch" : message,
+                        String.valueOf(expectedValue), String.valueOf(actualValue));
+            }
+        }
+    }
+
+    /**
+     * Assert some fields of two temporal values. Shows a standard failure message.
+     *
+     * @param expected expected value
+     * @param actual   actual value
+     * @param fields   fields to be compared
+     * @throws AssertionFailedError in case comparison fails
+     * @throws FieldNotFoundException when a field is not supported by the values
+     */
+    public static void assertTemporal(TemporalAccessor expected, TemporalAccessor actual, ChronoField... fields)
+            throws AssertionFailedError, FieldNotFoundException {
+        assertTemporal(null, expected, actual, fields);
+    }
+
+    /**
+     * Assert some fields of two instants, read in a time zone.
+     *
+     * @param message  message in case user wants to show a custom message
+     * @param expected expected instant
+     * @param actual   actual instant
+     * @param zone     time zone the fields are read in
+     * @param fields   fields to be compared
+     * @throws AssertionFailedError in case comparison fails
+     */
+    public static void assertTemporal(String message, Instant expected, Instant actual, ZoneId zone, ChronoField... fields)
+            throws AssertionFailedError {
+        if (fields.length == 0) {
+            assertEquals(expected, actual, message == null ? "Date Mismatch" : message);
+        } else {
+            assertTemporal(message, expected.atZone(zone), actual.atZone(zone), fields);
+        }
+    }
+
+    /**
+     * Assert some fields of two Dates, read in a time zone.
+     *
+     * @param message  message in case user wants to show a custom message
+     * @param expected expected date
+     * @param actual   actual date
+     * @param zone     time zone the fields are read in
+     * @param fields   fields to be compared
+     * @throws AssertionFailedError in case comparison fails
+     */
+    public static void assertTemporal(String message, Date expected, Date actual, ZoneId zone, ChronoField... fields)
+            throws AssertionFailedError {
+        assertTemporal(message, Instant.ofEpochMilli(expected.getTime()), Instant.ofEpochMilli(actual.getTime()), zone, fields);
+    }
+
+    /**
+     * Compares two temporal values formatted by a DateTimeFormatter pattern.
+     * Formatters are cached and shared by all threads, so the pattern is compiled only once.
+     *
+     * @param message  message in case user wants to show a custom message
+     * @param expected expected value
+     * @param actual   actual value
+     * @param pattern  DateTimeFormatter pattern applied to both values before comparing
+     * @param zone     zone used to format instants, null to keep the zone of the values
+     * @param locale   locale of the texts
+     * @throws AssertionFailedError in case comparison fails
+     */
+    public static void assertTemporalByFormat(String message, TemporalAccessor expected, TemporalAccessor actual, String pattern,
+                                              ZoneId zone, Locale locale) throws AssertionFailedError {
+        final DateTimeFormatter formatter = FormatterCache.get(pattern, zone, locale);
+        final String expectedFormatted = formatter.format(expected);
+        final String actualFormatted = formatter.format(actual);
+        if (!expectedFormatted.equals(actualFormatted)) {
+            throw new AssertionFailedError(message == null ? "Date mismatch" : message, expectedFormatted, actualFormatted);
+        }
+    }
+
+    /**
+     * Compares two temporal values formatted by a DateTimeFormatter pattern, with the default locale.
+     *
+     * @param expected expected value
+     * @param actual   actual value
+     * @param pattern  DateTimeFormatter pattern applied to both values before comparing
+     * @throws AssertionFailedError in case comparison fails
+     */
+    public static void assertTemporalByFormat(TemporalAccessor expected, TemporalAccessor actual, String pattern) throws AssertionFailedError {
+        assertTemporalByFormat(null, expected, actual, pattern, null, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Assert two temporal values are the same once truncated to a unit, like the same minute.
+     * Units up to DAYS are supported, for larger units compare by fields.
+     *
+     * @param message  message in case user wants to show a custom message
+     * @param expected expected value
+     * @param actual   actual value
+     * @param unit     unit to truncate both values to
+     * @throws AssertionFailedError in case comparison fails
+     * @throws UnsupportedTemporalTypeException when the values can not be truncated to the unit
+     */
+    public static void assertTruncated(String message, Temporal expected, Temporal actual, ChronoUnit unit)
+            throws AssertionFailedError, UnsupportedTemporalTypeException {
+        final Temporal expectedTruncated = truncate(expected, unit);
+        final Temporal actualTruncated = truncate(actual, unit);
+        if (!expectedTruncated.equals(actualTruncated)) {
+            throw new AssertionFailedError(message == null ? "Mismatch truncated to " + unit.name() : message,
+                    String.valueOf(expectedTruncated), String.valueOf(actualTruncated));
+        }
+    }
+
+    /**
+     * Assert two temporal values are the same once truncated to a unit. Shows a standard failure message.
+     *
+     * @param expected expected value
+     * @param actual   actual value
+     * @param unit     unit to truncate both values to
+     * @throws AssertionFailedError in case comparison fails
+     * @throws UnsupportedTemporalTypeException when the values can not be truncated to the unit
+     */
+    public static void assertTruncated(Temporal expected, Temporal actual, ChronoUnit unit)
+            throws AssertionFailedError, UnsupportedTemporalTypeException {
+        assertTruncated(null, expected, actual, unit);
+    }
+
+    /**
+     * Assert two Dates are the same once truncated to a unit, truncation is done on the UTC time line.
+     *
+     * @param message  message in case user wants to show a custom message
+     * @param expected expected date
+     * @param actual   actual date
+     * @param unit     unit to truncate both values to, up to HOURS as larger units depend on the time zone
+     * @throws AssertionFailedError in case comparison fails
+     * @throws UnsupportedTemporalTypeException when the unit is larger than HOURS
+     */
+    public static void assertTruncated(String message, Date expected, Date actual, ChronoUnit unit)
+            throws AssertionFailedError, UnsupportedTemporalTypeException {
+        if (unit.compareTo(ChronoUnit.HOURS) > 0) {
+            throw new UnsupportedTemporalTypeException("Can not truncate Date to " + unit.name() + " without a time zone");
+        }
+        assertTruncated(message, Instant.ofEpochMilli(expected.getTime()), Instant.ofEpochMilli(actual.getTime()), unit);
+    }
+
+    /**
+     * Assert two temporal values are at most a tolerance apart, in any direction.
+     * Values are compared on their epoch seconds and nanos: instants, offset and zoned values on the time line,
+     * local values as if they were in the same offset, so a local value can only be compared to another local value of the same type.
+     *
+     * @param message   message in case user wants to show a custom message
+     * @param expected  expected value
+     * @param actual    actual value
+     * @param tolerance maximum difference allowed
+     * @throws AssertionFailedError in case comparison fails
+     * @throws UnsupportedTemporalTypeException when the values can not be placed on a time line together
+     */
+    public static void assertWithin(String message, TemporalAccessor expected, TemporalAccessor actual, Duration tolerance)
+            throws AssertionFailedError, UnsupportedTemporalTypeException {
+        checkComparable(expected, actual);
+        assertWithin(message, epochSecond(expected), nano(expected), epochSecond(actual), nano(actual), tolerance, expected, actual);
+    }
+
+    /**
+     * Assert two temporal values are at most a tolerance apart. Shows a standard failure message.
+     *
+     * @param expected  expected value
+     * @param actual    actual value
+     * @param tolerance maximum difference allowed
+     * @throws AssertionFailedError in case comparison fails
+     * @throws UnsupportedTemporalTypeException when the values can not be placed on a time line together
+     */
+    public static void assertWithin(TemporalAccessor expected, TemporalAccessor actual, Duration tolerance)
+            throws AssertionFailedError, UnsupportedTemporalTypeException {
+        assertWithin(null, expected, actual, tolerance);
+    }
+
+    /**
+     * Assert two Dates are at most a tolerance apart, in any direction.
+     *
+     * @param message   message in case user wants to show a custom message
+     * @param expected  expected date
+     * @param actual    actual date
+     * @param tolerance maximum difference allowed
+     * @throws AssertionFailedError in case comparison fails
+     */
+    public static void assertWithin(String message, Date expected, Date actual, Duration tolerance) throws AssertionFailedError {
+        final long expectedMillis = expected.getTime();
+        final long actualMillis = actual.getTime();
+        assertWithin(message, Math.floorDiv(expectedMillis, 1000L), Math.floorMod(expectedMillis, 1000L) * 1_000_000L,
+                Math.floorDiv(actualMillis, 1000L), Math.floorMod(actualMillis, 1000L) * 1_000_000L, tolerance, expected, actual);
+    }
+
+    /**
+     * Assert two Dates are at most a tolerance apart. Shows a standard failure message.
+     *
+     * @param expected  expected date
+     * @param actual    actual date
+     * @param tolerance maximum difference allowed
+     * @throws AssertionFailedError in case comparison fails
+     */
+    public static void assertWithin(Date expected, Date actual, Duration tolerance) throws AssertionFailedError {
+        assertWithin(null, expected, actual, tolerance);
+    }
+
+    /**
+     * Assert a temporal value is strictly before a reference.
+     *
+     * @param message   message in case user wants to show a custom message
+     * @param reference value the actual one must precede
+     * @param actual    actual value
+     * @throws AssertionFailedError in case comparison fails
+     * @throws UnsupportedTemporalTypeException when the values can not be placed on a time line together
+     */
+    public static void assertBefore(String message, TemporalAccessor reference, TemporalAccessor actual)
+            throws AssertionFailedError, UnsupportedTemporalTypeException {
+        checkComparable(reference, actual);
+        if (compare(epochSecond(actual), nano(actual), epochSecond(reference), nano(reference)) >= 0) {
+            throw new AssertionFailedError(message == null ? "Expected before " + reference : message, "before " + reference, String.valueOf(actual));
+        }
+    }
+
+    /**
+     * Assert a temporal value is strictly before a reference. Shows a standard failure message.
+     *
+     * @param reference value the actual one must precede
+     * @param actual    actual value
+     * @throws AssertionFailedError in case comparison fails
+     * @throws UnsupportedTemporalTypeException when the values can not be placed on a time line together
+     */
+    public static void assertBefore(TemporalAccessor reference, TemporalAccessor actual) throws AssertionFailedError, UnsupportedTemporalTypeException {
+        assertBefore(null, reference, actual);
+    }
+
+    /**
+     * Assert a Date is strictly before a reference.
+     *
+     * @param message   message in case user wants to show a custom message
+     * @param reference date the actual one must precede
+     * @param actual    actual date
+     * @throws AssertionFailedError in case comparison fails
+     */
+    public static void assertBefore(String message, Date reference, Date actual) throws AssertionFailedError {
+        if (actual.getTime() >= reference.getTime()) {
+            throw new AssertionFailedError(message == null ? "Expected before " + reference : message, "before " + reference, String.valueOf(actual));
+        }
+    }
+
+    /**
+     * Assert a Date is strictly before a reference. Shows a standard failure message.
+     *
+     * @param reference date the actual one must precede
+     * @param actual    actual date
+     * @throws AssertionFailedError in case comparison fails
+     */
+    public static void assertBefore(Date reference, Date actual) throws AssertionFailedError {
+        assertBefore(null, reference, actual);
+    }
+
+    /**
+     * Assert a temporal value is strictly after a reference.
+     *
+     * @param message   message in case user wants to show a custom message
+     * @param reference value the actual one must follow
+     * @param actual    actual value
+     * @throws AssertionFailedError in case comparison fails
+     * @throws UnsupportedTemporalTypeException when the values can not be placed on a time line together
+     */
+    public static void assertAfter(String message, TemporalAccessor reference, TemporalAccessor actual)
+            throws AssertionFailedError, UnsupportedTemporalTypeException {
+        checkComparable(reference, actual);
+        if (compare(epochSecond(actual), nano(actual), epochSecond(reference), nano(reference)) <= 0) {
+            throw new AssertionFailedError(message == null ? "Expected after " + reference : message, "after " + reference, String.valueOf(actual));
+        }
+    }
+
+    /**
+     * Assert a temporal value is strictly after a reference. Shows a standard failure message.
+     *
+     * @param reference value the actual one must follow
+     * @param actual    actual value
+     * @throws AssertionFailedError in case comparison fails
+     * @throws UnsupportedTemporalTypeException when the values can not be placed on a time line together
+     */
+    public static void assertAfter(TemporalAccessor reference, TemporalAccessor actual) throws AssertionFailedError, UnsupportedTemporalTypeException {
+        assertAfter(null, reference, actual);
+    }
+
+    /**
+     * Assert a Date is strictly after a reference.
+     *
+     * @param message   message in case user wants to show a custom message
+     * @param reference date the actual one must follow
+     * @param actual    actual date
+     * @throws AssertionFailedError in case comparison fails
+     */
+    public static void assertAfter(String message, Date reference, Date actual) throws AssertionFailedError {
+        if (actual.getTime() <= reference.getTime()) {
+            throw new AssertionFailedError(message == null ? "Expected after " + reference : message, "after " + reference, String.valueOf(actual));
+        }
+    }
+
+    /**
+     * Assert a Date is strictly after a reference. Shows a standard failure message.
+     *
+     * @param reference date the actual one must follow
+     * @param actual    actual date
+     * @throws AssertionFailedError in case comparison fails
+     */
+    public static void assertAfter(Date reference, Date actual) throws AssertionFailedError {
+        assertAfter(null, reference, actual);
+    }
+
+    /**
+     * Assert a temporal value is between two others, both inclusive.
+     *
+     * @param message message in case user wants to show a custom message
+     * @param start   first value allowed
+     * @param end     last value allowed
+     * @param actual  actual value
+     * @throws AssertionFailedError in case comparison fails
+     * @throws UnsupportedTemporalTypeException when the values can not be placed on a time line together
+     */
+    public static void assertBetween(String message, TemporalAccessor start, TemporalAccessor end, TemporalAccessor actual)
+            throws AssertionFailedError, UnsupportedTemporalTypeException {
+        checkComparable(start, actual);
+        checkComparable(end, actual);
+        final long second = epochSecond(actual);
+        final long nano = nano(actual);
+        if (compare(second, nano, epochSecond(start), nano(start)) < 0 || compare(second, nano, epochSecond(end), nano(end)) > 0) {
+            throw new AssertionFailedError(message == null ? "Expected between " + start + " and " + end : message,
+                    "[" + start + ", " + end + "]", String.valueOf(actual));
+        }
+    }
+
+    /**
+     * Assert a temporal value is between two others, both inclusive. Shows a standard failure message.
+     *
+     * @param start  first value allowed
+     * @param end    last value allowed
+     * @param actual actual value
+     * @throws AssertionFailedError in case comparison fails
+     * @throws UnsupportedTemporalTypeException when the values can not be placed on a time line together
+     */
+    public static void assertBetween(TemporalAccessor start, TemporalAccessor end, TemporalAccessor actual)
+            throws AssertionFailedError, UnsupportedTemporalTypeException {
+        assertBetween(null, start, end, actual);
+    }
+
+    /**
+     * Assert a Date is between two others, both inclusive.
+     *
+     * @param message message in case user wants to show a custom message
+     * @param start   first date allowed
+     * @param end     last date allowed
+     * @param actual  actual date
+     * @throws AssertionFailedError in case comparison fails
+     */
+    public static void assertBetween(String message, Date start, Date end, Date actual) throws AssertionFailedError {
+        if (actual.getTime() < start.getTime() || actual.getTime() > end.getTime()) {
+            throw new AssertionFailedError(message == null ? "Expected between " + start + " and " + end : message,
+                    "[" + start + ", " + end + "]", String.valueOf(actual));
+        }
+    }
+
+    /**
+     * Assert a Date is between two others, both inclusive. Shows a standard failure message.
+     *
+     * @param start  first date allowed
+     * @param end    last date allowed
+     * @param actual actual date
+     * @throws AssertionFailedError in case comparison fails
+     */
+    public static void assertBetween(Date start, Date end, Date actual) throws AssertionFailedError {
+        assertBetween(null, start, end, actual);
+    }
+
+    /**
+     * Compares the distance between two points of the time line with a tolerance.
+     *
+     * @param message        message in case user wants to show a custom message
+     * @param expectedSecond epoch second of the expected value
+     * @param expectedNano   nano of second of the expected value
+     * @param actualSecond   epoch second of the actual value
+     * @param actualNano     nano of second of the actual value
+     * @param tolerance      maximum difference allowed
+     * @param expected       expected value, only used by the failure message
+     * @param actual         actual value, only used by the failure message
+     * @throws AssertionFailedError in case comparison fails
+     */
+    private static void assertWithin(String message, long expectedSecond, long expectedNano, long actualSecond, long actualNano,
+                                     Duration tolerance, Object expected, Object actual) throws AssertionFailedError {
+        if (tolerance.isNegative()) {
+            throw new IllegalArgumentException("Tolerance must not be negative: " + tolerance);
+        }
+        long seconds = actualSecond - expectedSecond;
+        long nanos = actualNano - expectedNano;
+        if (nanos < 0) {
+            seconds--;
+            nanos += NANOS_PER_SECOND;
+        }
+        if (seconds < 0) {
+            seconds = nanos == 0 ? -seconds : -seconds - 1;
+            nanos = nanos == 0 ? 0 : NANOS_PER_SECOND - nanos;
+        }
+        if (compare(seconds, nanos, tolerance.getSeconds(), tolerance.getNano()) > 0) {
+            throw new AssertionFailedError(message == null
+                    ? "Expected within " + tolerance + " but was " + Duration.ofSeconds(seconds, nanos) + " apart" : message,
+                    String.valueOf(expected), String.valueOf(actual));
+        }
+    }
+
+    /**
+     * Compares two points of the time line.
+     *
+     * @param second1 epoch second of the first point
+     * @param nano1   nano of second of the first point
+     * @param second2 epoch second of the second point
+     * @param nano2   nano of second of the second point
+     * @return negative, zero or positive as the first point is before, at or after the second
+     */
+    private static int compare(long second1, long nano1, long second2, long nano2) {
+        final int result = Long.compare(second1, second2);
+        return result != 0 ? result : Long.compare(nano1, nano2);
+    }
+
+    /**
+     * Checks two values can be placed on the same time line: either both have an instant or both are local values of the same type.
+     *
+     * @param value1 first value
+     * @param value2 second value
+     * @throws UnsupportedTemporalTypeException when the values can not be compared
+     */
+    private static void checkComparable(TemporalAccessor value1, TemporalAccessor value2) throws UnsupportedTemporalTypeException {
+        final boolean instant1 = value1.isSupported(ChronoField.INSTANT_SECONDS);
+        final boolean instant2 = value2.isSupported(ChronoField.INSTANT_SECONDS);
+        if (instant1 != instant2 || (!instant1 && value1.getClass() != value2.getClass())) {
+            throw new UnsupportedTemporalTypeException("Can not compare " + value1.getClass().getSimpleName()
+                    + " and " + value2.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Epoch second of a temporal value, local values are read as if in UTC.
+     *
+     * @param value temporal value
+     * @return epoch second
+     * @throws UnsupportedTemporalTypeException when the value has no date nor time
+     */
+    private static long epochSecond(TemporalAccessor value) throws UnsupportedTemporalTypeException {
+        if (value instanceof Instant instant) {
+            return instant.getEpochSecond();
+        }
+        if (value.isSupported(ChronoField.INSTANT_SECONDS)) {
+            return value.getLong(ChronoField.INSTANT_SECONDS);
+        }
+        final long days = value.isSupported(ChronoField.EPOCH_DAY) ? value.getLong(ChronoField.EPOCH_DAY) : 0;
+        final long seconds = value.isSupported(ChronoField.SECOND_OF_DAY) ? value.getLong(ChronoField.SECOND_OF_DAY) : 0;
+        if (!value.isSupported(ChronoField.EPOCH_DAY) && !value.isSupported(ChronoField.SECOND_OF_DAY)) {
+            throw new UnsupportedTemporalTypeException("Can not place " + value.getClass().getSimpleName() + " on the time line");
+        }
+        return days * SECONDS_PER_DAY + seconds;
+    }
+
+    /**
+     * Nano of second of a temporal value.
+     *
+     * @param value temporal value
+     * @return nano of second, 0 for dates
+     */
+    private static long nano(TemporalAccessor value) {
+        if (value instanceof Instant instant) {
+            return instant.getNano();
+        }
+        return value.isSupported(ChronoField.NANO_OF_SECOND) ? value.getLong(ChronoField.NANO_OF_SECOND) : 0;
+    }
+
+    /**
+     * Truncates a temporal value.
+     *
+     * @param value value to be truncated
+     * @param unit  unit to truncate to
+     * @return truncated value
+     * @throws UnsupportedTemporalTypeException when the value can not be truncated
+     */
+    private static Temporal truncate(Temporal value, ChronoUnit unit) throws UnsupportedTemporalTypeException {
+        if (value instanceof Instant instant) {
+            return instant.truncatedTo(unit);
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime.truncatedTo(unit);
+        }
+        if (value instanceof ZonedDateTime dateTime) {
+            return dateTime.truncatedTo(unit);
+        }
+        if (value instanceof OffsetDateTime dateTime) {
+            return dateTime.truncatedTo(unit);
+        }
+        if (value instanceof LocalTime time) {
+            return time.truncatedTo(unit);
+        }
+        if (value instanceof OffsetTime time) {
+            return time.truncatedTo(unit);
+        }
+        if (value instanceof LocalDate && (unit.isTimeBased() || unit == ChronoUnit.DAYS)) {
+            return value;
+        }
+        throw new UnsupportedTemporalTypeException("Can not truncate " + value.getClass().getSimpleName() + " to " + unit.name());
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.spartatech.testutils.temporal;
+
+import java.time.Clock;
+
+/**
+ *
+ * Clock the date asserts take as "now": the virtual clock of the running test when it uses
+ * {@link VirtualClockExtension}, the system clock otherwise. Only the thread running the test sees its clock, threads it
+ * starts use the system clock, so a pooled thread created during one test does not keep its clock for the tests after it.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *    Oct 19, 2026 - Sparta Team - Clock kept only by the test thread, not inherited by the threads it starts
+ *
+ */
+final class TestClock {
+
+    private static final ThreadLocal<Clock> CURRENT = new ThreadLocal<>();
+
+    private TestClock() {
+    }
+
+    /**
+     * @return clock of the running test, the system clock when none was set
+     */
+    static Clock current() {
+        final Clock clock = CURRENT.get();
+        return clock != null ? clock : Clock.systemDefaultZone();
+    }
+
+    /**
+     * @param clock clock of the running test
+     */
+    static void set(Clock clock) {
+        CURRENT.set(clock);
+    }
+
+    /**
+     * Goes back to the system clock.
+     */
+    static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,240 @@
+package com.github.spartatech.testutils.temporal;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.PriorityQueue;
+
+/**
+ *
+ * Clock that only moves when told to, so time dependent code can be tested without sleeping.
+ * Callbacks can be scheduled against the clock: advancing it runs every callback due on the way, in due time order
+ * (registration order for the same instant), with the clock showing the due time of each callback while it runs.
+ * Callbacks run on the thread advancing the clock and may schedule further callbacks.
+ *
+ * Clocks obtained by {@link #withZone(ZoneId)} share the time line and the callbacks of the original clock.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+public final class VirtualClock extends Clock {
+
+    private final Timeline timeline;
+    private final ZoneId zone;
+
+    /**
+     * Constructor receiving the initial instant and the zone of the clock.
+     *
+     * @param start initial instant
+     * @param zone  time zone of the clock
+     */
+    public VirtualClock(Instant start, ZoneId zone) {
+        this(new Timeline(start), zone);
+    }
+
+    /**
+     * Constructor sharing a time line.
+     *
+     * @param timeline time line of the clock
+     * @param zone     time zone of the clock
+     */
+    private VirtualClock(Timeline timeline, ZoneId zone) {
+        this.timeline = timeline;
+        this.zone = zone;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public VirtualClock withZone(ZoneId zone) {
+        return zone.equals(this.zone) ? this : new VirtualClock(timeline, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        synchronized (timeline) {
+            return timeline.now;
+        }
+    }
+
+    /**
+     * Moves the clock forward, running the callbacks due until the new instant.
+     *
+     * @param duration how much the clock moves, zero only runs the callbacks already due
+     * @throws IllegalArgumentException when the duration is negative
+     */
+    public void advance(Duration duration) throws IllegalArgumentException {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("Virtual time can not go back: " + duration);
+        }
+        advanceTo(instant().plus(duration));
+    }
+
+    /**
+     * Moves the clock forward to an instant, running the callbacks due until it.
+     *
+     * @param target instant the clock will show
+     * @throws IllegalArgumentException when the instant is before the current one
+     */
+    public void advanceTo(Instant target) throws IllegalArgumentException {
+        while (true) {
+            final Scheduled next;
+            synchronized (timeline) {
+                if (target.isBefore(timeline.now)) {
+                    throw new IllegalArgumentException("Virtual time can not go back from " + timeline.now + " to " + target);
+                }
+                next = timeline.queue.peek();
+                if (next == null || next.dueAt.isAfter(target)) {
+                    timeline.now = target;
+                    return;
+                }
+                timeline.queue.poll();
+                timeline.now = next.dueAt;
+                next.done = true;
+            }
+            next.callback.run();
+        }
+    }
+
+    /**
+     * Schedules a callback to run once the clock has moved by a delay.
+     *
+     * @param delay    how far from now the callback is due
+     * @param callback code to run
+     * @return handle to cancel the callback
+     * @throws IllegalArgumentException when the delay is negative
+     */
+    public Scheduled schedule(Duration delay, Runnable callback) throws IllegalArgumentException {
+        if (delay.isNegative()) {
+            throw new IllegalArgumentException("Delay must not be negative: " + delay);
+        }
+        synchronized (timeline) {
+            return timeline.add(timeline.now.plus(delay), callback);
+        }
+    }
+
+    /**
+     * Schedules a callback to run once the clock reaches an instant.
+     * Instants already passed are due on the next advance.
+     *
+     * @param dueAt    instant the callback is due
+     * @param callback code to run
+     * @return handle to cancel the callback
+     */
+    public Scheduled scheduleAt(Instant dueAt, Runnable callback) {
+        synchronized (timeline) {
+            return timeline.add(dueAt.isBefore(timeline.now) ? timeline.now : dueAt, callback);
+        }
+    }
+
+    /**
+     * Number of callbacks scheduled and not run nor cancelled yet.
+     *
+     * @return pending callbacks
+     */
+    public int pending() {
+        synchronized (timeline) {
+            return timeline.queue.size();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualClock[" + instant() + "," + zone + "]";
+    }
+
+    /**
+     * Current instant and scheduled callbacks, shared by the clocks of all zones.
+     */
+    private static final class Timeline {
+        private final PriorityQueue<Scheduled> queue = new PriorityQueue<>();
+        private Instant now;
+        private long sequence;
+
+        /**
+         * @param start initial instant
+         */
+        Timeline(Instant start) {
+            this.now = start;
+        }
+
+        /**
+         * @param dueAt    instant the callback is due
+         * @param callback code to run
+         * @return handle of the scheduled callback
+         */
+        Scheduled add(Instant dueAt, Runnable callback) {
+            final Scheduled scheduled = new Scheduled(this, dueAt, sequence++, callback);
+            queue.add(scheduled);
+            return scheduled;
+        }
+    }
+
+    /**
+     * Callback scheduled against a virtual clock.
+     */
+    public static final class Scheduled implements Comparable<Scheduled> {
+        private final Timeline timeline;
+        private final Instant dueAt;
+        private final long sequence;
+        private final Runnable callback;
+        private boolean done;
+
+        /**
+         * @param timeline time line the callback belongs to
+         * @param dueAt    instant the callback is due
+         * @param sequence registration order, breaks ties between callbacks due at the same instant
+         * @param callback code to run
+         */
+        private Scheduled(Timeline timeline, Instant dueAt, long sequence, Runnable callback) {
+            this.timeline = timeline;
+            this.dueAt = dueAt;
+            this.sequence = sequence;
+            this.callback = callback;
+        }
+
+        /**
+         * @return instant the callback is due
+         */
+        public Instant dueAt() {
+            return dueAt;
+        }
+
+        /**
+         * Cancels the callback unless it already ran.
+         *
+         * @return true when the callback will no longer run
+         */
+        public boolean cancel() {
+            synchronized (timeline) {
+                if (done) {
+                    return false;
+                }
+                done = true;
+                return timeline.queue.remove(this);
+            }
+        }
+
+        /**
+         * @return true when the callback already ran or was cancelled
+         */
+        public boolean isDone() {
+            synchronized (timeline) {
+                return done;
+            }
+        }
+
+        @Override
+        public int compareTo(Scheduled other) {
+            final int result = dueAt.compareTo(other.dueAt);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.spartatech.testutils.temporal;
+
+import java.lang.reflect.AnnotatedElement;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+/**
+ * This extension gives each test its own {@link VirtualClock}, injected in parameters of type Clock or VirtualClock
+ * of the test and of its BeforeEach and AfterEach methods. While the test runs, the date asserts take the virtual
+ * clock as "now", see {@link DateAssertUtils#assertNow(String, java.util.Date, java.time.Duration)}.
+ * The initial instant and zone can be set with {@link VirtualTime}.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ */
+public class VirtualClockExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(VirtualClockExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        TestClock.set(clock(context));
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        TestClock.clear();
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        final Class<?> type = parameterContext.getParameter().getType();
+        return (type == Clock.class || type == VirtualClock.class) && extensionContext.getTestMethod().isPresent();
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return clock(extensionContext);
+    }
+
+    /**
+     * Retrieves the clock of the test, creating it on first use.
+     *
+     * @param context context of the test
+     * @return virtual clock of the test
+     */
+    private VirtualClock clock(ExtensionContext context) {
+        return context.getStore(NAMESPACE).getOrComputeIfAbsent(VirtualClock.class, key -> create(context), VirtualClock.class);
+    }
+
+    /**
+     * Creates a clock configured by the VirtualTime annotation of the test method or of its class.
+     *
+     * @param context context of the test
+     * @return new virtual clock
+     * @throws java.time.format.DateTimeParseException when the start instant is not valid
+     * @throws java.time.DateTimeException when the zone id is not valid
+     */
+    private VirtualClock create(ExtensionContext context) {
+        final VirtualTime time = annotation(context.getTestMethod())
+                .or(() -> annotation(context.getTestClass()))
+                .orElse(null);
+        final Instant start = time == null || time.start().isEmpty()
+                ? Instant.now().truncatedTo(ChronoUnit.MILLIS) : Instant.parse(time.start());
+        final ZoneId zone = time == null || time.zone().isEmpty() ? ZoneId.systemDefault() : ZoneId.of(time.zone());
+        return new VirtualClock(start, zone);
+    }
+
+    /**
+     * @param element annotated method or class
+     * @return VirtualTime annotation of the element
+     */
+    private static Optional<VirtualTime> annotation(Optional<? extends AnnotatedElement> element) {
+        return element.map(annotated -> annotated.getAnnotation(VirtualTime.class));
+    }
+}
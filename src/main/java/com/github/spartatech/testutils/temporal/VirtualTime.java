@@ -0,0 +1,34 @@
+package com.github.spartatech.testutils.temporal;
+
+import java.lang.annotation.*;
+
+/**
+ * Sets where the virtual clock of {@link VirtualClockExtension} starts for a test method or all methods of a class.
+ * Tests without it start at the real current instant, truncated to millis, in the default time zone.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface VirtualTime {
+    /**
+     * Initial instant, in ISO-8601 format like 2026-10-19T10:15:30Z.
+     * Empty starts at the real current instant.
+     *
+     * @return String initial instant
+     */
+    String start() default "";
+
+    /**
+     * Time zone id of the clock.
+     * Empty uses the default time zone.
+     *
+     * @return String zone id
+     */
+    String zone() default "";
+}
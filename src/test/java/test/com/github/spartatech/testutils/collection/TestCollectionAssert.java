@@ -2,15 +2,34 @@ package test.com.github.spartatech.testutils.collection;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentest4j.AssertionFailedError;
 
 import com.github.spartatech.testutils.colletion.CollectionAssert;
+import com.github.spartatech.testutils.colletion.GoldenRecordMapper;
 
 /** 
  * 
@@ -201,6 +220,581 @@ public class TestCollectionAssert extends CollectionAssert {
         CollectionAssert.assertListByReflection(listOne, listTwo);
     }
     
+    @Test
+    public void testAssertReflectionSuperclassFieldsCompared() {
+        final Date date = new Date();
+        final List<TestObjChild> listOne = new ArrayList<>();
+        listOne.add(new TestObjChild("one", 1, date, 1L, "child"));
+        final List<TestObjChild> listTwo = new ArrayList<>();
+        listTwo.add(new TestObjChild("one", 2, date, 1L, "child"));
+
+        assertThrows(AssertionError.class, () -> CollectionAssert.assertListByReflection(listOne, listTwo));
+        CollectionAssert.assertListByReflection(listOne, listTwo, "field2");
+    }
+
+    @Test
+    public void testAssertReflectionSubclassFieldsCompared() {
+        final Date date = new Date();
+        final List<TestObjChild> listOne = new ArrayList<>();
+        listOne.add(new TestObjChild("one", 1, date, 1L, "child"));
+        final List<TestObjChild> listTwo = new ArrayList<>();
+        listTwo.add(new TestObjChild("one", 1, date, 1L, "other child"));
+
+        assertThrows(AssertionError.class, () -> CollectionAssert.assertListByReflection(listOne, listTwo));
+        CollectionAssert.assertListByReflection(listOne, listTwo, "field5");
+    }
+
+    @Test
+    public void testAssertReflectionArrayRoots() {
+        CollectionAssert.assertListByReflection(List.of(new int[] {1, 2}), List.of(new int[] {1, 2}));
+        assertThrows(AssertionError.class, () -> CollectionAssert.assertListByReflection(List.of(new int[] {1}), List.of(new int[] {2})));
+        assertThrows(AssertionError.class,
+                () -> CollectionAssert.assertListByReflection(List.of(new String[] {"a"}), List.of(new String[] {"b"})));
+    }
+
+    @Test
+    public void testAssertReflectionCollectionRoots() {
+        final List<List<String>> listOne = List.of(new ArrayList<>(List.of("a", "b")), new ArrayList<>(List.of("c")));
+        final List<List<String>> listTwo = List.of(new ArrayList<>(List.of("c")), new ArrayList<>(List.of("a", "b")));
+        CollectionAssert.assertListByReflection(listOne, listTwo);
+        assertThrows(AssertionError.class,
+                () -> CollectionAssert.assertListByReflection(listOne, List.of(new ArrayList<>(List.of("a", "b")), new ArrayList<>(List.of("d")))));
+    }
+
+    @Test
+    public void testAssertReflectionMapRoots() {
+        final List<Map<String, Integer>> listOne = List.of(new HashMap<>(Map.of("a", 1, "b", 2)));
+        CollectionAssert.assertListByReflection(listOne, List.of(new HashMap<>(Map.of("b", 2, "a", 1))));
+        assertThrows(AssertionError.class,
+                () -> CollectionAssert.assertListByReflection(listOne, List.of(new HashMap<>(Map.of("a", 1, "b", 3)))));
+    }
+
+    @Test
+    public void testAssertReflectionJdkFieldsWithoutValueEquals() {
+        final List<Counter> listOne = List.of(new Counter(new AtomicInteger(1), new StringBuilder("x"), Optional.of(new Node("a"))));
+        CollectionAssert.assertListByReflection(listOne,
+                List.of(new Counter(new AtomicInteger(1), new StringBuilder("x"), Optional.of(new Node("a")))));
+        CollectionAssert.assertListByReflection(List.of(listOne.get(0), new Counter(new AtomicInteger(2), new StringBuilder(), Optional.empty())),
+                List.of(new Counter(new AtomicInteger(2), new StringBuilder(), Optional.empty()), listOne.get(0)));
+
+        assertThrows(AssertionError.class, () -> CollectionAssert.assertListByReflection(listOne,
+                List.of(new Counter(new AtomicInteger(2), new StringBuilder("x"), Optional.of(new Node("a"))))));
+        assertThrows(AssertionError.class, () -> CollectionAssert.assertListByReflection(listOne,
+                List.of(new Counter(new AtomicInteger(1), new StringBuilder("y"), Optional.of(new Node("a"))))));
+        assertThrows(AssertionError.class, () -> CollectionAssert.assertListByReflection(listOne,
+                List.of(new Counter(new AtomicInteger(1), new StringBuilder("x"), Optional.of(new Node("b"))))));
+    }
+
+    @Test
+    public void testAssertReflectionNestedStructures() {
+        final List<Nested> listOne = List.of(new Nested(new BigDecimal("1.0"), List.of("a", "b"), Map.of("k", new int[] {1, 2})));
+        final List<Nested> listTwo = List.of(new Nested(new BigDecimal("1.00"), new ArrayList<>(List.of("a", "b")), Map.of("k", new int[] {1, 2})));
+
+        CollectionAssert.assertListByReflection(listOne, listTwo);
+
+        final List<Nested> listThree = List.of(new Nested(new BigDecimal("1.0"), List.of("a", "b"), Map.of("k", new int[] {1, 3})));
+        assertThrows(AssertionError.class, () -> CollectionAssert.assertListByReflection(listOne, listThree));
+    }
+
+    @Test
+    public void testAssertReflectionCyclicGraph() {
+        final Node one = new Node("a");
+        one.next = new Node("b");
+        one.next.next = one;
+        final Node two = new Node("a");
+        two.next = new Node("b");
+        two.next.next = two;
+
+        CollectionAssert.assertListByReflection(List.of(one), List.of(two));
+
+        two.next.name = "c";
+        assertThrows(AssertionError.class, () -> CollectionAssert.assertListByReflection(List.of(one), List.of(two)));
+    }
+
+    @Test
+    public void testAssertListParallelMatches() {
+        final List<Integer> listOne = new ArrayList<>();
+        final List<Integer> listTwo = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            listOne.add(i % 500);
+            listTwo.add((19_999 - i) % 500);
+        }
+
+        CollectionAssert.assertListParallel(listOne, listTwo, Integer::compare, Integer::longValue);
+        CollectionAssert.assertListByReflectionParallel(listOne, listTwo);
+    }
+
+    @Test
+    public void testAssertListParallelSameReportAsSequential() {
+        final Date date = new Date();
+        final List<TestObj> listOne = new ArrayList<>();
+        final List<TestObj> listTwo = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            listOne.add(new TestObj("item" + (i % 100), i % 7, date, (long) i));
+            listTwo.add(new TestObj("item" + (i % 100), i % 5, date, (long) i));
+        }
+
+        final AssertionError sequential = assertThrows(AssertionError.class,
+                () -> CollectionAssert.assertListByReflection(listOne, listTwo, "field4"));
+        final AssertionError parallel = assertThrows(AssertionError.class,
+                () -> CollectionAssert.assertListByReflectionParallel(listOne, listTwo, "field4"));
+        assertEquals(sequential.getMessage(), parallel.getMessage());
+    }
+
+    @Test
+    public void testAssertListParallelSameOutcomeAsSequential() {
+        final List<List<? extends Object>[]> cases = List.of(
+                new List<?>[] {List.of(new int[] {1}), List.of(new int[] {2})},
+                new List<?>[] {List.of(new int[] {1, 2}), List.of(new int[] {1, 2})},
+                new List<?>[] {List.of(List.of("a", "b"), List.of("c")), List.of(List.of("c"), List.of("a", "b"))},
+                new List<?>[] {List.of(List.of("a")), List.of(List.of("b"))},
+                new List<?>[] {List.of(Map.of("a", 1)), List.of(Map.of("a", 2))},
+                new List<?>[] {List.of(new BigDecimal("1.0"), "x"), List.of("x", new BigDecimal("1.00"))},
+                new List<?>[] {List.of(1, 2, 3), List.of(1, 2)});
+        for (List<? extends Object>[] inputs : cases) {
+            @SuppressWarnings("unchecked")
+            final List<Object> listOne = (List<Object>) inputs[0];
+            @SuppressWarnings("unchecked")
+            final List<Object> listTwo = (List<Object>) inputs[1];
+            assertEquals(outcome(() -> CollectionAssert.assertListByReflection(listOne, listTwo)),
+                    outcome(() -> CollectionAssert.assertListByReflectionParallel(listOne, listTwo)), "Outcome of " + listOne + " and " + listTwo);
+        }
+    }
+
+    @Test
+    public void testAssertListParallelWorkerFailureKeepsMessage() {
+        final List<Integer> list = IntStream.range(0, 50_000).boxed().toList();
+        final Comparator<Integer> failing = (one, two) -> {
+            throw new AssertionFailedError("Comparator failed");
+        };
+        final ToLongFunction<Integer> failingHash = value -> {
+            throw new IllegalStateException("Hash failed");
+        };
+
+        final AssertionFailedError comparatorError = assertThrows(AssertionFailedError.class,
+                () -> CollectionAssert.assertListParallel(list, list, failing, Integer::longValue));
+        assertEquals("Comparator failed", comparatorError.getMessage());
+        final IllegalStateException hashError = assertThrows(IllegalStateException.class,
+                () -> CollectionAssert.assertListParallel(list, list, Integer::compare, failingHash));
+        assertEquals("Hash failed", hashError.getMessage());
+    }
+
+    /**
+     * @param assertion assertion to run
+     * @return message of the failure, or passed
+     */
+    private static String outcome(Executable assertion) {
+        try {
+            assertion.execute();
+            return "passed";
+        } catch (Throwable e) {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+
+    @Test
+    public void testAssertListParallelListTwoMissingItems() {
+        final AssertionError sequential = assertThrows(AssertionError.class,
+                () -> CollectionAssert.assertList(List.of(1, 2, 3), List.of(1, 2), Integer::compare));
+        final AssertionError parallel = assertThrows(AssertionError.class,
+                () -> CollectionAssert.assertListParallel(List.of(1, 2, 3), List.of(1, 2), Integer::compare, Integer::longValue));
+        assertEquals("List two is missing items", sequential.getMessage());
+        assertEquals(sequential.getMessage(), parallel.getMessage());
+    }
+
+    @Test
+    public void testAssertInOrderStreams() {
+        CollectionAssert.assertInOrder(IntStream.range(0, 100_000).boxed(), IntStream.range(0, 100_000).boxed(), Integer::compare);
+        CollectionAssert.assertInOrder(List.of(1, 2).spliterator(), List.of(1, 2).spliterator(), Integer::compare);
+
+        final AssertionFailedError mismatch = assertThrows(AssertionFailedError.class,
+                () -> CollectionAssert.assertInOrder(Stream.of(1, 2, 3), Stream.of(1, 5, 3), Integer::compare));
+        assertTrue(mismatch.getMessage().startsWith("Elements at position [1] are not similar"));
+        assertEquals("2", mismatch.getExpected().getStringRepresentation());
+        assertEquals("5", mismatch.getActual().getStringRepresentation());
+
+        final AssertionError shorter = assertThrows(AssertionError.class,
+                () -> CollectionAssert.assertInOrder(Stream.of(1, 2, 3), Stream.of(1, 2), Integer::compare));
+        assertTrue(shorter.getMessage().startsWith("List two is missing items, first missing at position [2]"));
+    }
+
+    @Test
+    public void testAssertInOrderByReflection() {
+        final Date date = new Date();
+        CollectionAssert.assertInOrderByReflection(Stream.of(new TestObj("one", 1, date, 1L)),
+                Stream.of(new TestObj("one", 2, date, 1L)), "field2");
+        assertThrows(AssertionError.class, () -> CollectionAssert.assertInOrderByReflection(Stream.of(new TestObj("one", 1, date, 1L)),
+                Stream.of(new TestObj("one", 2, date, 1L))));
+    }
+
+    @Test
+    public void testAssertUnorderedStreams() {
+        CollectionAssert.assertUnordered(IntStream.range(0, 100_000).boxed(), IntStream.range(0, 100_000).map(i -> 99_999 - i).boxed(),
+                Integer::compare, Integer::longValue, 100_000);
+        CollectionAssert.assertUnorderedByReflection(Stream.of("a", "b", "b"), Stream.of("b", "a", "b"), 10);
+
+        final AssertionError different = assertThrows(AssertionError.class,
+                () -> CollectionAssert.assertUnordered(Stream.of(1, 2, 3), Stream.of(3, 4, 1), Integer::compare, Integer::longValue, 10));
+        final String br = System.getProperty("line.separator");
+        assertEquals("Lists are not similar." + br + "List one: Remaining: 2" + br + "List two: Remaining: 4" + br, different.getMessage());
+    }
+
+    @Test
+    public void testAssertUnorderedBounded() {
+        final AssertionError bounded = assertThrows(AssertionError.class,
+                () -> CollectionAssert.assertUnordered(IntStream.range(0, 100).boxed(), IntStream.range(100, 200).boxed(),
+                        Integer::compare, Integer::longValue, 10));
+        assertEquals("Lists are not similar. More than 10 elements are unmatched at position [5]", bounded.getMessage());
+    }
+
+    @Test
+    public void testAssertInOrderEditScript() {
+        final String br = System.getProperty("line.separator");
+        final AssertionError error = assertThrows(AssertionError.class,
+                () -> CollectionAssert.assertInOrder(Stream.of(1, 2, 3, 4, 5), Stream.of(1, 3, 4, 6, 5), Integer::compare));
+        assertEquals("Elements at position [1] are not similar" + br
+                + "Edit script from position [1] (- only in list one, + only in list two):" + br
+                + "- [1] 2" + br
+                + "+ [3] 6" + br, error.getMessage());
+    }
+
+    @Test
+    public void testAssertInOrderByReflectionFieldDiff() {
+        final Date date = new Date();
+        final AssertionError error = assertThrows(AssertionError.class,
+                () -> CollectionAssert.assertInOrderByReflection(Stream.of(new TestObj("one", 1, date, 1L)),
+                        Stream.of(new TestObj("one", 2, date, 3L))));
+        assertTrue(error.getMessage().contains("fields differing from the next element: [field2, field4]"));
+    }
+
+    @Test
+    public void testAssertListBoundedReport() {
+        final List<Integer> listOne = IntStream.range(0, 100_000).boxed().toList();
+        final List<Integer> listTwo = IntStream.range(100_000, 200_000).boxed().toList();
+        final String br = System.getProperty("line.separator");
+
+        System.setProperty("sparta.testutils.collection.report.maxElements", "2");
+        try {
+            final AssertionError error = assertThrows(AssertionError.class,
+                    () -> CollectionAssert.assertUnordered(listOne.iterator(), listTwo.iterator(), Integer::compare, Integer::longValue, 200_000));
+            assertEquals("Lists are not similar." + br
+                    + "List one: Remaining: 0" + br
+                    + "List one: Remaining: 1" + br
+                    + "List one: ... 99998 more remaining (100000 in total)" + br
+                    + "List two: Remaining: 100000" + br
+                    + "List two: Remaining: 100001" + br
+                    + "List two: ... 99998 more remaining (100000 in total)" + br, error.getMessage());
+        } finally {
+            System.clearProperty("sparta.testutils.collection.report.maxElements");
+        }
+
+        System.setProperty("sparta.testutils.collection.report.maxChars", "60");
+        try {
+            final AssertionError error = assertThrows(AssertionError.class,
+                    () -> CollectionAssert.assertUnordered(listOne.iterator(), listTwo.iterator(), Integer::compare, Integer::longValue, 200_000));
+            assertTrue(error.getMessage().contains("... report truncated at 60 characters"));
+            assertTrue(error.getMessage().contains("List one: ... 99998 more remaining (100000 in total)"));
+            assertTrue(error.getMessage().contains("List two: ... 100000 more remaining (100000 in total)"));
+        } finally {
+            System.clearProperty("sparta.testutils.collection.report.maxChars");
+        }
+    }
+
+    @Test
+    public void testAssertArrayPrimitives() {
+        final int[] ints = IntStream.range(0, 1_000).toArray();
+        CollectionAssert.assertArray(ints, ints.clone());
+        CollectionAssert.assertArray(new long[] {1L, 2L}, new long[] {1L, 2L});
+        CollectionAssert.assertArray(new byte[] {1, 2}, new byte[] {1, 2});
+        CollectionAssert.assertBuffer(ByteBuffer.wrap(new byte[] {0, 1, 2}).position(1), ByteBuffer.wrap(new byte[] {1, 2}));
+
+        final int[] changed = ints.clone();
+        changed[500] = -1;
+        final String br = System.getProperty("line.separator");
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> CollectionAssert.assertArray(ints, changed));
+        assertEquals("Arrays differ at index [500]" + br
+                + "Array one: [495..506) [..., 495, 496, 497, 498, 499, <500>, 501, 502, 503, 504, 505, ...]" + br
+                + "Array two: [495..506) [..., 495, 496, 497, 498, 499, <-1>, 501, 502, 503, 504, 505, ...]", error.getMessage());
+        assertEquals("500", error.getExpected().getStringRepresentation());
+        assertEquals("-1", error.getActual().getStringRepresentation());
+
+        final AssertionFailedError length = assertThrows(AssertionFailedError.class,
+                () -> CollectionAssert.assertArray(new long[] {1L, 2L}, new long[] {1L, 2L, 3L}));
+        assertTrue(length.getMessage().startsWith("Arrays have different lengths: 2 and 3, first difference at index [2]"));
+    }
+
+    @Test
+    public void testAssertArrayDoubleTolerance() {
+        CollectionAssert.assertArray(new double[] {1.0, 100.0, Double.NaN}, new double[] {1.05, 101.0, Double.NaN}, 0.1, 0.01);
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> CollectionAssert.assertArray(new double[] {1.0, 100.0}, new double[] {1.0, 102.0}, 0.1, 0.01));
+        assertTrue(error.getMessage().startsWith("Arrays differ at index [1]"));
+    }
+
+    @Test
+    public void testAssertArrayUnordered() {
+        CollectionAssert.assertArrayUnordered(new int[] {3, 1, 2, 1}, new int[] {1, 1, 2, 3});
+        CollectionAssert.assertArrayUnordered(new long[] {3L, 1L}, new long[] {1L, 3L});
+        CollectionAssert.assertArrayUnordered(new byte[] {-1, 5, 5}, new byte[] {5, -1, 5});
+        CollectionAssert.assertArrayUnordered(new double[] {3.0, 1.0}, new double[] {1.001, 3.0}, 0.01, 0);
+
+        final String br = System.getProperty("line.separator");
+        final AssertionError error = assertThrows(AssertionError.class,
+                () -> CollectionAssert.assertArrayUnordered(new int[] {3, 1, 2, 1}, new int[] {1, 4, 2, 3}));
+        assertEquals("Arrays do not contain the same elements." + br
+                + "Array one: Remaining: [1] (1 in total)" + br
+                + "Array two: Remaining: [4] (1 in total)" + br, error.getMessage());
+        assertThrows(AssertionError.class, () -> CollectionAssert.assertArrayUnordered(new byte[] {1, 2}, new byte[] {2, 2}));
+        assertThrows(AssertionError.class, () -> CollectionAssert.assertArrayUnordered(new double[] {1.0}, new double[] {1.5}, 0.1, 0));
+    }
+
+    @Test
+    public void testAssertListByKey() {
+        final Date date = new Date();
+        final List<TestObj> listOne = List.of(new TestObj("one", 1, date, 1L), new TestObj("two", 2, date, 2L), new TestObj("three", 3, date, 3L));
+        final List<TestObj> listTwo = List.of(new TestObj("two", 2, date, 2L), new TestObj("one", 1, date, 1L), new TestObj("three", 3, date, 3L));
+
+        CollectionAssert.assertListByKey(listOne, listTwo, TestObj::getField1);
+        CollectionAssert.assertListByKey(listOne, listTwo, TestObj::getField1, (a, b) -> Integer.compare(a.getField2(), b.getField2()));
+
+        final List<TestObj> listThree = List.of(new TestObj("two", 5, date, 2L), new TestObj("one", 1, date, 1L), new TestObj("four", 4, date, 4L));
+        final String br = System.getProperty("line.separator");
+        final AssertionError error = assertThrows(AssertionError.class,
+                () -> CollectionAssert.assertListByKey(listOne, listThree, TestObj::getField1, "field3"));
+        assertEquals("Lists are not similar by key." + br
+                + "Key [two]: fields differing [field2]" + br
+                + "Missing key [three]: " + ReflectionToStringBuilder.toString(listOne.get(2)) + br
+                + "Extra key [four]: " + ReflectionToStringBuilder.toString(listThree.get(2)) + br
+                + "Missing keys: 1, extra keys: 1, keys with differences: 1" + br, error.getMessage());
+
+        final AssertionError duplicate = assertThrows(AssertionError.class,
+                () -> CollectionAssert.assertListByKey(listOne, List.of(listTwo.get(0), listTwo.get(0)), TestObj::getField1));
+        assertEquals("Duplicate key [two] in list two", duplicate.getMessage());
+    }
+
+    @Test
+    public void testAssertMap() {
+        CollectionAssert.assertMap(Map.of("a", 1, "b", 2), Map.of("b", 2, "a", 1), Integer::compare);
+        CollectionAssert.assertMap(Map.of("a", new BigDecimal("1.0")), Map.of("a", new BigDecimal("1.00")));
+
+        final String br = System.getProperty("line.separator");
+        final AssertionError error = assertThrows(AssertionError.class,
+                () -> CollectionAssert.assertMap(Map.of("a", 1), Map.of("a", 2), Integer::compare));
+        assertEquals("Maps are not similar." + br
+                + "Key [a]: elements are not similar. One: 1, Two: 2" + br
+                + "Missing keys: 0, extra keys: 0, keys with differences: 1" + br, error.getMessage());
+    }
+
+    @Test
+    public void testAssertListByReflectionLargeEqualLists() {
+        final Date date = new Date();
+        final List<TestObj> listOne = new ArrayList<>();
+        IntStream.range(0, 50_000).forEach(i -> listOne.add(new TestObj("name" + (i % 100), i, date, (long) (i % 7))));
+        final List<TestObj> listTwo = new ArrayList<>(listOne);
+        Collections.reverse(listTwo);
+
+        assertTimeout(Duration.ofSeconds(10), () -> CollectionAssert.assertListByReflection(listOne, listTwo));
+    }
+
+    @Test
+    public void testAssertListByReflectionDifferenceBeyondHashDepth() {
+        final List<Node> listOne = List.of(chain("a", "b", "c", "d", "e", "f", "g"));
+        final List<Node> listTwo = List.of(chain("a", "b", "c", "d", "e", "f", "x"));
+
+        CollectionAssert.assertListByReflection(listOne, List.of(chain("a", "b", "c", "d", "e", "f", "g")));
+        assertThrows(AssertionError.class, () -> CollectionAssert.assertListByReflection(listOne, listTwo));
+    }
+
+    private static Node chain(String... names) {
+        Node head = null;
+        for (int i = names.length - 1; i >= 0; i--) {
+            final Node node = new Node(names[i]);
+            node.next = head;
+            head = node;
+        }
+        return head;
+    }
+
+    @Test
+    public void testAssertInOrderWithin() {
+        final List<Integer> ordered = IntStream.range(0, 1000).boxed().toList();
+        final List<Integer> displaced = new ArrayList<>(ordered);
+        Collections.swap(displaced, 10, 13);
+        Collections.swap(displaced, 500, 502);
+
+        CollectionAssert.assertInOrderWithin(ordered.stream(), displaced.stream(), 3, Integer::compare, Integer::longValue);
+        CollectionAssert.assertInOrderWithin(displaced.stream(), ordered.stream(), 3, Integer::compare, Integer::longValue);
+        CollectionAssert.assertInOrderWithin(ordered.stream(), ordered.stream(), 0, Integer::compare, Integer::longValue);
+
+        final String br = System.getProperty("line.separator");
+        final AssertionError error = assertThrows(AssertionError.class,
+                () -> CollectionAssert.assertInOrderWithin(ordered.stream(), displaced.stream(), 2, Integer::compare, Integer::longValue));
+        assertEquals("Lists are not similar within a window of 2 positions." + br
+                + "List one: Displaced from position [10] to [13] in list two: 10" + br
+                + "List one: Displaced from position [13] to [10] in list two: 13" + br
+                + "Elements not paired within the window: 2 in list one, 2 in list two" + br, error.getMessage());
+
+        final List<Integer> changed = new ArrayList<>(ordered.subList(0, 999));
+        changed.set(20, -1);
+        final AssertionError missing = assertThrows(AssertionError.class,
+                () -> CollectionAssert.assertInOrderWithin(ordered.stream(), changed.stream(), 3, Integer::compare, Integer::longValue));
+        assertEquals("Lists are not similar within a window of 3 positions." + br
+                + "List one: Missing at position [20]: 20" + br
+                + "List one: Missing at position [999]: 999" + br
+                + "List two: Extra at position [20]: -1" + br
+                + "Elements not paired within the window: 2 in list one, 1 in list two" + br, missing.getMessage());
+    }
+
+    @Test
+    public void testAssertInOrderWithinByReflection() {
+        final Date date = new Date();
+        final List<TestObj> listOne = List.of(new TestObj("a", 1, date, 1L), new TestObj("b", 2, date, 2L), new TestObj("c", 3, date, 3L));
+        final List<TestObj> listTwo = List.of(new TestObj("b", 2, date, 2L), new TestObj("a", 1, date, 1L), new TestObj("c", 3, date, 9L));
+
+        CollectionAssert.assertInOrderWithinByReflection(listOne.stream(), listTwo.stream(), 1, "field4");
+        assertThrows(AssertionError.class, () -> CollectionAssert.assertInOrderWithinByReflection(listOne.stream(), listTwo.stream(), 0, "field4"));
+        assertThrows(AssertionError.class, () -> CollectionAssert.assertInOrderWithinByReflection(listOne.stream(), listTwo.stream(), 1));
+    }
+
+    @Test
+    public void testAssertGoldenFile(@TempDir Path folder) throws IOException {
+        final Path golden = folder.resolve("golden.csv");
+        Files.writeString(golden, "1,one\r\n2,two\n3,three");
+        final GoldenRecordMapper<Row> mapper = new RowMapper();
+
+        CollectionAssert.assertGoldenFile(golden, List.of(new Row(1, "one"), new Row(2, "two"), new Row(3, "three")), mapper,
+                (a, b) -> a.equals(b) ? 0 : 1);
+        CollectionAssert.assertGoldenFileByReflection(golden, Stream.of(new Row(1, "x"), new Row(2, "y"), new Row(3, "z")), mapper, "name");
+        CollectionAssert.assertGoldenFile(Files.createFile(folder.resolve("empty.txt")), List.of(), GoldenRecordMapper.lines(), String::compareTo);
+
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> CollectionAssert.assertGoldenFileByReflection(golden, Stream.of(new Row(1, "one"), new Row(2, "other")), mapper));
+        assertTrue(error.getMessage().startsWith("Elements at position [1] are not similar"), error.getMessage());
+        assertThrows(AssertionFailedError.class,
+                () -> CollectionAssert.assertGoldenFile(folder.resolve("missing.csv"), List.of(new Row(1, "one")), mapper, (a, b) -> 0));
+    }
+
+    @Test
+    public void testAssertGoldenFileUpdate(@TempDir Path folder) throws IOException {
+        final Path golden = folder.resolve("golden.csv");
+        Files.writeString(golden, "1,one\n");
+        System.setProperty("sparta.testutils.golden.update", "true");
+        try {
+            CollectionAssert.assertGoldenFile(golden, List.of(new Row(1, "uno"), new Row(2, "dos")), new RowMapper(), (a, b) -> 1);
+        } finally {
+            System.clearProperty("sparta.testutils.golden.update");
+        }
+        assertEquals("1,uno\n2,dos\n", Files.readString(golden));
+        CollectionAssert.assertGoldenFile(golden, List.of("1,uno", "2,dos"), GoldenRecordMapper.lines(), String::compareTo);
+    }
+
+    @Test
+    public void testAssertListByReflectionPrimitiveFields() {
+        final Primitives base = new Primitives(1, 2L, true, 0.0, 1f, 'a', (byte) 1, (short) 1, "x");
+        CollectionAssert.assertListByReflection(List.of(base), List.of(new Primitives(1, 2L, true, 0.0, 1f, 'a', (byte) 1, (short) 1, "x")));
+        CollectionAssert.assertListByReflection(List.of(new Primitives(1, 2L, true, Double.NaN, Float.NaN, 'a', (byte) 1, (short) 1, "x")),
+                List.of(new Primitives(1, 2L, true, Double.NaN, Float.NaN, 'a', (byte) 1, (short) 1, "x")));
+
+        final List<Primitives> different = List.of(
+                new Primitives(9, 2L, true, 0.0, 1f, 'a', (byte) 1, (short) 1, "x"),
+                new Primitives(1, 9L, true, 0.0, 1f, 'a', (byte) 1, (short) 1, "x"),
+                new Primitives(1, 2L, false, 0.0, 1f, 'a', (byte) 1, (short) 1, "x"),
+                new Primitives(1, 2L, true, -0.0, 1f, 'a', (byte) 1, (short) 1, "x"),
+                new Primitives(1, 2L, true, 0.0, 9f, 'a', (byte) 1, (short) 1, "x"),
+                new Primitives(1, 2L, true, 0.0, 1f, 'b', (byte) 1, (short) 1, "x"),
+                new Primitives(1, 2L, true, 0.0, 1f, 'a', (byte) 9, (short) 1, "x"),
+                new Primitives(1, 2L, true, 0.0, 1f, 'a', (byte) 1, (short) 9, "x"),
+                new Primitives(1, 2L, true, 0.0, 1f, 'a', (byte) 1, (short) 1, "y"));
+        for (Primitives item : different) {
+            assertThrows(AssertionError.class, () -> CollectionAssert.assertListByReflection(List.of(base), List.of(item)));
+        }
+        CollectionAssert.assertListByReflection(List.of(base), List.of(different.get(0)), "intValue");
+    }
+
+    @Test
+    public void testAssertListByReflectionNestedExclusions() {
+        final List<Order> listOne = List.of(
+                new Order("A", new Audit("john", 1L), List.of(new Line(1L, "sku1"), new Line(2L, "sku2")), Map.of("x", new Line(5L, "sku5"))),
+                new Order("B", new Audit("mary", 2L), List.of(new Line(3L, "sku3")), Map.of()));
+        final List<Order> listTwo = List.of(
+                new Order("B", new Audit("mary", 20L), List.of(new Line(30L, "sku3")), Map.of()),
+                new Order("A", new Audit("john", 10L), List.of(new Line(10L, "sku1"), new Line(20L, "sku2")), Map.of("x", new Line(50L, "sku5"))));
+
+        CollectionAssert.assertListByReflection(listOne, listTwo, "audit.updatedAt", "lines[*].id", "byKey[*].id");
+        CollectionAssert.assertListByReflectionParallel(listOne, listTwo, "audit.updatedAt", "lines[*].id", "byKey[*].id");
+
+        assertThrows(AssertionError.class, () -> CollectionAssert.assertListByReflection(listOne, listTwo, "audit.updatedAt", "lines[*].id"));
+        assertThrows(AssertionError.class, () -> CollectionAssert.assertListByReflection(listOne, listTwo, "updatedAt", "id"));
+        assertThrows(IllegalArgumentException.class, () -> CollectionAssert.assertListByReflection(listOne, listTwo, "audit..updatedAt"));
+        assertThrows(IllegalArgumentException.class, () -> CollectionAssert.assertListByReflection(listOne, listTwo, "lines[*]"));
+    }
+
+    record Primitives(int intValue, long longValue, boolean booleanValue, double doubleValue, float floatValue,
+                      char charValue, byte byteValue, short shortValue, String stringValue) { }
+
+    record Row(int id, String name) { }
+
+    static class RowMapper implements GoldenRecordMapper<Row> {
+        @Override
+        public Row parse(String line) {
+            final String[] columns = line.split(",");
+            return new Row(Integer.parseInt(columns[0]), columns[1]);
+        }
+
+        @Override
+        public String format(Row record) {
+            return record.id() + "," + record.name();
+        }
+    }
+
+    record Audit(String user, long updatedAt) { }
+
+    record Line(long id, String sku) { }
+
+    record Order(String code, Audit audit, List<Line> lines, Map<String, Line> byKey) { }
+
+    record Nested(BigDecimal amount, List<String> tags, Map<String, int[]> values) { }
+
+    static class Counter {
+        private final AtomicInteger count;
+        private final StringBuilder text;
+        private final Optional<Node> node;
+
+        Counter(AtomicInteger count, StringBuilder text, Optional<Node> node) {
+            this.count = count;
+            this.text = text;
+            this.node = node;
+        }
+    }
+
+    static class Node {
+        private String name;
+        private Node next;
+
+        /**
+         * @param name node name
+         */
+        Node(String name) {
+            this.name = name;
+        }
+    }
+
+    static class TestObjChild extends TestObj {
+        private String field5;
+
+        /**
+         * @param field1 field one
+         * @param field2 field two
+         * @param field3 field three
+         * @param field4 field four
+         * @param field5 field five
+         */
+        public TestObjChild(String field1, int field2, Date field3, Long field4, String field5) {
+            super(field1, field2, field3, field4);
+            this.field5 = field5;
+        }
+    }
+
     static class TestObj {
         private String field1;
         private int field2;
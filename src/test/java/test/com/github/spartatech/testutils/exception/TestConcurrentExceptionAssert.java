@@ -0,0 +1,85 @@
+package test.com.github.spartatech.testutils.exception;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import com.github.spartatech.testutils.exception.ConcurrentExceptionAssert;
+import com.github.spartatech.testutils.exception.StressResult;
+
+/**
+ * Unit Tests for Concurrent Exception Assert
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *  Oct 19, 2026 - Sparta Team
+ */
+public class TestConcurrentExceptionAssert {
+
+	@Test
+	public void testRunsAreSpreadAcrossThreads() throws Exception {
+		final AtomicLong runs = new AtomicLong();
+		final Map<Thread, Boolean> threads = new ConcurrentHashMap<>();
+		ConcurrentExceptionAssert.assertNoExceptions(10_000, 4, () -> {
+			runs.incrementAndGet();
+			threads.put(Thread.currentThread(), Boolean.TRUE);
+		});
+		assertEquals(10_000, runs.get());
+		assertTrue(threads.size() > 1);
+		assertFalse(threads.containsKey(Thread.currentThread()));
+	}
+
+	@Test
+	public void testExceptionsGroupedByTypeAndMessage() throws Exception {
+		final AtomicInteger run = new AtomicInteger();
+		final StressResult result = ConcurrentExceptionAssert.stress(1_000, 8, () -> {
+			final int current = run.incrementAndGet();
+			if (current % 10 == 0) {
+				throw new IllegalStateException("stale entry");
+			} else if (current % 25 == 1) {
+				throw new UnsupportedOperationException();
+			}
+		});
+
+		assertEquals(1_000, result.runs());
+		assertEquals(140, result.failures());
+		assertEquals(100, result.count(IllegalStateException.class, "stale entry"));
+		assertEquals(40, result.count(UnsupportedOperationException.class));
+		assertEquals(140, result.count(RuntimeException.class));
+		assertEquals(Map.of(new StressResult.ExceptionKey(IllegalStateException.class, "stale entry"), 100L,
+				new StressResult.ExceptionKey(UnsupportedOperationException.class, null), 40L), result.counts());
+
+		result.assertOnly(IllegalStateException.class, UnsupportedOperationException.class);
+		result.assertCount(IllegalStateException.class, 100);
+		result.assertAtMost(UnsupportedOperationException.class, 40);
+
+		final AssertionFailedError only = assertThrows(AssertionFailedError.class, () -> result.assertOnly(IllegalStateException.class));
+		assertTrue(only.getMessage().startsWith("Unexpected exceptions, only [java.lang.IllegalStateException] were expected"));
+		assertTrue(only.getMessage().contains("100 x java.lang.IllegalStateException: stale entry"));
+		assertInstanceOf(UnsupportedOperationException.class, only.getCause());
+
+		assertThrows(AssertionFailedError.class, result::assertNoExceptions);
+		assertThrows(AssertionFailedError.class, () -> result.assertCount(IllegalStateException.class, 99));
+		assertThrows(AssertionFailedError.class, () -> result.assertAtMost(UnsupportedOperationException.class, 39));
+	}
+
+	@Test
+	public void testCustomThreadFactory() throws Exception {
+		final AtomicInteger created = new AtomicInteger();
+		ConcurrentExceptionAssert.stress(100, 3, task -> {
+			created.incrementAndGet();
+			return new Thread(task);
+		}, () -> { }).assertNoExceptions();
+		assertEquals(3, created.get());
+
+		assertThrows(IllegalArgumentException.class, () -> ConcurrentExceptionAssert.stress(10, 0, () -> { }));
+		assertThrows(IllegalArgumentException.class, () -> ConcurrentExceptionAssert.stress(-1, 1, () -> { }));
+	}
+}
@@ -0,0 +1,139 @@
+package test.com.github.spartatech.testutils.performance;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentest4j.AssertionFailedError;
+
+import com.github.spartatech.testutils.performance.BaselineAssert;
+import com.github.spartatech.testutils.performance.Measurement;
+
+/**
+ *
+ * Unit tests for BaselineAssert.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+public class TestBaselineAssert {
+
+    private static final String UPDATE_PROPERTY = "sparta.testutils.performance.baseline.update";
+    private static final Measurement QUICK = new Measurement(100, 1_000);
+
+    private static volatile Object blackhole;
+
+    @AfterEach
+    public void clearUpdate() {
+        System.clearProperty(UPDATE_PROPERTY);
+    }
+
+    @Test
+    public void testMissingBaseline(@TempDir Path folder) {
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> BaselineAssert.assertNoRegression(folder.resolve("perf.tsv"), "sum", 0.25, QUICK, () -> sum(100)));
+        assertTrue(error.getMessage().startsWith("No baseline for sum in "));
+        assertTrue(error.getMessage().contains("-D" + UPDATE_PROPERTY + "=true"));
+    }
+
+    @Test
+    public void testUpdateAppends(@TempDir Path folder) throws Exception {
+        final Path baseline = folder.resolve("perf/baseline.tsv");
+        System.setProperty(UPDATE_PROPERTY, "true");
+        BaselineAssert.assertNoRegression(baseline, "sum", 0.25, QUICK, () -> sum(100));
+        BaselineAssert.assertNoRegression(baseline, "other", 0.25, QUICK, () -> sum(10));
+        BaselineAssert.assertNoRegression(baseline, "sum", 0.25, QUICK, () -> sum(100));
+
+        final List<String> lines = Files.readAllLines(baseline);
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(0).startsWith("# name\t"));
+        assertTrue(lines.get(1).startsWith("sum\t"));
+        assertTrue(lines.get(2).startsWith("other\t"));
+        assertEquals(8, lines.get(3).split("\t").length);
+
+        System.clearProperty(UPDATE_PROPERTY);
+        BaselineAssert.assertNoRegression(baseline, "sum", 100, QUICK, () -> sum(100));
+        assertEquals(4, Files.readAllLines(baseline).size());
+    }
+
+    @Test
+    public void testLatencyRegression(@TempDir Path folder) throws IOException {
+        final Path baseline = write(folder, "sleep\t2026-10-19T10:00:00Z\t1000000\t10.0\t10\t10\t10\t0.0");
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> BaselineAssert.assertNoRegression(baseline, "sleep", 0.25, new Measurement(0, 3), () -> Thread.sleep(1)));
+        assertTrue(error.getMessage().startsWith("Performance of sleep regressed against 1 baseline measurements of "));
+        assertTrue(error.getMessage().contains("tolerance 25%"));
+        assertTrue(error.getMessage().lines().anyMatch(line -> line.trim().startsWith("p99") && line.endsWith("<-- regression")));
+    }
+
+    @Test
+    public void testAllocationRegression(@TempDir Path folder) throws IOException {
+        final Path baseline = write(folder,
+                "alloc\t2026-10-19T10:00:00Z\t1\t1000000000000.0\t1000000000000\t1000000000000\t1000000000000\t0.0");
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> BaselineAssert.assertNoRegression(baseline, "alloc", 0.25, QUICK, () -> blackhole = new byte[1024]));
+        final List<String> regressions = error.getMessage().lines().filter(line -> line.endsWith("<-- regression")).toList();
+        assertEquals(1, regressions.size(), error.getMessage());
+        assertTrue(regressions.get(0).trim().startsWith("bytes/run"));
+    }
+
+    @Test
+    public void testMedianOfRecentMeasurements(@TempDir Path folder) throws Exception {
+        // one old slow measurement and an outlier do not move the median of the last five
+        final Path baseline = write(folder,
+                "fast\t2026-10-18T10:00:00Z\t1\t1000000000000.0\t1000000000000\t1000000000000\t1000000000000\t0.0",
+                "fast\t2026-10-19T10:00:00Z\t1000000\t10.0\t10\t10\t10\t0.0",
+                "fast\t2026-10-19T10:01:00Z\t1000000\t10.0\t10\t10\t10\t0.0",
+                "fast\t2026-10-19T10:02:00Z\t1000000\t10.0\t10\t10\t10\t0.0",
+                "fast\t2026-10-19T10:03:00Z\t1000000\t10.0\t10\t10\t10\t0.0",
+                "fast\t2026-10-19T10:04:00Z\t1\t1000000000000.0\t1000000000000\t1000000000000\t1000000000000\t0.0");
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> BaselineAssert.assertNoRegression(baseline, "fast", 0.25, new Measurement(0, 3), () -> Thread.sleep(1)));
+        assertTrue(error.getMessage().startsWith("Performance of fast regressed against 5 baseline measurements"));
+    }
+
+    @Test
+    public void testMalformedBaseline(@TempDir Path folder) throws IOException {
+        final Path baseline = write(folder, "sum\tyesterday\t1\t1\t1\t1\t1\t0");
+        final IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> BaselineAssert.assertNoRegression(baseline, "sum", 0.25, QUICK, () -> sum(10)));
+        assertTrue(error.getMessage().startsWith("Malformed line 2 of baseline file "));
+    }
+
+    @Test
+    public void testInvalidName(@TempDir Path folder) {
+        assertThrows(IllegalArgumentException.class,
+                () -> BaselineAssert.assertNoRegression(folder.resolve("perf.tsv"), "a\tb", 0.25, QUICK, () -> sum(10)));
+    }
+
+    /**
+     * Writes a baseline file with a header and the given lines.
+     */
+    private static Path write(Path folder, String... lines) throws IOException {
+        final Path baseline = folder.resolve("baseline.tsv");
+        Files.writeString(baseline, "# name\trecorded\tcalibrationNanos\tmeanNanos\tp50Nanos\tp90Nanos\tp99Nanos\tallocatedBytesPerRun\n"
+                + String.join("\n", lines) + "\n", StandardCharsets.UTF_8);
+        return baseline;
+    }
+
+    /**
+     * Small CPU bound workload.
+     */
+    private static void sum(int count) {
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += i * 31L;
+        }
+        blackhole = sum;
+    }
+}
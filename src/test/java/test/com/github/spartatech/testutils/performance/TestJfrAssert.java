@@ -0,0 +1,135 @@
+package test.com.github.spartatech.testutils.performance;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import com.github.spartatech.testutils.exception.Processable;
+import com.github.spartatech.testutils.performance.JfrAssert;
+import com.github.spartatech.testutils.performance.RecordedThreads;
+import com.github.spartatech.testutils.performance.RuntimeEvents;
+
+/**
+ *
+ * Unit tests for JFR Assert.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *    Oct 19, 2026 - Sparta Team - Parks of other threads counted only when asked
+ *
+ */
+public class TestJfrAssert {
+
+    @Test
+    public void testGcPauses() throws Exception {
+        final RuntimeEvents events = JfrAssert.record(System::gc);
+        assertTrue(events.gcCount() > 0);
+        assertTrue(events.longestGcPause().compareTo(Duration.ZERO) > 0);
+        events.assertNoGcPauseLongerThan(Duration.ofMinutes(1));
+
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> JfrAssert.assertNoGcPauseLongerThan(Duration.ZERO, System::gc));
+        assertTrue(error.getMessage().startsWith("GC paused for "));
+        assertTrue(error.getMessage().contains("collections, longest pause"));
+    }
+
+    @Test
+    public void testThreadParks() throws Exception {
+        final String thread = Thread.currentThread().getName();
+        final RuntimeEvents events = JfrAssert.record(() -> {
+            for (int i = 0; i < 5; i++) {
+                LockSupport.parkNanos(1_000_000);
+            }
+        });
+        assertTrue(events.parks(thread) >= 5, events.toString());
+        assertTrue(events.parkTime().compareTo(Duration.ofMillis(5)) >= 0, events.toString());
+
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> JfrAssert.assertParksAtMost(1, () -> {
+                    LockSupport.parkNanos(1_000_000);
+                    LockSupport.parkNanos(1_000_000);
+                }));
+        assertTrue(error.getMessage().startsWith("Expected at most 1 thread parks"));
+        assertTrue(error.getMessage().contains("x thread " + thread));
+    }
+
+    @Test
+    public void testOtherThreadsCountedOnlyWhenAsked() throws Exception {
+        final Processable parkInNewThread = () -> {
+            final Thread parker = new Thread(TestJfrAssert::park5, "sparta-started-parker");
+            parker.start();
+            parker.join();
+        };
+        assertEquals(0, JfrAssert.record(parkInNewThread).parks("sparta-started-parker"));
+        assertTrue(JfrAssert.record(RecordedThreads.STARTED, parkInNewThread).parks("sparta-started-parker") >= 5);
+        assertTrue(JfrAssert.record(RecordedThreads.ALL, parkInNewThread).parks("sparta-started-parker") >= 5);
+        JfrAssert.assertParksAtMost(0, parkInNewThread);
+        assertThrows(AssertionFailedError.class, () -> JfrAssert.assertParksAtMost(0, RecordedThreads.STARTED, parkInNewThread));
+
+        for (RecordedThreads threads : RecordedThreads.values()) {
+            final CountDownLatch start = new CountDownLatch(1);
+            final Thread existing = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                park5();
+            }, "sparta-existing-parker");
+            existing.start();
+            final RuntimeEvents events = JfrAssert.record(threads, () -> {
+                start.countDown();
+                existing.join();
+            });
+            assertEquals(threads == RecordedThreads.ALL, events.parks("sparta-existing-parker") >= 5, threads + " " + events);
+        }
+    }
+
+    private static void park5() {
+        for (int i = 0; i < 5; i++) {
+            LockSupport.parkNanos(1_000_000);
+        }
+    }
+
+    @Test
+    public void testMonitorContention() throws Exception {
+        final Object lock = new Object();
+        final CountDownLatch locked = new CountDownLatch(1);
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> JfrAssert.assertNoMonitorContention(() -> {
+            final Thread holder = new Thread(() -> {
+                synchronized (lock) {
+                    locked.countDown();
+                    LockSupport.parkNanos(50_000_000);
+                }
+            });
+            holder.start();
+            locked.await();
+            synchronized (lock) {
+                assertNotNull(lock);
+            }
+            holder.join();
+        }));
+        assertTrue(error.getMessage().startsWith("Expected no monitor contention"));
+        assertTrue(error.getMessage().contains("x monitor java.lang.Object"), error.getMessage());
+
+        JfrAssert.assertNoMonitorContention(() -> {
+            synchronized (lock) {
+                assertNotNull(lock);
+            }
+        });
+    }
+
+    @Test
+    public void testExceptionsArePropagated() {
+        assertThrows(IllegalStateException.class, () -> JfrAssert.record(() -> {
+            throw new IllegalStateException();
+        }));
+    }
+}
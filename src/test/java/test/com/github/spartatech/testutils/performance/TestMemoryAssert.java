@@ -0,0 +1,112 @@
+package test.com.github.spartatech.testutils.performance;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import com.github.spartatech.testutils.performance.MemoryAssert;
+
+/**
+ *
+ * Unit tests for Memory Assert.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *    Oct 19, 2026 - Sparta Team - References of modules not opened reported as unreadable
+ *
+ */
+public class TestMemoryAssert {
+
+    @Test
+    public void testPrimitiveArraySizes() {
+        final long empty = MemoryAssert.retainedSize(new long[0]);
+        assertTrue(empty == 16 || empty == 24, "Array header " + empty);
+        assertEquals(empty + 8_000, MemoryAssert.retainedSize(new long[1_000]));
+        assertEquals(empty + 1_000, MemoryAssert.retainedSize(new byte[1_000]));
+        assertEquals(0, MemoryAssert.retainedSize(null));
+    }
+
+    @Test
+    public void testSharedAndCyclicReferencesCountedOnce() {
+        final byte[] shared = new byte[10_000];
+        final Node first = new Node(shared);
+        final Node second = new Node(shared);
+        first.next = second;
+        second.next = first;
+
+        final long single = MemoryAssert.retainedSize(new Node(shared));
+        final long pair = MemoryAssert.retainedSize(first);
+        assertEquals(single - MemoryAssert.retainedSize(shared), pair - single);
+    }
+
+    @Test
+    public void testJdkCollectionsAreWalked() {
+        final Map<Integer, String> index = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            index.put(i, "value-" + i);
+        }
+        final long size = MemoryAssert.retainedSize(index);
+        assertTrue(size > 10_000L * (16 + 32 + 40), "Size " + size);
+        assertTrue(size < 10_000L * 200, "Size " + size);
+        MemoryAssert.assertRetainedSizeAtMost(2_000_000, index);
+    }
+
+    @Test
+    public void testFailureShowsLargestPaths() {
+        final Holder holder = new Holder();
+        for (int i = 0; i < 100; i++) {
+            holder.entries.add(new Node(new byte[1_000]));
+        }
+        holder.small = new byte[10];
+
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> MemoryAssert.assertRetainedSizeAtMost(10_000, holder));
+        final String message = error.getMessage();
+        assertTrue(message.startsWith("Retained size above the limit: "), message);
+        assertTrue(message.contains("expected at most 10000 bytes"), message);
+        final int payloadLine = message.indexOf("root.entries.elementData[*].payload");
+        assertTrue(payloadLine > 0, message);
+        assertTrue(payloadLine < message.indexOf("root.small"), message);
+
+        assertEquals("Too big", assertThrows(AssertionFailedError.class,
+                () -> MemoryAssert.assertRetainedSizeAtMost("Too big", 10, holder)).getMessage().split(":")[0]);
+    }
+
+    @Test
+    public void testFieldsOfModulesNotOpenedAreUnreadable() {
+        final AtomicReference<byte[]> reference = new AtomicReference<>(new byte[10_000]);
+        assertTrue(MemoryAssert.retainedSize(reference) < 100);
+        final String message = assertThrows(AssertionFailedError.class, () -> MemoryAssert.assertRetainedSizeAtMost(1, reference)).getMessage();
+        assertTrue(message.endsWith("1 references could not be read and were left out"), message);
+    }
+
+    @Test
+    public void testRecordsAreWalked() {
+        final long payload = MemoryAssert.retainedSize(new byte[5_000]);
+        assertTrue(MemoryAssert.retainedSize(new Wrapper(new byte[5_000])) > payload);
+    }
+
+    private static final class Node {
+        private final byte[] payload;
+        private Node next;
+
+        Node(byte[] payload) {
+            this.payload = payload;
+        }
+    }
+
+    private static final class Holder {
+        private final List<Node> entries = new ArrayList<>();
+        private byte[] small;
+    }
+
+    private record Wrapper(byte[] payload) { }
+}
@@ -0,0 +1,102 @@
+package test.com.github.spartatech.testutils.performance;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import com.github.spartatech.testutils.performance.Measurement;
+import com.github.spartatech.testutils.performance.PerformanceAssert;
+import com.github.spartatech.testutils.performance.PerformanceResult;
+
+/**
+ *
+ * Unit tests for Performance Assert.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+public class TestPerformanceAssert {
+
+    private static volatile Object blackhole;
+
+    @Test
+    public void testWarmupIsNotMeasured() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        final PerformanceResult result = PerformanceAssert.measure(new Measurement(30, 70), runs::incrementAndGet);
+        assertEquals(100, runs.get());
+        assertEquals(70, result.count());
+    }
+
+    @Test
+    public void testPercentilesOfSleepingProcessable() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        final PerformanceResult result = PerformanceAssert.measure(new Measurement(0, 20), () -> {
+            if (runs.incrementAndGet() % 10 == 0) {
+                Thread.sleep(20);
+            }
+        });
+        assertTrue(result.percentile(50).compareTo(Duration.ofMillis(20)) < 0);
+        assertTrue(result.percentile(100).compareTo(Duration.ofMillis(20)) >= 0);
+        assertEquals(result.max(), result.percentile(100));
+        assertTrue(result.mean().compareTo(Duration.ofMillis(2)) >= 0);
+        assertTrue(result.opsPerSecond() < 1_000);
+        assertThrows(IllegalArgumentException.class, () -> result.percentile(101));
+    }
+
+    @Test
+    public void testAssertThroughputAtLeast() throws Exception {
+        PerformanceAssert.assertThroughputAtLeast(1_000, () -> Math.sqrt(2));
+
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> PerformanceAssert.assertThroughputAtLeast(1e12, new Measurement(10, 100), () -> Math.sqrt(2)));
+        assertTrue(error.getMessage().startsWith("Throughput was "));
+        assertTrue(error.getMessage().contains("expected at least 1000000000000.0 ops/s"));
+        assertTrue(error.getMessage().contains("Percentile"));
+        assertTrue(error.getMessage().contains("Runs: 100"));
+    }
+
+    @Test
+    public void testAssertLatencyPercentileBelow() throws Exception {
+        PerformanceAssert.assertLatencyPercentileBelow(99, Duration.ofSeconds(1), () -> Math.sqrt(2));
+
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> PerformanceAssert.assertLatencyPercentileBelow(50, Duration.ofMillis(1), new Measurement(0, 5), () -> Thread.sleep(2)));
+        assertTrue(error.getMessage().startsWith("Latency at percentile 50.0 was "));
+        assertTrue(error.getMessage().contains(", expected below 1.000 ms"));
+        assertTrue(error.getMessage().contains("99.9"));
+    }
+
+    @Test
+    public void testInvalidMeasurement() {
+        assertThrows(IllegalArgumentException.class, () -> new Measurement(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new Measurement(0, 0));
+    }
+
+    @Test
+    public void testExceptionsArePropagated() {
+        assertThrows(IllegalStateException.class, () -> PerformanceAssert.measure(Measurement.DEFAULT, () -> {
+            throw new IllegalStateException();
+        }));
+    }
+
+    @Test
+    public void testAssertAllocatesAtMost() throws Exception {
+        final long[] counter = new long[1];
+        PerformanceAssert.assertAllocatesAtMost(0, () -> counter[0]++);
+
+        final double allocated = PerformanceAssert.measureAllocation(new Measurement(1_000, 1_000), () -> blackhole = new byte[1024]);
+        assertTrue(allocated >= 1024 && allocated < 1200, "Allocated " + allocated);
+
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> PerformanceAssert.assertAllocatesAtMost(64, new Measurement(1_000, 1_000), () -> blackhole = new byte[1024]));
+        assertTrue(error.getMessage().startsWith("Allocated 10"));
+        assertTrue(error.getMessage().endsWith(" bytes per run, expected at most 64 (1000 runs measured)"));
+    }
+}
@@ -0,0 +1,225 @@
+package test.com.github.spartatech.testutils.performance;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.opentest4j.AssertionFailedError;
+
+import com.github.spartatech.testutils.logback.LogbackLevelChangerExtension;
+import com.github.spartatech.testutils.logback.LogbackRunLevel;
+import com.github.spartatech.testutils.logback.constant.LogLevel;
+import com.github.spartatech.testutils.performance.PerformanceTest;
+import com.github.spartatech.testutils.performance.PerformanceTestExtension;
+
+/**
+ *
+ * Unit tests for PerformanceTestExtension.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *    Oct 19, 2026 - Sparta Team - Methods with other interceptors rejected
+ *
+ */
+public class TestPerformanceTestExtension {
+
+    private static final AtomicInteger ANNOTATED_RUNS = new AtomicInteger();
+
+    @AfterAll
+    public static void checkAnnotatedRuns() {
+        assertEquals(25, ANNOTATED_RUNS.get());
+    }
+
+    @Test
+    @PerformanceTest(warmup = 5, iterations = 20, maxP99 = 1, unit = TimeUnit.SECONDS)
+    public void testAnnotatedMethodIsRepeated() {
+        ANNOTATED_RUNS.incrementAndGet();
+    }
+
+    @Test
+    public void testRepetitionsAndReport() throws Throwable {
+        final Target target = new Target();
+        final List<Map<String, String>> reports = new ArrayList<>();
+        final AtomicInteger proceeded = new AtomicInteger();
+
+        new PerformanceTestExtension().interceptTestMethod(() -> {
+            proceeded.incrementAndGet();
+            target.fast();
+            return null;
+        }, context(target, "fast"), extensionContext(reports));
+
+        assertEquals(1, proceeded.get());
+        assertEquals(10 + 50, target.runs);
+        assertEquals(1, reports.size());
+        assertEquals("50", reports.get(0).get("performance.iterations"));
+        assertEquals(List.of("performance.iterations", "performance.opsPerSec", "performance.mean", "performance.p50",
+                "performance.p90", "performance.p99", "performance.max"), List.copyOf(reports.get(0).keySet()));
+    }
+
+    @Test
+    public void testLatencyBudget() throws Exception {
+        final Target target = new Target();
+        final List<Map<String, String>> reports = new ArrayList<>();
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> new PerformanceTestExtension()
+                .interceptTestMethod(() -> {
+                    target.slow();
+                    return null;
+                }, context(target, "slow"), extensionContext(reports)));
+        assertTrue(error.getMessage().startsWith("Latency at percentile 99.0 was "));
+        assertTrue(error.getMessage().contains("expected below 1.000 ms"));
+        assertEquals(1, reports.size());
+    }
+
+    @Test
+    public void testThroughputBudget() {
+        final Target target = new Target();
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> new PerformanceTestExtension()
+                .interceptTestMethod(() -> {
+                    target.fastButNotEnough();
+                    return null;
+                }, context(target, "fastButNotEnough"), extensionContext(new ArrayList<>())));
+        assertTrue(error.getMessage().startsWith("Throughput was "));
+    }
+
+    @Test
+    public void testExceptionOfRepetitionIsThrown() {
+        final Target target = new Target();
+        assertThrows(IllegalStateException.class, () -> new PerformanceTestExtension()
+                .interceptTestMethod(() -> null, context(target, "failing"), extensionContext(new ArrayList<>())));
+    }
+
+    @Test
+    public void testMethodWithoutAnnotationRunsOnce() throws Throwable {
+        final Target target = new Target();
+        final AtomicInteger proceeded = new AtomicInteger();
+        new PerformanceTestExtension().interceptTestMethod(() -> {
+            proceeded.incrementAndGet();
+            return null;
+        }, context(target, "plain"), extensionContext(new ArrayList<>()));
+        assertEquals(1, proceeded.get());
+        assertEquals(0, target.runs);
+    }
+
+    @Test
+    public void testMethodWithOtherInterceptorIsRejected() {
+        for (String methodName : List.of("withTimeout", "withLogLevel", "withInterceptor")) {
+            final Target target = new Target();
+            final AtomicInteger proceeded = new AtomicInteger();
+            final IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> new PerformanceTestExtension()
+                    .interceptTestMethod(() -> {
+                        proceeded.incrementAndGet();
+                        return null;
+                    }, context(target, methodName), extensionContext(new ArrayList<>())));
+            assertTrue(error.getMessage().startsWith("@PerformanceTest can not be combined with @"), error.getMessage());
+            assertTrue(error.getMessage().contains(" on " + methodName + ": "), error.getMessage());
+            assertEquals(0, proceeded.get());
+            assertEquals(0, target.runs);
+        }
+    }
+
+    /**
+     * Builds the invocation context of a method of Target.
+     */
+    private static ReflectiveInvocationContext<Method> context(Target target, String methodName) throws NoSuchMethodException {
+        final Method method = Target.class.getDeclaredMethod(methodName);
+        return new ReflectiveInvocationContext<>() {
+            @Override
+            public Class<?> getTargetClass() {
+                return Target.class;
+            }
+
+            @Override
+            public Method getExecutable() {
+                return method;
+            }
+
+            @Override
+            public List<Object> getArguments() {
+                return List.of();
+            }
+
+            @Override
+            public Optional<Object> getTarget() {
+                return Optional.of(target);
+            }
+        };
+    }
+
+    /**
+     * Builds an extension context keeping the published report entries.
+     */
+    @SuppressWarnings("unchecked")
+    private static ExtensionContext extensionContext(List<Map<String, String>> reports) {
+        return (ExtensionContext) Proxy.newProxyInstance(ExtensionContext.class.getClassLoader(), new Class<?>[] {ExtensionContext.class},
+                (proxy, method, args) -> {
+                    if ("publishReportEntry".equals(method.getName()) && args.length == 1 && args[0] instanceof Map) {
+                        reports.add((Map<String, String>) args[0]);
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Methods run by the extension.
+     */
+    public static class Target {
+        private int runs;
+
+        @PerformanceTest(warmup = 10, iterations = 50)
+        void fast() {
+            runs++;
+        }
+
+        @PerformanceTest(warmup = 0, iterations = 3, maxP99 = 1, unit = TimeUnit.MILLISECONDS)
+        void slow() throws InterruptedException {
+            Thread.sleep(5);
+        }
+
+        @PerformanceTest(warmup = 0, iterations = 3, minOpsPerSec = 1e12)
+        void fastButNotEnough() {
+            runs++;
+        }
+
+        @PerformanceTest(warmup = 1, iterations = 1)
+        void failing() {
+            throw new IllegalStateException();
+        }
+
+        void plain() {
+            runs++;
+        }
+
+        @PerformanceTest(warmup = 1, iterations = 1)
+        @Timeout(5)
+        void withTimeout() {
+            runs++;
+        }
+
+        @PerformanceTest(warmup = 1, iterations = 1)
+        @LogbackRunLevel(loggerName = "performance", newLevel = LogLevel.DEBUG)
+        void withLogLevel() {
+            runs++;
+        }
+
+        @PerformanceTest(warmup = 1, iterations = 1)
+        @ExtendWith(LogbackLevelChangerExtension.class)
+        void withInterceptor() {
+            runs++;
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package test.com.github.spartatech.testutils.temporal;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Locale;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.opentest4j.AssertionFailedError;
@@ -218,4 +223,96 @@ public class TestDateAssertUtils extends DateAssertUtils {
         assertThrows(FieldNotFoundException.class, () -> DateAssertUtils.assertDate(expected, actual, 666));        
     }
     
+    @Test
+    public void testAssertDateFieldValuesAsCalendar() {
+        final Calendar expectedCal = Calendar.getInstance();
+        expectedCal.set(2024, Calendar.FEBRUARY, 29, 23, 59, 58);
+        final Calendar actualCal = Calendar.getInstance();
+        for (int days = 0; days < 400; days += 37) {
+            actualCal.setTimeInMillis(expectedCal.getTimeInMillis());
+            actualCal.add(Calendar.DATE, days);
+            actualCal.add(Calendar.MILLISECOND, days * 7919);
+            for (int field = 0; field < Calendar.FIELD_COUNT; field++) {
+                final int calendarField = field;
+                if (expectedCal.get(field) == actualCal.get(field)) {
+                    DateAssertUtils.assertDate(expectedCal.getTime(), actualCal.getTime(), field);
+                } else {
+                    final AssertionFailedError e = assertThrows(AssertionFailedError.class,
+                            () -> DateAssertUtils.assertDate(expectedCal.getTime(), actualCal.getTime(), calendarField));
+                    assertEquals(String.valueOf(expectedCal.get(field)), e.getExpected().getStringRepresentation());
+                    assertEquals(String.valueOf(actualCal.get(field)), e.getActual().getStringRepresentation());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAssertDateFieldCountIsInvalid() {
+        final Date date = new Date();
+        assertThrows(FieldNotFoundException.class, () -> DateAssertUtils.assertDate(date, date, Calendar.FIELD_COUNT));
+        assertThrows(FieldNotFoundException.class, () -> DateAssertUtils.assertDate(date, date, -1));
+    }
+
+    @Test
+    public void testAssertDateByFormatSameTextAsSimpleDateFormat() {
+        final String[] formats = {"yyyy-MM-dd HH:mm:ss.SSS", "dd/MMM/yy hh:mm a z", "EEEE, MMMM d, yyyy G", "EEE D k K Z XX XXX", "X", "YYYY 'o''clock' ''",
+                                  "u F S W w", "[yyyy]", "MMMMM EEEEE"};
+        final Calendar cal = Calendar.getInstance();
+        cal.set(2026, Calendar.OCTOBER, 19, 0, 0, 1);
+        final Date other = new Date(0);
+        for (int i = 0; i < 60; i++) {
+            cal.add(Calendar.HOUR_OF_DAY, 149);
+            cal.add(Calendar.MILLISECOND, 7);
+            final Date date = cal.getTime();
+            for (String format : formats) {
+                final SimpleDateFormat sdf = new SimpleDateFormat(format);
+                if (sdf.format(date).equals(sdf.format(other))) {
+                    DateAssertUtils.assertDateByFormat(date, other, format);
+                } else {
+                    final AssertionFailedError e = assertThrows(AssertionFailedError.class,
+                            () -> DateAssertUtils.assertDateByFormat(date, other, format));
+                    assertEquals(sdf.format(date), e.getExpected().getStringRepresentation(), format);
+                    assertEquals(sdf.format(other), e.getActual().getStringRepresentation(), format);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAssertDateByFormatSameTextInOtherLocales() {
+        final Locale defaultLocale = Locale.getDefault(Locale.Category.FORMAT);
+        final String[] formats = {"MMM yyyy", "MMM", "dd MMM yyyy", "LLL", "MMMM", "EEE, EEEE", "hh a", "G yyyy"};
+        final Date march = Date.from(Instant.parse("2026-03-03T15:00:00Z"));
+        final Date other = Date.from(Instant.parse("2025-12-28T03:00:00Z"));
+        try {
+            for (Locale locale : new Locale[] {Locale.GERMANY, Locale.FRANCE, new Locale("pt", "BR"), Locale.JAPAN}) {
+                Locale.setDefault(Locale.Category.FORMAT, locale);
+                for (String format : formats) {
+                    final SimpleDateFormat sdf = new SimpleDateFormat(format);
+                    final AssertionFailedError e = assertThrows(AssertionFailedError.class,
+                            () -> DateAssertUtils.assertDateByFormat(march, other, format));
+                    assertEquals(sdf.format(march), e.getExpected().getStringRepresentation(), locale + " " + format);
+                    assertEquals(sdf.format(other), e.getActual().getStringRepresentation(), locale + " " + format);
+                }
+            }
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, defaultLocale);
+        }
+    }
+
+    @Test
+    public void testAssertDateByFormatInParallel() {
+        final String format = "yyyy-MM-dd HH:mm";
+        IntStream.range(0, 10_000).parallel().forEach(i -> {
+            final Date date = new Date(i * 3_600_000L);
+            DateAssertUtils.assertDateByFormat(date, new Date(date.getTime() + 59_999 - date.getTime() % 60_000), format);
+        });
+    }
+
+    @Test
+    public void testAssertNowWithoutVirtualClock() {
+        DateAssertUtils.assertNow(new Date(), Duration.ofMinutes(1));
+        assertThrows(AssertionFailedError.class, () -> DateAssertUtils.assertNow(new Date(0), Duration.ofMinutes(1)));
+    }
+
 }
@@ -0,0 +1,133 @@
+package test.com.github.spartatech.testutils.temporal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import com.github.spartatech.testutils.temporal.EpochAssertUtils;
+
+/**
+ *
+ * Unit tests for Epoch Assert Utils.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *    Oct 19, 2026 - Sparta Team - Asserts without messages, Date asserts with a Dates suffix
+ *
+ */
+public class TestEpochAssertUtils {
+
+    private static final String MESSAGE = "test message";
+    private static final Instant START = Instant.parse("2026-10-19T10:00:00Z");
+
+    @Test
+    public void testAssertMonotonic() {
+        EpochAssertUtils.assertMonotonic(new long[] {1, 1, 2, 5});
+        EpochAssertUtils.assertMonotonic(new long[0]);
+        EpochAssertUtils.assertMonotonic(List.of(START, START, START.plusNanos(1)));
+        EpochAssertUtils.assertMonotonicDates(List.of(new Date(1), new Date(1), new Date(2)));
+
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> EpochAssertUtils.assertMonotonic(new long[] {1, 3, 2, 4, 0}));
+        assertEquals("Values are not monotonic: first at index [2], 2 after 3. Offending positions: 2 of 5", error.getMessage());
+
+        final AssertionFailedError instantError = assertThrows(AssertionFailedError.class,
+                () -> EpochAssertUtils.assertMonotonic(List.of(START, START.minusNanos(1))));
+        assertEquals("Values are not monotonic: first at index [1], 2026-10-19T09:59:59.999999999Z after 2026-10-19T10:00:00Z. "
+                + "Offending positions: 1 of 2", instantError.getMessage());
+
+        assertEquals(MESSAGE, assertThrows(AssertionFailedError.class,
+                () -> EpochAssertUtils.assertMonotonicDates(MESSAGE, List.of(new Date(2), new Date(1)))).getMessage());
+    }
+
+    @Test
+    public void testAssertStrictlyIncreasing() {
+        EpochAssertUtils.assertStrictlyIncreasing(new long[] {1, 2, 5});
+        EpochAssertUtils.assertStrictlyIncreasing(List.of(START, START.plusNanos(1)));
+        EpochAssertUtils.assertStrictlyIncreasingDates(List.of(new Date(1), new Date(2)));
+
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> EpochAssertUtils.assertStrictlyIncreasing(new long[] {1, 2, 2, 3}));
+        assertEquals("Values are not strictly increasing: first at index [2], 2 after 2. Offending positions: 1 of 4", error.getMessage());
+        assertThrows(AssertionFailedError.class, () -> EpochAssertUtils.assertStrictlyIncreasing(List.of(START, START)));
+        assertThrows(AssertionFailedError.class, () -> EpochAssertUtils.assertStrictlyIncreasingDates(List.of(new Date(1), new Date(1))));
+    }
+
+    @Test
+    public void testAssertWithinRange() {
+        EpochAssertUtils.assertWithinRange(new long[] {10, 20, 15}, 10, 20);
+        EpochAssertUtils.assertWithinRange(List.of(START, START.plusSeconds(60)), START, START.plusSeconds(60));
+        EpochAssertUtils.assertWithinRangeDates(List.of(new Date(5)), new Date(5), new Date(5));
+
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> EpochAssertUtils.assertWithinRange(new long[] {10, 9, 21, 15}, 10, 20));
+        assertEquals("Values are not within [10, 20]: first at index [1], 9. Offending positions: 2 of 4", error.getMessage());
+        assertThrows(AssertionFailedError.class,
+                () -> EpochAssertUtils.assertWithinRange(List.of(START.plusSeconds(61)), START, START.plusSeconds(60)));
+        assertThrows(AssertionFailedError.class,
+                () -> EpochAssertUtils.assertWithinRangeDates(List.of(new Date(4)), new Date(5), new Date(6)));
+        assertEquals(MESSAGE, assertThrows(AssertionFailedError.class,
+                () -> EpochAssertUtils.assertWithinRangeDates(MESSAGE, List.of(new Date(7)), new Date(5), new Date(6))).getMessage());
+    }
+
+    @Test
+    public void testAssertMaxGap() {
+        EpochAssertUtils.assertMaxGap(new long[] {0, 10, 5, 15}, 10);
+        EpochAssertUtils.assertMaxGap(List.of(START, START.plusSeconds(1), START.plusSeconds(2)), Duration.ofSeconds(1));
+        EpochAssertUtils.assertMaxGapDates(List.of(new Date(0), new Date(1000)), Duration.ofSeconds(1));
+
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> EpochAssertUtils.assertMaxGap(new long[] {0, 11, 12, 40}, 10));
+        assertEquals("Gap larger than 10: first at index [1], 11 from 0 to 11. Offending positions: 2 of 4, largest gap 28", error.getMessage());
+
+        final AssertionFailedError instantError = assertThrows(AssertionFailedError.class,
+                () -> EpochAssertUtils.assertMaxGap(List.of(START, START.plusMillis(1500)), Duration.ofSeconds(1)));
+        assertEquals("Gap larger than PT1S: first at index [1], PT1.5S from 2026-10-19T10:00:00Z to 2026-10-19T10:00:01.500Z. "
+                + "Offending positions: 1 of 2, largest gap PT1.5S", instantError.getMessage());
+        assertThrows(AssertionFailedError.class,
+                () -> EpochAssertUtils.assertMaxGapDates(List.of(new Date(0), new Date(1001)), Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> EpochAssertUtils.assertMaxGap(new long[] {0}, -1));
+    }
+
+    @Test
+    public void testAssertHistogram() {
+        EpochAssertUtils.assertHistogram(new long[] {0, 9, 10, 25}, 0, 10, new long[] {2, 1, 1});
+        EpochAssertUtils.assertHistogram(List.of(START, START.plusSeconds(59), START.plusSeconds(60)), START, Duration.ofMinutes(1),
+                new long[] {2, 1});
+        EpochAssertUtils.assertHistogramDates(List.of(new Date(0), new Date(999)), new Date(0), Duration.ofSeconds(1), new long[] {2});
+
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> EpochAssertUtils.assertHistogram(new long[] {0, 9, -1, 30}, 0, 10, new long[] {1, 1, 0}));
+        assertEquals("Histogram does not match. Buckets differing: 2 [0] from 0 expected 1 but was 2, [1] from 10 expected 1 but was 0. "
+                + "Values outside all buckets: 2, first at index [2], -1.", error.getMessage());
+        assertEquals("[1, 1, 0]", error.getExpected().getStringRepresentation());
+        assertEquals("[2, 0, 0]", error.getActual().getStringRepresentation());
+
+        assertEquals(MESSAGE, assertThrows(AssertionFailedError.class, () -> EpochAssertUtils.assertHistogramDates(MESSAGE,
+                List.of(new Date(0), new Date(1000)), new Date(0), Duration.ofSeconds(1), new long[] {2})).getMessage());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> EpochAssertUtils.assertHistogram(new long[] {0}, 0, 0, new long[] {1}));
+    }
+
+    @Test
+    public void testLargeSequence() {
+        final long[] epochs = new long[5_000_000];
+        for (int i = 0; i < epochs.length; i++) {
+            epochs[i] = 1_700_000_000_000L + i * 3L;
+        }
+        final long start = System.nanoTime();
+        EpochAssertUtils.assertStrictlyIncreasing(epochs);
+        EpochAssertUtils.assertWithinRange(epochs, epochs[0], epochs[epochs.length - 1]);
+        EpochAssertUtils.assertMaxGap(epochs, 3);
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(10).toNanos());
+    }
+}
@@ -0,0 +1,173 @@
+package test.com.github.spartatech.testutils.temporal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Date;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import com.github.spartatech.testutils.exception.FieldNotFoundException;
+import com.github.spartatech.testutils.temporal.TemporalAssertUtils;
+
+/**
+ *
+ * Unit tests for Temporal Assert Utils.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *
+ */
+public class TestTemporalAssertUtils {
+
+    private static final String MESSAGE = "test message";
+
+    @Test
+    public void testAssertTemporalFieldsMatching() {
+        final LocalDateTime expected = LocalDateTime.of(2026, 10, 19, 10, 30, 15);
+        final LocalDateTime actual = LocalDateTime.of(2026, 10, 19, 22, 1, 2);
+
+        TemporalAssertUtils.assertTemporal(expected, actual, ChronoField.YEAR, ChronoField.MONTH_OF_YEAR, ChronoField.DAY_OF_MONTH);
+        TemporalAssertUtils.assertTemporal(expected, expected);
+        TemporalAssertUtils.assertTemporal(expected.toLocalDate(), actual, ChronoField.DAY_OF_MONTH);
+    }
+
+    @Test
+    public void testAssertTemporalFieldsNotMatching() {
+        final ZonedDateTime expected = ZonedDateTime.of(2026, 10, 19, 10, 30, 15, 0, ZoneOffset.UTC);
+        final ZonedDateTime actual = expected.plusHours(2);
+
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> TemporalAssertUtils.assertTemporal(expected, actual, ChronoField.DAY_OF_MONTH, ChronoField.HOUR_OF_DAY));
+        assertEquals("Field HOUR_OF_DAY mismatch", error.getMessage());
+        assertEquals("10", error.getExpected().getStringRepresentation());
+        assertEquals("12", error.getActual().getStringRepresentation());
+
+        final AssertionFailedError withMessage = assertThrows(AssertionFailedError.class,
+                () -> TemporalAssertUtils.assertTemporal(MESSAGE, expected, actual, ChronoField.HOUR_OF_DAY));
+        assertEquals(MESSAGE, withMessage.getMessage());
+        assertThrows(AssertionFailedError.class, () -> TemporalAssertUtils.assertTemporal(expected, actual));
+    }
+
+    @Test
+    public void testAssertTemporalUnsupportedField() {
+        final LocalDate date = LocalDate.of(2026, 10, 19);
+        assertThrows(FieldNotFoundException.class, () -> TemporalAssertUtils.assertTemporal(date, date, ChronoField.HOUR_OF_DAY));
+        assertThrows(FieldNotFoundException.class, () -> TemporalAssertUtils.assertTemporal(Instant.EPOCH, Instant.EPOCH, ChronoField.YEAR));
+    }
+
+    @Test
+    public void testAssertTemporalInstantAndDateInZone() {
+        final ZoneId zone = ZoneId.of("America/Sao_Paulo");
+        final Instant expected = Instant.parse("2026-10-19T02:00:00Z");
+        final Instant actual = Instant.parse("2026-10-19T05:00:00Z");
+
+        TemporalAssertUtils.assertTemporal(null, expected, expected.plusSeconds(60), zone, ChronoField.HOUR_OF_DAY);
+        assertThrows(AssertionFailedError.class,
+                () -> TemporalAssertUtils.assertTemporal(null, expected, actual, zone, ChronoField.DAY_OF_MONTH));
+        TemporalAssertUtils.assertTemporal(null, expected, actual, ZoneOffset.UTC, ChronoField.DAY_OF_MONTH);
+        TemporalAssertUtils.assertTemporal(null, Date.from(expected), Date.from(actual), ZoneOffset.UTC, ChronoField.DAY_OF_MONTH);
+    }
+
+    @Test
+    public void testAssertTruncated() {
+        final OffsetDateTime expected = OffsetDateTime.of(2026, 10, 19, 10, 30, 15, 100, ZoneOffset.UTC);
+        TemporalAssertUtils.assertTruncated(expected, expected.plusSeconds(20), ChronoUnit.MINUTES);
+        TemporalAssertUtils.assertTruncated(expected.toInstant(), expected.toInstant().plusMillis(10), ChronoUnit.SECONDS);
+        TemporalAssertUtils.assertTruncated(LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 19), ChronoUnit.DAYS);
+        TemporalAssertUtils.assertTruncated(null, Date.from(expected.toInstant()), Date.from(expected.toInstant().plusMillis(10)), ChronoUnit.SECONDS);
+
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> TemporalAssertUtils.assertTruncated(expected, expected.plusSeconds(50), ChronoUnit.MINUTES));
+        assertEquals("Mismatch truncated to MINUTES", error.getMessage());
+        assertEquals("2026-10-19T10:30Z", error.getExpected().getStringRepresentation());
+        assertEquals("2026-10-19T10:31Z", error.getActual().getStringRepresentation());
+
+        assertThrows(UnsupportedTemporalTypeException.class,
+                () -> TemporalAssertUtils.assertTruncated(LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 19), ChronoUnit.MONTHS));
+        assertThrows(UnsupportedTemporalTypeException.class,
+                () -> TemporalAssertUtils.assertTruncated(null, Date.from(expected.toInstant()), Date.from(expected.toInstant()), ChronoUnit.DAYS));
+    }
+
+    @Test
+    public void testAssertTemporalByFormat() {
+        final LocalDateTime expected = LocalDateTime.of(2026, 10, 19, 10, 30, 15);
+        TemporalAssertUtils.assertTemporalByFormat(expected, expected.plusSeconds(30), "yyyy-MM-dd HH:mm");
+        TemporalAssertUtils.assertTemporalByFormat(null, Instant.parse("2026-10-19T10:00:00Z"), Instant.parse("2026-10-19T20:00:00Z"),
+                "yyyy-MM-dd", ZoneOffset.UTC, Locale.US);
+
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> TemporalAssertUtils.assertTemporalByFormat(MESSAGE,
+                Instant.parse("2026-10-19T10:00:00Z"), Instant.parse("2026-10-19T20:00:00Z"), "yyyy-MM-dd", ZoneId.of("Asia/Tokyo"), Locale.US));
+        assertEquals(MESSAGE, error.getMessage());
+        assertEquals("2026-10-19", error.getExpected().getStringRepresentation());
+        assertEquals("2026-10-20", error.getActual().getStringRepresentation());
+    }
+
+    @Test
+    public void testAssertWithin() {
+        final Instant expected = Instant.parse("2026-10-19T10:30:15.100Z");
+        TemporalAssertUtils.assertWithin(expected, expected.plusMillis(900), Duration.ofSeconds(1));
+        TemporalAssertUtils.assertWithin(expected, expected.minusSeconds(1), Duration.ofSeconds(1));
+        TemporalAssertUtils.assertWithin(expected.atOffset(ZoneOffset.UTC), expected.atZone(ZoneId.of("Asia/Tokyo")), Duration.ZERO);
+        TemporalAssertUtils.assertWithin(LocalTime.of(23, 59, 59), LocalTime.of(23, 59, 58, 500_000_000), Duration.ofMillis(500));
+        TemporalAssertUtils.assertWithin(LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 20), Duration.ofDays(1));
+        TemporalAssertUtils.assertWithin(Date.from(expected), Date.from(expected.minusMillis(250)), Duration.ofMillis(250));
+
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> TemporalAssertUtils.assertWithin(expected, expected.minusNanos(1_000_000_001), Duration.ofSeconds(1)));
+        assertEquals("Expected within PT1S but was PT1.000000001S apart", error.getMessage());
+        assertEquals(expected.toString(), error.getExpected().getStringRepresentation());
+
+        final AssertionFailedError dateError = assertThrows(AssertionFailedError.class,
+                () -> TemporalAssertUtils.assertWithin(MESSAGE, new Date(1000), new Date(-1), Duration.ofSeconds(1)));
+        assertEquals(MESSAGE, dateError.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> TemporalAssertUtils.assertWithin(expected, expected, Duration.ofSeconds(-1)));
+        assertThrows(UnsupportedTemporalTypeException.class,
+                () -> TemporalAssertUtils.assertWithin(expected, LocalDateTime.of(2026, 10, 19, 10, 30), Duration.ofDays(1)));
+        assertThrows(UnsupportedTemporalTypeException.class,
+                () -> TemporalAssertUtils.assertWithin(LocalDate.of(2026, 10, 19), LocalDateTime.of(2026, 10, 19, 0, 0), Duration.ofDays(1)));
+    }
+
+    @Test
+    public void testAssertBeforeAfterBetween() {
+        final Instant start = Instant.parse("2026-10-19T10:00:00Z");
+        final Instant end = start.plusNanos(1);
+        TemporalAssertUtils.assertBefore(end, start);
+        TemporalAssertUtils.assertAfter(start, end);
+        TemporalAssertUtils.assertBetween(start, end, start);
+        TemporalAssertUtils.assertBetween(start, end, end.atOffset(ZoneOffset.ofHours(5)));
+        TemporalAssertUtils.assertBefore(Date.from(end.plusMillis(1)), Date.from(start));
+        TemporalAssertUtils.assertAfter(Date.from(start), Date.from(start.plusMillis(1)));
+        TemporalAssertUtils.assertBetween(Date.from(start), Date.from(start), Date.from(start));
+
+        assertThrows(AssertionFailedError.class, () -> TemporalAssertUtils.assertBefore(start, start));
+        assertThrows(AssertionFailedError.class, () -> TemporalAssertUtils.assertAfter(end, end));
+        assertThrows(AssertionFailedError.class, () -> TemporalAssertUtils.assertBefore(Date.from(start), Date.from(start)));
+        assertThrows(AssertionFailedError.class, () -> TemporalAssertUtils.assertAfter(Date.from(start), Date.from(start)));
+        assertThrows(AssertionFailedError.class,
+                () -> TemporalAssertUtils.assertBetween(Date.from(start), Date.from(start), Date.from(start.minusMillis(1))));
+
+        final AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> TemporalAssertUtils.assertBetween(start, end, end.plusNanos(1)));
+        assertEquals("Expected between " + start + " and " + end, error.getMessage());
+        assertEquals("[" + start + ", " + end + "]", error.getExpected().getStringRepresentation());
+        assertEquals(MESSAGE, assertThrows(AssertionFailedError.class,
+                () -> TemporalAssertUtils.assertBetween(MESSAGE, LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 20), LocalDate.of(2026, 10, 18))).getMessage());
+    }
+}
@@ -0,0 +1,129 @@
+package test.com.github.spartatech.testutils.temporal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.opentest4j.AssertionFailedError;
+
+import com.github.spartatech.testutils.temporal.DateAssertUtils;
+import com.github.spartatech.testutils.temporal.VirtualClock;
+import com.github.spartatech.testutils.temporal.VirtualClockExtension;
+import com.github.spartatech.testutils.temporal.VirtualTime;
+
+/**
+ *
+ * Unit tests for VirtualClockExtension and VirtualClock.
+ *
+ * @author Sparta Team
+ *
+ * History:
+ *    Oct 19, 2026 - Sparta Team
+ *    Oct 19, 2026 - Sparta Team - Threads started by the test keep the system clock
+ *
+ */
+@ExtendWith(VirtualClockExtension.class)
+@VirtualTime(start = "2026-10-19T10:00:00Z", zone = "UTC")
+public class TestVirtualClockExtension {
+
+    private static final Instant START = Instant.parse("2026-10-19T10:00:00Z");
+
+    private VirtualClock beforeEachClock;
+
+    @BeforeEach
+    public void setUp(VirtualClock clock) {
+        this.beforeEachClock = clock;
+    }
+
+    @Test
+    public void testSameClockForTheWholeTest(VirtualClock clock, Clock plainClock) {
+        assertSame(beforeEachClock, clock);
+        assertSame(clock, plainClock);
+        assertEquals(START, clock.instant());
+        assertEquals(ZoneId.of("UTC"), clock.getZone());
+    }
+
+    @VirtualTime(start = "2000-01-01T00:00:00Z", zone = "Asia/Tokyo")
+    @Test
+    public void testMethodAnnotationWins(VirtualClock clock) {
+        assertEquals(Instant.parse("2000-01-01T00:00:00Z"), clock.instant());
+        assertEquals(ZoneId.of("Asia/Tokyo"), clock.getZone());
+    }
+
+    @Test
+    public void testAdvanceRunsCallbacksInOrder(VirtualClock clock) {
+        final List<String> calls = new ArrayList<>();
+        clock.schedule(Duration.ofSeconds(30), () -> calls.add("30s at " + clock.instant()));
+        clock.schedule(Duration.ofSeconds(10), () -> {
+            calls.add("10s at " + clock.instant());
+            clock.schedule(Duration.ofSeconds(5), () -> calls.add("15s at " + clock.instant()));
+        });
+        clock.schedule(Duration.ofSeconds(30), () -> calls.add("30s second"));
+        final VirtualClock.Scheduled cancelled = clock.schedule(Duration.ofSeconds(20), () -> calls.add("cancelled"));
+        final VirtualClock.Scheduled late = clock.schedule(Duration.ofHours(1), () -> calls.add("late"));
+
+        assertTrue(cancelled.cancel());
+        clock.advance(Duration.ofMinutes(1));
+
+        assertEquals(List.of("10s at 2026-10-19T10:00:10Z", "15s at 2026-10-19T10:00:15Z", "30s at 2026-10-19T10:00:30Z", "30s second"), calls);
+        assertEquals(START.plusSeconds(60), clock.instant());
+        assertEquals(1, clock.pending());
+        assertFalse(late.isDone());
+        assertTrue(cancelled.isDone());
+        assertFalse(cancelled.cancel());
+
+        clock.advanceTo(START.plus(Duration.ofHours(1)));
+        assertTrue(late.isDone());
+        assertEquals("late", calls.get(calls.size() - 1));
+    }
+
+    @Test
+    public void testZonedClockSharesTimeline(VirtualClock clock) {
+        final VirtualClock tokyo = clock.withZone(ZoneId.of("Asia/Tokyo"));
+        clock.advance(Duration.ofDays(1));
+        assertEquals(clock.instant(), tokyo.instant());
+        assertEquals(ZoneId.of("Asia/Tokyo"), tokyo.getZone());
+    }
+
+    @Test
+    public void testTimeCanNotGoBack(VirtualClock clock) {
+        assertThrows(IllegalArgumentException.class, () -> clock.advance(Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> clock.advanceTo(START.minusNanos(1)));
+        assertThrows(IllegalArgumentException.class, () -> clock.schedule(Duration.ofSeconds(-1), () -> { }));
+    }
+
+    @Test
+    public void testAssertNowUsesVirtualClock(VirtualClock clock) {
+        DateAssertUtils.assertNow(Date.from(START), Duration.ZERO);
+        clock.advance(Duration.ofHours(2));
+        DateAssertUtils.assertNow(Date.from(START.plusSeconds(7200)), Duration.ZERO);
+        assertThrows(AssertionFailedError.class, () -> DateAssertUtils.assertNow(Date.from(START), Duration.ofHours(1)));
+    }
+
+    @Test
+    public void testAssertNowInOtherThreadUsesSystemClock(VirtualClock clock) throws InterruptedException {
+        clock.advance(Duration.ofDays(3650));
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread thread = new Thread(() -> {
+            try {
+                DateAssertUtils.assertNow(new Date(), Duration.ofMinutes(1));
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        thread.start();
+        thread.join();
+        assertNull(failure.get());
+        DateAssertUtils.assertNow(Date.from(START.plus(Duration.ofDays(3650))), Duration.ZERO);
+    }
+}